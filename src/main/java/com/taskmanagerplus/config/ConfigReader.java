@@ -1,29 +1,33 @@
 /**
  * Utility class for reading configuration properties from a file.
- * 
- * <p>This class uses a singleton pattern to ensure that the properties are 
- * loaded only once. The properties are loaded from the file located at 
- * "src/main/resources/config.properties".</p>
- * 
+ *
+ * <p>The properties are loaded once from {@code config.properties} on the classpath, with the
+ * environment variable and system property overrides described in {@link ConfigSnapshot}, into an
+ * immutable snapshot. The snapshot is created on first use through the initialization-on-demand
+ * holder idiom, so every later read is a plain lookup without locking.</p>
+ *
  * <p>Example usage:</p>
  * <pre>
  * {@code
  * String urlPublicHome = ConfigReader.getProperty("urlPublicHome");
+ * URI urlPublicLogin = ConfigReader.getConfig().urlPublicLogin();
  * }
  * </pre>
- * 
- * <p><b>Note:</b> This class is thread-safe and ensures that the properties 
- * are loaded only once, even in a multi-threaded environment.</p>
- * 
+ *
+ * <p><b>Note:</b> A missing file or a malformed setting is reported by every call with an
+ * {@link IllegalStateException} carrying the cause. The test run reads the configuration while
+ * its tests are discovered, through {@code ConfigCheck}, and fails at startup without running any
+ * test if it is invalid.</p>
+ *
  * Author: Maicon Fang
  * Date: 2024-07-09
  * Version: 1.0
- * 
+ *
  */
 package com.taskmanagerplus.config;
 
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Properties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,30 +35,67 @@ import org.slf4j.LoggerFactory;
 public class ConfigReader {
 
     private static final Logger logger = LoggerFactory.getLogger(ConfigReader.class);
-    private static Properties properties;
+
+    private static final String CONFIG_FILE = "config.properties";
+
+    private ConfigReader() {
+        // private constructor to prevent instantiation
+    }
 
     /**
      * Gets the value of the specified property key.
-     * 
-     * <p>If the properties have not been loaded yet, this method will load them 
-     * from the file. Subsequent calls will return the cached property values.</p>
-     * 
+     *
      * @param key the property key
      * @return the value of the specified property key, or {@code null} if the key is not found
+     * @throws IllegalStateException if the configuration cannot be loaded
      */
     public static String getProperty(String key) {
-        if (properties == null) {
-            synchronized (ConfigReader.class) {
-                if (properties == null) {
-                    try (FileInputStream fis = new FileInputStream("src/main/resources/config.properties")) {
-                        properties = new Properties();
-                        properties.load(fis);
-                    } catch (IOException e) {
-                        logger.error("Failed to load configuration properties", e);
-                    }
-                }
+        return getConfig().get(key);
+    }
+
+    /**
+     * Gets the typed snapshot of the configuration.
+     *
+     * @return the configuration
+     * @throws IllegalStateException if the configuration cannot be loaded
+     */
+    public static ConfigSnapshot getConfig() {
+        if (Holder.FAILURE != null) {
+            throw new IllegalStateException("Invalid configuration in " + CONFIG_FILE + ": " + Holder.FAILURE.getMessage(), Holder.FAILURE);
+        }
+        return Holder.CONFIG;
+    }
+
+    private static ConfigSnapshot load() throws IOException {
+        Properties file = new Properties();
+        try (InputStream input = ConfigReader.class.getClassLoader().getResourceAsStream(CONFIG_FILE)) {
+            if (input == null) {
+                throw new IOException(CONFIG_FILE + " not found on the classpath");
+            }
+            file.load(input);
+        }
+        return ConfigSnapshot.load(file, System.getenv(), System.getProperties());
+    }
+
+    /**
+     * Loads the configuration when it is first requested; class initialization makes it visible to every thread.
+     */
+    private static final class Holder {
+
+        private static final ConfigSnapshot CONFIG;
+        private static final Exception FAILURE;
+
+        static {
+            ConfigSnapshot config = null;
+            Exception failure = null;
+            try {
+                config = load();
+            } catch (IOException | RuntimeException e) {
+                logger.error("Failed to load configuration properties", e);
+                failure = e;
             }
+            CONFIG = config;
+            FAILURE = failure;
         }
-        return properties.getProperty(key);
     }
 }
@@ -0,0 +1,114 @@
+package com.taskmanagerplus.config;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Immutable, validated copy of the configuration of the Task Manager Plus application.
+ *
+ * <p>A snapshot is built from {@code config.properties} with two layers of overrides: an
+ * environment variable named after the key in upper snake case ({@code urlPublicHome} is
+ * overridden by {@code URL_PUBLIC_HOME}), and above it a system property with the key itself
+ * ({@code -DurlPublicHome=...}). Only keys present in the file can be overridden. The settings
+ * the framework depends on are exposed as typed components and validated when the snapshot is
+ * built, so malformed configuration fails before the first test instead of in the middle of one.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * ConfigSnapshot config = ConfigReader.getConfig();
+ * driver.get(config.urlPublicLogin().toString());
+ * }
+ * </pre>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ *
+ * @param chromeDriverPath the path of the ChromeDriver executable
+ * @param urlPublicHome the public home page of the application
+ * @param urlPublicLogin the login page of the application
+ * @param urlApplicationHome the page shown after login
+ * @param urlApplicationTask the task page of the application
+ * @param properties every setting, after overrides, by key
+ */
+public record ConfigSnapshot(String chromeDriverPath, URI urlPublicHome, URI urlPublicLogin, URI urlApplicationHome,
+        URI urlApplicationTask, Map<String, String> properties) {
+
+    public ConfigSnapshot {
+        if (chromeDriverPath == null || chromeDriverPath.isBlank()) {
+            throw new IllegalArgumentException("chromeDriverPath must not be blank");
+        }
+        requireHttpUrl("urlPublicHome", urlPublicHome);
+        requireHttpUrl("urlPublicLogin", urlPublicLogin);
+        requireHttpUrl("urlApplicationHome", urlApplicationHome);
+        requireHttpUrl("urlApplicationTask", urlApplicationTask);
+        properties = Map.copyOf(properties);
+    }
+
+    /**
+     * Builds a snapshot from the properties of the configuration file and the overrides.
+     *
+     * @param file the properties read from {@code config.properties}
+     * @param environment the environment variables
+     * @param system the system properties
+     * @return the snapshot
+     * @throws IllegalArgumentException if a setting is missing or malformed
+     */
+    public static ConfigSnapshot load(Properties file, Map<String, String> environment, Properties system) {
+        Map<String, String> properties = new TreeMap<>();
+        for (String key : file.stringPropertyNames()) {
+            String value = system.getProperty(key, environment.getOrDefault(environmentName(key), file.getProperty(key)));
+            properties.put(key, value.trim());
+        }
+        return new ConfigSnapshot(
+                properties.get("chromeDriverPath"),
+                uri(properties, "urlPublicHome"),
+                uri(properties, "urlPublicLogin"),
+                uri(properties, "urlApplicationHome"),
+                uri(properties, "urlApplicationTask"),
+                properties);
+    }
+
+    /**
+     * Gets the environment variable overriding a key.
+     *
+     * @param key the key in {@code config.properties}
+     * @return the key in upper snake case
+     */
+    public static String environmentName(String key) {
+        return key.replaceAll("([a-z0-9])([A-Z])", "$1_$2").replaceAll("[^A-Za-z0-9]", "_").toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Gets a setting by key.
+     *
+     * @param key the key in {@code config.properties}
+     * @return the value after overrides, or {@code null} if the key is not configured
+     */
+    public String get(String key) {
+        return properties.get(key);
+    }
+
+    private static URI uri(Map<String, String> properties, String key) {
+        String value = properties.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException(key + " is not configured");
+        }
+        try {
+            return new URI(value);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException(key + " is not a valid URL: " + value, e);
+        }
+    }
+
+    private static void requireHttpUrl(String key, URI url) {
+        if (url == null || url.getHost() == null || !("http".equals(url.getScheme()) || "https".equals(url.getScheme()))) {
+            throw new IllegalArgumentException(key + " must be an absolute http(s) URL: " + url);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.taskmanagerplus.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Service that creates the fixture data of upcoming tests ahead of time in the Task Manager Plus application.
+ *
+ * <p>Before the tests run, the scheduled tests that declare {@link ProvisionedFixtures} are passed to
+ * {@link #schedule(Class)} in execution order. A producer running on a virtual thread inserts their
+ * fixture sets in that order, each under a unique namespace, while earlier tests are still running.
+ * A test then takes a ready set with {@link #take(Class)} instead of inserting its rows on the
+ * critical path. When nothing was scheduled for a template, the set is created on the caller thread.</p>
+ *
+ * <p>The producer stays at most {@code fixtures.lookahead} sets (system property, default 2) ahead of
+ * the tests that have started, which keeps the number of foreign rows visible to unscoped searches small.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * FixtureSet fixtures = FixtureProvisioner.take(TaskSearchTest.Fixtures.class);
+ * taskSearchPage.enterTitle(fixtures.get("A").title());
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> The rows of a set are tracked in the {@link TestDataRegistry} of the test that takes
+ * it, so the usual teardown cleanup removes them. Sets that no test took are removed by {@link #shutdown()}.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class FixtureProvisioner {
+
+    private static final Logger logger = LoggerFactory.getLogger(FixtureProvisioner.class);
+
+    private static final long TAKE_TIMEOUT_SECONDS = 30;
+
+    private static final Map<Class<? extends FixtureTemplate>, Queue<CompletableFuture<FixtureSet>>> scheduled = new ConcurrentHashMap<>();
+    private static final Set<FixtureSet> unclaimed = ConcurrentHashMap.newKeySet();
+    private static final Semaphore lookahead = new Semaphore(Integer.getInteger("fixtures.lookahead", 2));
+
+    private static ExecutorService producer;
+
+    private FixtureProvisioner() {
+        // private constructor to prevent instantiation
+    }
+
+    /**
+     * Schedules the creation of one fixture set for an upcoming test.
+     *
+     * @param templateClass the fixture template of the test
+     */
+    public static synchronized void schedule(Class<? extends FixtureTemplate> templateClass) {
+        if (producer == null) {
+            producer = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("fixture-provisioner").factory());
+        }
+        CompletableFuture<FixtureSet> future = new CompletableFuture<>();
+        scheduled.computeIfAbsent(templateClass, key -> new ConcurrentLinkedQueue<>()).add(future);
+        producer.execute(() -> {
+            try {
+                lookahead.acquire();
+                FixtureSet fixtureSet = provision(templateClass);
+                unclaimed.add(fixtureSet);
+                future.complete(fixtureSet);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(false);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * Signals that a scheduled test has started, allowing the producer to create one more set ahead.
+     */
+    public static void testStarted() {
+        lookahead.release();
+    }
+
+    /**
+     * Takes the next fixture set of the given template and tracks its rows for the current test.
+     *
+     * <p>Waits for the pre-provisioned set if one was scheduled, and creates the set on the caller
+     * thread otherwise, or if pre-provisioning failed.</p>
+     *
+     * @param templateClass the fixture template
+     * @return a fixture set whose rows are in the database
+     */
+    public static FixtureSet take(Class<? extends FixtureTemplate> templateClass) {
+        FixtureSet fixtureSet = null;
+        Queue<CompletableFuture<FixtureSet>> queue = scheduled.get(templateClass);
+        CompletableFuture<FixtureSet> future = queue == null ? null : queue.poll();
+        if (future != null) {
+            try {
+                fixtureSet = future.get(TAKE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                unclaimed.remove(fixtureSet);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for fixtures of " + templateClass.getSimpleName(), e);
+            } catch (Exception e) {
+                logger.warn("Pre-provisioning of {} failed, creating the fixtures now", templateClass.getSimpleName(), e);
+            }
+        }
+        if (fixtureSet == null) {
+            fixtureSet = provision(templateClass);
+        }
+        TestDataRegistry registry = TestDataRegistry.current();
+        fixtureSet.getTaskIds().forEach(registry::trackTaskId);
+        return fixtureSet;
+    }
+
+    /**
+     * Stops the producer and removes the sets that no test took.
+     */
+    public static synchronized void shutdown() {
+        if (producer != null) {
+            producer.shutdownNow();
+            try {
+                producer.awaitTermination(TAKE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            producer = null;
+        }
+        scheduled.clear();
+
+        TestDataRegistry leftovers = new TestDataRegistry();
+        for (FixtureSet fixtureSet : new ArrayList<>(unclaimed)) {
+            fixtureSet.getTaskIds().forEach(leftovers::trackTaskId);
+            unclaimed.remove(fixtureSet);
+        }
+        JdbcTemplateSingleton.cleanupTestData(leftovers);
+    }
+
+    private static FixtureSet provision(Class<? extends FixtureTemplate> templateClass) {
+        FixtureTemplate template = instantiate(templateClass);
+        String token = UUID.randomUUID().toString().substring(0, 8);
+        String namespace = template.getNamespacePrefix() + " " + token;
+
+        List<TaskFixture> fixtures = template.create(token);
+        List<Long> taskIds = new ArrayList<>();
+        try {
+            for (TaskFixture fixture : fixtures) {
+                if (!fixture.title().startsWith(namespace)) {
+                    throw new IllegalStateException("Fixture title '" + fixture.title() + "' is outside of namespace '" + namespace + "'");
+                }
+                long id = JdbcTemplateSingleton.insertTaskRow(fixture.title(), fixture.description(), fixture.dueDate(), fixture.completed());
+                if (id < 0) {
+                    throw new IllegalStateException("Failed to insert fixture " + fixture.key() + " of " + templateClass.getSimpleName());
+                }
+                taskIds.add(id);
+            }
+        } catch (RuntimeException e) {
+            // Do not leave a partially inserted set behind
+            TestDataRegistry partial = new TestDataRegistry();
+            taskIds.forEach(partial::trackTaskId);
+            JdbcTemplateSingleton.cleanupTestData(partial);
+            throw e;
+        }
+        logger.info("Provisioned {} fixture rows of {} in namespace '{}'", taskIds.size(), templateClass.getSimpleName(), namespace);
+        return new FixtureSet(namespace, fixtures, taskIds);
+    }
+
+    private static FixtureTemplate instantiate(Class<? extends FixtureTemplate> templateClass) {
+        try {
+            return templateClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Fixture template " + templateClass.getName() + " needs a public no-argument constructor", e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.taskmanagerplus.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A set of task rows already inserted for one test, created from a {@link FixtureTemplate}.
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * FixtureSet fixtures = FixtureProvisioner.take(TaskSearchTest.Fixtures.class);
+ * taskSearchPage.enterTitle(fixtures.get("A").title());
+ * }
+ * </pre>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public final class FixtureSet {
+
+    private final String namespace;
+    private final Map<String, TaskFixture> fixtures;
+    private final List<Long> taskIds;
+
+    FixtureSet(String namespace, List<TaskFixture> fixtures, List<Long> taskIds) {
+        this.namespace = namespace;
+        this.fixtures = new LinkedHashMap<>();
+        for (TaskFixture fixture : fixtures) {
+            this.fixtures.put(fixture.key(), fixture);
+        }
+        this.taskIds = List.copyOf(taskIds);
+    }
+
+    /**
+     * Gets the namespace of the set; every title in the set starts with it.
+     *
+     * @return the namespace of the set
+     */
+    public String getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * Gets the row with the given key.
+     *
+     * @param key the key of the row
+     * @return the row with the given key
+     * @throws IllegalArgumentException if the set has no row with the given key
+     */
+    public TaskFixture get(String key) {
+        TaskFixture fixture = fixtures.get(key);
+        if (fixture == null) {
+            throw new IllegalArgumentException("Fixture not found: " + key);
+        }
+        return fixture;
+    }
+
+    /**
+     * Gets the generated keys of the inserted rows.
+     *
+     * @return the generated keys of the inserted rows
+     */
+    public List<Long> getTaskIds() {
+        return taskIds;
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskmanagerplus.config;
+
+import java.util.List;
+
+/**
+ * Describes the task rows a test needs, so that {@link FixtureProvisioner} can create them ahead of time.
+ *
+ * <p>Every fixture set gets a unique token. The template builds its rows from that token so that
+ * the titles and descriptions of one set never match the searches of a test that uses another set.
+ * Implementations must be public and have a public no-argument constructor.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * public static class Fixtures implements FixtureTemplate {
+ *     public String getNamespacePrefix() {
+ *         return "Test Task";
+ *     }
+ *
+ *     public List<TaskFixture> create(String token) {
+ *         return List.of(new TaskFixture("A", "Test Task " + token + " A", "Test Description " + token + " A", "2024-07-15", false));
+ *     }
+ * }
+ * }
+ * </pre>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public interface FixtureTemplate {
+
+    /**
+     * Gets the prefix of the namespace; the namespace of a set is this prefix followed by its token.
+     *
+     * @return the namespace prefix
+     */
+    String getNamespacePrefix();
+
+    /**
+     * Builds the rows of one fixture set. Every title must start with the namespace of the set.
+     *
+     * @param token the unique token of the set
+     * @return the rows to insert, in insertion order
+     */
+    List<TaskFixture> create(String token);
+}
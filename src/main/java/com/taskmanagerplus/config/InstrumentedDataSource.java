@@ -0,0 +1,180 @@
+package com.taskmanagerplus.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DataSource decorator that feeds {@link JdbcMetrics} in the Task Manager Plus application.
+ *
+ * <p>Every connection handed out is timed as a connection acquisition. Statements created from it
+ * are wrapped so that each execution is timed under its SQL, with the update count as the number
+ * of rows written; result sets are wrapped to count the rows read.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * JdbcTemplate jdbcTemplate = new JdbcTemplate(new InstrumentedDataSource(dataSource));
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> The JdbcTemplate itself is left untouched; instrumenting the JDBC layer below it
+ * also covers the statements JdbcTemplate executes internally.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    public InstrumentedDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection();
+        JdbcMetrics.recordConnectionAcquisition(System.nanoTime() - start);
+        return wrap(Connection.class, connection, new ConnectionHandler(connection));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection(username, password);
+        JdbcMetrics.recordConnectionAcquisition(System.nanoTime() - start);
+        return wrap(Connection.class, connection, new ConnectionHandler(connection));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T wrap(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection connection;
+
+        ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = InstrumentedDataSource.invoke(connection, method, args);
+            String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+            if (result instanceof CallableStatement) {
+                return wrap(CallableStatement.class, (CallableStatement) result, new StatementHandler((Statement) result, sql));
+            }
+            if (result instanceof PreparedStatement) {
+                return wrap(PreparedStatement.class, (PreparedStatement) result, new StatementHandler((Statement) result, sql));
+            }
+            if (result instanceof Statement) {
+                return wrap(Statement.class, (Statement) result, new StatementHandler((Statement) result, null));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private final String preparedSql;
+        private String lastSql;
+
+        StatementHandler(Statement statement, String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ("addBatch".equals(name) && args != null && args.length == 1 && args[0] instanceof String) {
+                lastSql = (String) args[0];
+            }
+            if (!EXECUTE_METHODS.contains(name)) {
+                return InstrumentedDataSource.invoke(statement, method, args);
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : preparedSql != null ? preparedSql : lastSql;
+            long start = System.nanoTime();
+            Object result = InstrumentedDataSource.invoke(statement, method, args);
+            long elapsed = System.nanoTime() - start;
+            if (sql == null) {
+                return result;
+            }
+
+            JdbcMetrics.recordStatement(sql, elapsed, rowsWritten(result));
+            if (result instanceof ResultSet) {
+                return wrap(ResultSet.class, (ResultSet) result, new ResultSetHandler((ResultSet) result, sql));
+            }
+            return result;
+        }
+
+        private static long rowsWritten(Object result) {
+            if (result instanceof Integer || result instanceof Long) {
+                return Math.max(0, ((Number) result).longValue());
+            }
+            long rows = 0;
+            if (result instanceof int[]) {
+                for (int count : (int[]) result) {
+                    rows += Math.max(0, count);
+                }
+            } else if (result instanceof long[]) {
+                for (long count : (long[]) result) {
+                    rows += Math.max(0, count);
+                }
+            }
+            return rows;
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet resultSet;
+        private final String sql;
+        private long rows;
+
+        ResultSetHandler(ResultSet resultSet, String sql) {
+            this.resultSet = resultSet;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = InstrumentedDataSource.invoke(resultSet, method, args);
+            String name = method.getName();
+            if ("next".equals(name) && Boolean.TRUE.equals(result)) {
+                rows++;
+            } else if ("close".equals(name) && rows > 0) {
+                JdbcMetrics.recordRows(sql, rows);
+                rows = 0;
+            }
+            return result;
+        }
+    }
+}
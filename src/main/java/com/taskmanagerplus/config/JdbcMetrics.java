@@ -0,0 +1,281 @@
+package com.taskmanagerplus.config;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Collects the database statistics of the test run in the Task Manager Plus application.
+ *
+ * <p>Statements are grouped by their SQL shape: literals are replaced by {@code ?}, and
+ * {@code IN} lists and multi-row {@code VALUES} lists are collapsed, so that the same statement
+ * with different arguments is counted once. For every shape the latency is recorded in an HDR
+ * histogram, along with the number of executions and the number of rows read or written. The time
+ * spent acquiring connections and the UI-to-DB propagation time measured by
+ * {@link TaskPersistenceVerifier} are recorded in histograms of their own.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * String[][] table = JdbcMetrics.getSummaryTable();
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> The statistics are fed by {@link InstrumentedDataSource}, which backs the
+ * JdbcTemplate returned by {@link JdbcTemplateSingleton}.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class JdbcMetrics {
+
+    /** Shape under which connection acquisitions are reported. */
+    public static final String CONNECTION_ACQUISITION = "<connection acquisition>";
+
+    /** Shape under which the propagation of UI-triggered writes to the database is reported. */
+    public static final String UI_TO_DB_PROPAGATION = "<UI-to-DB propagation>";
+
+    private static final int MAX_CACHED_SHAPES = 10_000;
+
+    // Possessive quantifiers keep long literals from recursing once per character
+    private static final Pattern STRING_LITERAL = Pattern.compile("'[^']*+(?:''[^']*+)*+'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final Map<String, StatementStats> statements = new ConcurrentHashMap<>();
+    private static final Map<String, String> shapes = new ConcurrentHashMap<>();
+    private static final StatementStats connections = new StatementStats(CONNECTION_ACQUISITION);
+    private static final StatementStats propagations = new StatementStats(UI_TO_DB_PROPAGATION);
+
+    private JdbcMetrics() {
+        // private constructor to prevent instantiation
+    }
+
+    /**
+     * Records the execution of a statement.
+     *
+     * @param sql the SQL of the statement
+     * @param nanos the execution time in nanoseconds
+     * @param rows the number of rows written, or 0 for queries
+     */
+    public static void recordStatement(String sql, long nanos, long rows) {
+        StatementStats stats = getStats(sql);
+        stats.record(nanos);
+        stats.rows.add(rows);
+    }
+
+    /**
+     * Records rows read from the result of a statement.
+     *
+     * @param sql the SQL of the statement
+     * @param rows the number of rows read
+     */
+    public static void recordRows(String sql, long rows) {
+        getStats(sql).rows.add(rows);
+    }
+
+    /**
+     * Records the acquisition of a connection.
+     *
+     * @param nanos the acquisition time in nanoseconds
+     */
+    public static void recordConnectionAcquisition(long nanos) {
+        connections.record(nanos);
+    }
+
+    /**
+     * Records the time between a write triggered through the UI and its row state becoming
+     * visible in the database.
+     *
+     * @param nanos the propagation time in nanoseconds
+     */
+    public static void recordPropagation(long nanos) {
+        propagations.record(nanos);
+    }
+
+    /**
+     * Checks if anything has been recorded.
+     *
+     * @return true if nothing has been recorded, false otherwise
+     */
+    public static boolean isEmpty() {
+        return statements.isEmpty() && connections.executions.sum() == 0 && propagations.executions.sum() == 0;
+    }
+
+    /**
+     * Builds the summary table, with a header row and one row per SQL shape sorted by total time.
+     *
+     * @return the summary table
+     */
+    public static String[][] getSummaryTable() {
+        List<StatementStats> all = new ArrayList<>(statements.values());
+        all.sort(Comparator.comparingLong(StatementStats::totalMicros).reversed());
+        if (propagations.executions.sum() > 0) {
+            all.add(0, propagations);
+        }
+        if (connections.executions.sum() > 0) {
+            all.add(0, connections);
+        }
+
+        String[][] table = new String[all.size() + 1][];
+        table[0] = new String[] {"Statement", "Count", "Rows", "Total ms", "Mean ms", "p50 ms", "p95 ms", "p99 ms", "Max ms"};
+        for (int i = 0; i < all.size(); i++) {
+            table[i + 1] = all.get(i).toRow();
+        }
+        return table;
+    }
+
+    /**
+     * Clears all recorded statistics and the cache of statement shapes.
+     */
+    public static void reset() {
+        statements.clear();
+        shapes.clear();
+        connections.reset();
+        propagations.reset();
+    }
+
+    /**
+     * Normalizes a SQL statement to its shape.
+     *
+     * @param sql the SQL of the statement
+     * @return the shape of the statement
+     */
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMERIC_LITERAL.matcher(shape).replaceAll("?");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        shape = collapseLists(shape, " IN (", true);
+        return collapseLists(shape, " VALUES (", false);
+    }
+
+    /**
+     * Collapses the lists following every occurrence of the given keyword. Lists can hold thousands
+     * of entries, so they are scanned by hand rather than with a repeating regex group.
+     *
+     * @param shape the whitespace-normalized statement
+     * @param keyword the keyword followed by the opening parenthesis of the list, in upper case
+     * @param placeholders true for a single list of placeholders, false for a list of tuples
+     * @return the statement with the lists collapsed
+     */
+    private static String collapseLists(String shape, String keyword, boolean placeholders) {
+        String upper = shape.toUpperCase(Locale.ROOT);
+        StringBuilder result = new StringBuilder(shape.length());
+        int position = 0;
+        int start;
+        while ((start = upper.indexOf(keyword, position)) >= 0) {
+            int open = start + keyword.length() - 1;
+            int close = closingParenthesis(shape, open);
+            if (close < 0) {
+                break;
+            }
+            result.append(shape, position, open);
+            if (placeholders) {
+                String entries = shape.substring(open + 1, close);
+                boolean onlyPlaceholders = entries.replace("?", "").replace(",", "").isBlank();
+                result.append(onlyPlaceholders && entries.indexOf(',') >= 0 ? "(?...)" : shape.substring(open, close + 1));
+                position = close + 1;
+            } else {
+                result.append(shape, open, close + 1);
+                position = close + 1;
+                boolean more = false;
+                while (shape.startsWith(", (", position)) {
+                    int next = closingParenthesis(shape, position + 2);
+                    if (next < 0) {
+                        break;
+                    }
+                    position = next + 1;
+                    more = true;
+                }
+                if (more) {
+                    result.append(", ...");
+                }
+            }
+        }
+        return result.append(shape, position, shape.length()).toString();
+    }
+
+    private static int closingParenthesis(String shape, int open) {
+        int depth = 0;
+        for (int i = open; i < shape.length(); i++) {
+            char c = shape.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static StatementStats getStats(String sql) {
+        // The shape of a given SQL string is computed only once, up to a bounded number of strings
+        String shape = shapes.get(sql);
+        if (shape == null) {
+            shape = shapeOf(sql);
+            if (shapes.size() < MAX_CACHED_SHAPES) {
+                shapes.put(sql, shape);
+            }
+        }
+        return statements.computeIfAbsent(shape, StatementStats::new);
+    }
+
+    private static final class StatementStats {
+
+        private final String shape;
+        private final Histogram latencyMicros = new ConcurrentHistogram(3);
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        StatementStats(String shape) {
+            this.shape = shape;
+        }
+
+        void record(long nanos) {
+            latencyMicros.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)));
+            totalNanos.add(nanos);
+            executions.increment();
+        }
+
+        long totalMicros() {
+            return TimeUnit.NANOSECONDS.toMicros(totalNanos.sum());
+        }
+
+        void reset() {
+            latencyMicros.reset();
+            executions.reset();
+            rows.reset();
+            totalNanos.reset();
+        }
+
+        String[] toRow() {
+            Histogram snapshot = latencyMicros.copy();
+            return new String[] {
+                    shape,
+                    String.valueOf(executions.sum()),
+                    String.valueOf(rows.sum()),
+                    millis(totalMicros()),
+                    millis(snapshot.getMean()),
+                    millis(snapshot.getValueAtPercentile(50)),
+                    millis(snapshot.getValueAtPercentile(95)),
+                    millis(snapshot.getValueAtPercentile(99)),
+                    millis(snapshot.getMaxValue())
+            };
+        }
+
+        private static String millis(double micros) {
+            return String.format(Locale.ROOT, "%.2f", micros / 1000.0);
+        }
+    }
+}
@@ -1,13 +1,22 @@
 package com.taskmanagerplus.config;
 
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Properties;
+import java.util.Set;
 
 /**
  * Singleton class for managing the JdbcTemplate instance in the Task Manager Plus application.
@@ -15,6 +24,26 @@ import java.util.Properties;
  * <p>This class provides methods to initialize and access the JdbcTemplate for database operations,
  * as well as utility methods for inserting and cleaning up test data.</p>
  * 
+ * <p>Every task row inserted through {@link #insertTaskData} is tracked by its generated key in the
+ * {@link TestDataRegistry} of the current test, and rows created through the UI can be tracked by
+ * title with {@link #registerTaskTitle}. {@link #cleanupTrackedTestData()} then removes exactly
+ * those rows with a single delete by primary key.</p>
+ * 
+ * <p>The database is chosen by the {@code test.db.profile} property, read from the system properties
+ * first and from {@code application-test.properties} otherwise. The default {@code mysql} profile
+ * connects to the {@code spring.datasource.*} settings, while the {@code embedded} profile boots an
+ * in-process H2 database in MySQL compatibility mode from the {@code embedded.datasource.*} settings
+ * and creates the {@code task} schema from the configured script, so the DB-layer tests run without
+ * any external service:</p>
+ * <pre>
+ * {@code
+ * mvn test -Dtest.db.profile=embedded -Dtest=JdbcTemplateSingletonTest
+ * }
+ * </pre>
+ * 
+ * <p>The returned JdbcTemplate runs on an {@link InstrumentedDataSource}, so every statement it
+ * executes is recorded in {@link JdbcMetrics}.</p>
+ * 
  * Author: Maicon Fang
  * Date: 2024-07-15
  * Version: 1.0
@@ -22,7 +51,14 @@ import java.util.Properties;
 
 public class JdbcTemplateSingleton {
 
-    private static JdbcTemplate jdbcTemplate;
+    private static final String INSERT_TASK_SQL = "INSERT INTO task (title, description, due_date, completed) VALUES (?, ?, ?, ?)";
+
+    /** Property selecting the database profile. */
+    public static final String DB_PROFILE_PROPERTY = "test.db.profile";
+    public static final String MYSQL_PROFILE = "mysql";
+    public static final String EMBEDDED_PROFILE = "embedded";
+
+    private static volatile JdbcTemplate jdbcTemplate;
     private static final Logger logger = LoggerFactory.getLogger(JdbcTemplateSingleton.class);
 
     private JdbcTemplateSingleton() {
@@ -33,19 +69,52 @@ public class JdbcTemplateSingleton {
         if (jdbcTemplate == null) {
             synchronized (JdbcTemplateSingleton.class) {
                 if (jdbcTemplate == null) {
-                    DriverManagerDataSource dataSource = new DriverManagerDataSource();
                     Properties properties = loadProperties();
-                    dataSource.setUrl(properties.getProperty("spring.datasource.url"));
-                    dataSource.setUsername(properties.getProperty("spring.datasource.username"));
-                    dataSource.setPassword(properties.getProperty("spring.datasource.password"));
-                    dataSource.setDriverClassName(properties.getProperty("spring.datasource.driver-class-name"));
-                    jdbcTemplate = new JdbcTemplate(dataSource);
+                    String profile = getProfile(properties);
+                    String prefix = EMBEDDED_PROFILE.equals(profile) ? "embedded.datasource." : "spring.datasource.";
+
+                    DriverManagerDataSource dataSource = new DriverManagerDataSource();
+                    dataSource.setUrl(properties.getProperty(prefix + "url"));
+                    dataSource.setUsername(properties.getProperty(prefix + "username"));
+                    dataSource.setPassword(properties.getProperty(prefix + "password"));
+                    dataSource.setDriverClassName(properties.getProperty(prefix + "driver-class-name"));
+                    if (EMBEDDED_PROFILE.equals(profile)) {
+                        createEmbeddedSchema(dataSource, properties.getProperty(prefix + "schema"));
+                    }
+                    logger.info("Using the '{}' database profile", profile);
+                    jdbcTemplate = new JdbcTemplate(new InstrumentedDataSource(dataSource));
                 }
             }
         }
         return jdbcTemplate;
     }
 
+    /**
+     * Gets the active database profile, {@link #MYSQL_PROFILE} or {@link #EMBEDDED_PROFILE}.
+     * 
+     * @return the active database profile
+     */
+    public static String getProfile() {
+        return getProfile(loadProperties());
+    }
+
+    private static String getProfile(Properties properties) {
+        String profile = System.getProperty(DB_PROFILE_PROPERTY, properties.getProperty(DB_PROFILE_PROPERTY, MYSQL_PROFILE)).trim().toLowerCase();
+        if (!MYSQL_PROFILE.equals(profile) && !EMBEDDED_PROFILE.equals(profile)) {
+            throw new IllegalStateException("Unknown database profile '" + profile + "', expected '" + MYSQL_PROFILE + "' or '" + EMBEDDED_PROFILE + "'");
+        }
+        return profile;
+    }
+
+    private static void createEmbeddedSchema(DriverManagerDataSource dataSource, String schemaLocation) {
+        if (schemaLocation == null) {
+            logger.error("No schema script configured for the embedded database profile");
+            return;
+        }
+        new ResourceDatabasePopulator(new ClassPathResource(schemaLocation)).execute(dataSource);
+        logger.info("Created the embedded database schema from {}", schemaLocation);
+    }
+
     private static Properties loadProperties() {
         Properties properties = new Properties();
         try (InputStream input = JdbcTemplateSingleton.class.getClassLoader().getResourceAsStream("application-test.properties")) {
@@ -60,20 +129,121 @@ public class JdbcTemplateSingleton {
         return properties;
     }
 
-    public static void insertTaskData(String title, String description, String dueDate, boolean completed) {
+    /**
+     * Inserts a task row and tracks its generated key in the registry of the current test.
+     * 
+     * @param title the title of the task
+     * @param description the description of the task
+     * @param dueDate the due date of the task, formatted as yyyy-MM-dd
+     * @param completed the completed status of the task
+     * @return the generated key of the inserted row, or -1 if the insert failed
+     */
+    public static long insertTaskData(String title, String description, String dueDate, boolean completed) {
+        long id = insertTaskRow(title, description, dueDate, completed);
+        if (id >= 0) {
+            TestDataRegistry.current().trackTaskId(id);
+        }
+        return id;
+    }
+
+    /**
+     * Inserts a task row without tracking it in the registry of the current test.
+     * 
+     * <p>Callers are responsible for tracking the returned key themselves.</p>
+     * 
+     * @param title the title of the task
+     * @param description the description of the task
+     * @param dueDate the due date of the task, formatted as yyyy-MM-dd
+     * @param completed the completed status of the task
+     * @return the generated key of the inserted row, or -1 if the insert failed
+     */
+    public static long insertTaskRow(String title, String description, String dueDate, boolean completed) {
         
         // Get the singleton instance of JdbcTemplate
         jdbcTemplate = getInstance();
     	
     	try {
-            String sql = "INSERT INTO task (title, description, due_date, completed) VALUES (?, ?, ?, ?)";
-            jdbcTemplate.update(sql, title, description, dueDate, completed ? 1 : 0);
-            logger.info("Inserted task data: title={}, description={}, dueDate={}, completed={}", title, description, dueDate, completed);
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(INSERT_TASK_SQL, new String[] {"id"});
+                ps.setString(1, title);
+                ps.setString(2, description);
+                ps.setString(3, dueDate);
+                ps.setInt(4, completed ? 1 : 0);
+                return ps;
+            }, keyHolder);
+            long id = keyHolder.getKey().longValue();
+            logger.info("Inserted task data: id={}, title={}, description={}, dueDate={}, completed={}", id, title, description, dueDate, completed);
+            return id;
         } catch (Exception e) {
             logger.error("Error inserting task data", e);
+            return -1;
         }
     }
 
+    /**
+     * Registers the exact title of a task that the current test creates through the UI, so that
+     * the row is removed by {@link #cleanupTrackedTestData()} as well.
+     * 
+     * @param title the title of the task
+     */
+    public static void registerTaskTitle(String title) {
+        TestDataRegistry.current().trackTaskTitle(title);
+    }
+
+    /**
+     * Deletes every row tracked by the current test and starts a fresh registry.
+     */
+    public static void cleanupTrackedTestData() {
+        cleanupTestData(TestDataRegistry.detach());
+    }
+
+    /**
+     * Deletes every row tracked by the given registry.
+     * 
+     * <p>Titles registered for rows created through the UI are resolved to their keys with an exact
+     * match, and all keys are then removed in one {@code DELETE ... WHERE id IN (...)} statement.</p>
+     * 
+     * @param registry the registry holding the rows to delete
+     */
+    public static void cleanupTestData(TestDataRegistry registry) {
+        if (registry.isEmpty()) {
+            return;
+        }
+
+        // Get the singleton instance of JdbcTemplate
+        jdbcTemplate = getInstance();
+
+        try {
+            Set<Long> ids = new LinkedHashSet<>(registry.getTaskIds());
+            List<String> titles = registry.getTaskTitles();
+            if (!titles.isEmpty()) {
+                String sql = "SELECT id FROM task WHERE title IN (" + placeholders(titles.size()) + ")";
+                ids.addAll(jdbcTemplate.queryForList(sql, Long.class, titles.toArray()));
+            }
+            if (ids.isEmpty()) {
+                return;
+            }
+            String sql = "DELETE FROM task WHERE id IN (" + placeholders(ids.size()) + ")";
+            int deleted = jdbcTemplate.update(sql, ids.toArray());
+            logger.info("Cleaned up {} tracked task rows: ids={}", deleted, ids);
+        } catch (Exception e) {
+            logger.error("Error cleaning up tracked task data", e);
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    /**
+     * Deletes every task whose title starts with the given pattern.
+     * 
+     * @param titlePattern the title prefix of the tasks to delete
+     * @deprecated scans the task table and may remove rows that merely share the prefix;
+     *             use {@link #cleanupTrackedTestData()} instead
+     */
+    @Deprecated
     public static void cleanupTestDataTask(String titlePattern) {
     	
         // Get the singleton instance of JdbcTemplate
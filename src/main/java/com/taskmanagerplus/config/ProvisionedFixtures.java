@@ -0,0 +1,40 @@
+package com.taskmanagerplus.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the fixture template a test method, or every test method of a class, takes from
+ * {@link FixtureProvisioner}, so the fixtures can be created before the test starts.
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * @Test
+ * @ProvisionedFixtures(TaskSearchTest.Fixtures.class)
+ * public void searchTask_byTitle_shouldReturnMatchingTasks() {
+ *     FixtureSet fixtures = FixtureProvisioner.take(TaskSearchTest.Fixtures.class);
+ *     // Test code here
+ * }
+ * }
+ * </pre>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface ProvisionedFixtures {
+
+    /**
+     * The fixture template of the test.
+     *
+     * @return the fixture template class
+     */
+    Class<? extends FixtureTemplate> value();
+}
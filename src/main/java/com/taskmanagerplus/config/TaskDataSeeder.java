@@ -0,0 +1,252 @@
+package com.taskmanagerplus.config;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Tool for seeding large volumes of task rows in the Task Manager Plus application.
+ *
+ * <p>Rows are generated on the fly from a {@link TaskSeedSpec} and streamed into the {@code task}
+ * table with multi-row {@code INSERT} statements on a single connection, committing once per
+ * statement, so memory use does not grow with the number of rows. Every seeded title starts with
+ * a unique namespace, which is how the rows are removed again with {@link #deleteSeededRows(String)}.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * TaskDataSeeder.Result result = TaskDataSeeder.seed(TaskSeedSpec.of(500_000));
+ * // ... run the search and pagination tests against result.namespace() ...
+ * TaskDataSeeder.deleteSeededRows(result.namespace());
+ * }
+ * </pre>
+ *
+ * <p>From the command line, with the {@code seed.*} properties described in
+ * {@link TaskSeedSpec#fromSystemProperties()} (the test classpath holds the database settings):</p>
+ * <pre>
+ * {@code
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.taskmanagerplus.config.TaskDataSeeder -Dseed.rows=2000000
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.taskmanagerplus.config.TaskDataSeeder -Dseed.delete="Seed 1a2b3c4d"
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> The rows go through {@link JdbcTemplateSingleton#getInstance()}, so the seeder
+ * writes to the database of the active profile and its statements show up in {@link JdbcMetrics}.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class TaskDataSeeder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskDataSeeder.class);
+
+    /** Prefix of the namespace of every seeded title. */
+    public static final String NAMESPACE_PREFIX = "Seed";
+
+    // MySQL accepts at most 65535 placeholders per statement, 4 per row
+    private static final int MAX_ROWS_PER_STATEMENT = 16_000;
+    private static final int DELETE_CHUNK_SIZE = 10_000;
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private TaskDataSeeder() {
+        // private constructor to prevent instantiation
+    }
+
+    /**
+     * Outcome of a seeding run.
+     *
+     * @param namespace the namespace every seeded title starts with
+     * @param rows the number of rows inserted
+     * @param elapsedNanos the time spent inserting, in nanoseconds
+     */
+    public record Result(String namespace, long rows, long elapsedNanos) {
+
+        /**
+         * Gets the throughput of the run.
+         *
+         * @return the rows inserted per second
+         */
+        public double rowsPerSecond() {
+            return elapsedNanos == 0 ? rows : rows * 1e9 / elapsedNanos;
+        }
+    }
+
+    /**
+     * Seeds the rows described by the given spec under a new namespace.
+     *
+     * @param spec the rows to generate
+     * @return the outcome of the run
+     */
+    public static Result seed(TaskSeedSpec spec) {
+        String namespace = NAMESPACE_PREFIX + " " + UUID.randomUUID().toString().substring(0, 8);
+        JdbcTemplate jdbcTemplate = JdbcTemplateSingleton.getInstance();
+        logger.info("Seeding {} task rows in namespace '{}'", spec.rows(), namespace);
+
+        long start = System.nanoTime();
+        long rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> insertRows(connection, spec, namespace, start));
+        Result result = new Result(namespace, rows, System.nanoTime() - start);
+        logger.info("Seeded {} task rows in namespace '{}' in {} ms ({} rows/s)", result.rows(), namespace,
+                TimeUnit.NANOSECONDS.toMillis(result.elapsedNanos()), String.format("%.0f", result.rowsPerSecond()));
+        return result;
+    }
+
+    /**
+     * Deletes every row seeded under the given namespace, in chunks so that no single statement
+     * holds locks on millions of rows.
+     *
+     * @param namespace the namespace returned in {@link Result#namespace()}
+     * @return the number of rows deleted
+     */
+    public static long deleteSeededRows(String namespace) {
+        if (namespace == null || !namespace.startsWith(NAMESPACE_PREFIX + " ")) {
+            throw new IllegalArgumentException("Not a seeding namespace: " + namespace);
+        }
+        JdbcTemplate jdbcTemplate = JdbcTemplateSingleton.getInstance();
+        String sql = "DELETE FROM task WHERE title LIKE ? LIMIT " + DELETE_CHUNK_SIZE;
+        long deleted = 0;
+        int chunk;
+        do {
+            chunk = jdbcTemplate.update(sql, namespace + " %");
+            deleted += chunk;
+        } while (chunk == DELETE_CHUNK_SIZE);
+        logger.info("Deleted {} seeded task rows in namespace '{}'", deleted, namespace);
+        return deleted;
+    }
+
+    private static long insertRows(Connection connection, TaskSeedSpec spec, String namespace, long start) throws SQLException {
+        int batchSize = Math.min(spec.batchSize(), MAX_ROWS_PER_STATEMENT);
+        RowGenerator generator = new RowGenerator(spec, namespace);
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement fullBatch = connection.prepareStatement(insertSql(batchSize))) {
+            long inserted = 0;
+            long lastProgress = start;
+            while (inserted < spec.rows()) {
+                int rows = (int) Math.min(batchSize, spec.rows() - inserted);
+                if (rows == batchSize) {
+                    generator.bind(fullBatch, rows);
+                    fullBatch.executeUpdate();
+                } else {
+                    try (PreparedStatement lastBatch = connection.prepareStatement(insertSql(rows))) {
+                        generator.bind(lastBatch, rows);
+                        lastBatch.executeUpdate();
+                    }
+                }
+                connection.commit();
+                inserted += rows;
+
+                long now = System.nanoTime();
+                if (now - lastProgress >= PROGRESS_INTERVAL_NANOS) {
+                    logger.info("Seeded {}/{} task rows ({} rows/s)", inserted, spec.rows(), String.format("%.0f", inserted * 1e9 / (now - start)));
+                    lastProgress = now;
+                }
+            }
+            return inserted;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private static String insertSql(int rows) {
+        return "INSERT INTO task (title, description, due_date, completed) VALUES "
+                + String.join(", ", Collections.nCopies(rows, "(?, ?, ?, ?)"));
+    }
+
+    /**
+     * Generates the rows of a spec in sequence.
+     */
+    private static final class RowGenerator {
+
+        private final TaskSeedSpec spec;
+        private final String namespace;
+        private final SplittableRandom random;
+        private final double[] cumulativeWeights;
+        private long sequence;
+
+        RowGenerator(TaskSeedSpec spec, String namespace) {
+            this.spec = spec;
+            this.namespace = namespace;
+            this.random = new SplittableRandom(spec.randomSeed());
+            this.cumulativeWeights = zipfWeights(spec.vocabulary().size(), spec.zipfExponent());
+        }
+
+        void bind(PreparedStatement statement, int rows) throws SQLException {
+            int index = 1;
+            for (int i = 0; i < rows; i++) {
+                sequence++;
+                String words = words(spec.wordsPerTitle());
+                statement.setString(index++, namespace + " " + words + " #" + sequence);
+                statement.setString(index++, "Seeded task " + sequence + ": " + words(spec.wordsPerTitle() * 2));
+                statement.setString(index++, spec.dueDateFrom().plusDays(random.nextInt(spec.dueDateDays())).toString());
+                statement.setInt(index++, random.nextDouble() < spec.completedRatio() ? 1 : 0);
+            }
+        }
+
+        private String words(int count) {
+            List<String> vocabulary = spec.vocabulary();
+            StringBuilder words = new StringBuilder();
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    words.append(' ');
+                }
+                words.append(vocabulary.get(nextWordIndex()));
+            }
+            return words.toString();
+        }
+
+        private int nextWordIndex() {
+            double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+            int low = 0;
+            int high = cumulativeWeights.length - 1;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (cumulativeWeights[middle] <= target) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private static double[] zipfWeights(int size, double exponent) {
+            double[] weights = new double[size];
+            double total = 0;
+            for (int rank = 1; rank <= size; rank++) {
+                total += 1.0 / Math.pow(rank, exponent);
+                weights[rank - 1] = total;
+            }
+            return weights;
+        }
+    }
+
+    /**
+     * Seeds the rows described by the {@code seed.*} system properties, or deletes the rows of the
+     * namespace given in {@code seed.delete}.
+     *
+     * @param args not used
+     */
+    public static void main(String[] args) {
+        String namespace = System.getProperty("seed.delete");
+        if (namespace != null) {
+            deleteSeededRows(namespace);
+            return;
+        }
+        Result result = seed(TaskSeedSpec.fromSystemProperties());
+        logger.info("Remove the seeded rows with -Dseed.delete=\"{}\"", result.namespace());
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskmanagerplus.config;
+
+/**
+ * A task row of a fixture set.
+ *
+ * <p>The key identifies the row within its fixture set (for example {@code "A"}), so tests can look
+ * up the actual title and description that were inserted for it.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ *
+ * @param key the key of the row within its fixture set
+ * @param title the title of the task
+ * @param description the description of the task
+ * @param dueDate the due date of the task, formatted as yyyy-MM-dd
+ * @param completed the completed status of the task
+ */
+public record TaskFixture(String key, String title, String description, String dueDate, boolean completed) {
+}
@@ -0,0 +1,163 @@
+package com.taskmanagerplus.config;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+
+/**
+ * Utility class for verifying on the database side that a write triggered through the UI has
+ * been persisted in the Task Manager Plus application.
+ *
+ * <p>The {@code task} table is polled with a single prepared query by exact title, with an
+ * exponential backoff between attempts, until the row is in the expected state or the deadline
+ * passes. The time from the moment the write was triggered until the expected state was first
+ * observed is returned and recorded in {@link JdbcMetrics} as the UI-to-DB propagation latency.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * long saveClicked = System.nanoTime();
+ * taskRegisterPage.clickSaveButton();
+ * CompletableFuture<TaskPersistenceVerifier.Observation> persisted = TaskPersistenceVerifier.awaitTaskAsync(
+ *         "Test Task Verification", row -> !row.completed(), saveClicked, Duration.ofSeconds(10));
+ * // ... check the confirmation toast ...
+ * Assertions.assertNotNull(persisted.join(), "The task should be persisted.");
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> The resolution of the measured latency is bounded by the polling interval, which
+ * starts at {@value #INITIAL_BACKOFF_MILLIS} ms and doubles up to {@value #MAX_BACKOFF_MILLIS} ms.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class TaskPersistenceVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskPersistenceVerifier.class);
+
+    private static final String SELECT_TASK_BY_TITLE_SQL = "SELECT id, title, description, due_date, completed FROM task WHERE title = ?";
+
+    static final long INITIAL_BACKOFF_MILLIS = 10;
+    static final long MAX_BACKOFF_MILLIS = 500;
+
+    private TaskPersistenceVerifier() {
+        // private constructor to prevent instantiation
+    }
+
+    /**
+     * Outcome of a successful verification.
+     *
+     * @param row the row in the expected state
+     * @param propagationNanos the time from the write being triggered until the state was observed
+     * @param attempts the number of queries executed
+     */
+    public record Observation(TaskRow row, long propagationNanos, int attempts) {
+
+        /**
+         * Gets the propagation latency in milliseconds.
+         *
+         * @return the propagation latency in milliseconds
+         */
+        public long propagationMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(propagationNanos);
+        }
+    }
+
+    /**
+     * Waits until a task with the given title is in the expected state.
+     *
+     * @param title the exact title of the task
+     * @param expected the condition the row has to satisfy
+     * @param writeStartNanos the {@link System#nanoTime()} at which the write was triggered
+     * @param timeout how long to wait for the expected state
+     * @return the observation, or null if the expected state did not appear before the deadline
+     */
+    public static Observation awaitTask(String title, Predicate<TaskRow> expected, long writeStartNanos, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Observation observation = JdbcTemplateSingleton.getInstance().execute((ConnectionCallback<Observation>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_TASK_BY_TITLE_SQL)) {
+                statement.setString(1, title);
+                TaskRow lastSeen = null;
+                long backoff = INITIAL_BACKOFF_MILLIS;
+                for (int attempt = 1; ; attempt++) {
+                    lastSeen = queryRow(statement);
+                    long now = System.nanoTime();
+                    if (lastSeen != null && expected.test(lastSeen)) {
+                        return new Observation(lastSeen, now - writeStartNanos, attempt);
+                    }
+                    long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - now);
+                    if (remainingMillis <= 0) {
+                        logger.warn("Task '{}' did not reach the expected state after {} attempts, last seen: {}", title, attempt, lastSeen);
+                        return null;
+                    }
+                    try {
+                        Thread.sleep(Math.min(backoff, remainingMillis));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return null;
+                    }
+                    backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+                }
+            }
+        });
+        if (observation != null) {
+            JdbcMetrics.recordPropagation(observation.propagationNanos());
+            logger.info("Task '{}' persisted after {} ms ({} attempts)", title, observation.propagationMillis(), observation.attempts());
+        }
+        return observation;
+    }
+
+    /**
+     * Starts waiting, on a virtual thread, until a task with the given title is in the expected state.
+     *
+     * <p>The caller can check the UI, such as the confirmation toast, while the database is polled,
+     * so the measured latency does not include the time spent in the UI.</p>
+     *
+     * @param title the exact title of the task
+     * @param expected the condition the row has to satisfy
+     * @param writeStartNanos the {@link System#nanoTime()} at which the write was triggered
+     * @param timeout how long to wait for the expected state
+     * @return the observation, completed with null if the expected state did not appear before the deadline
+     */
+    public static CompletableFuture<Observation> awaitTaskAsync(String title, Predicate<TaskRow> expected, long writeStartNanos, Duration timeout) {
+        return CompletableFuture.supplyAsync(() -> awaitTask(title, expected, writeStartNanos, timeout),
+                task -> Thread.ofVirtual().name("persistence-verifier").start(task));
+    }
+
+    /**
+     * Waits until a task with the given title exists.
+     *
+     * @param title the exact title of the task
+     * @param writeStartNanos the {@link System#nanoTime()} at which the write was triggered
+     * @param timeout how long to wait for the row
+     * @return the observation, or null if the row did not appear before the deadline
+     */
+    public static Observation awaitTask(String title, long writeStartNanos, Duration timeout) {
+        return awaitTask(title, row -> true, writeStartNanos, timeout);
+    }
+
+    private static TaskRow queryRow(PreparedStatement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            if (!resultSet.next()) {
+                return null;
+            }
+            Date dueDate = resultSet.getDate("due_date");
+            return new TaskRow(
+                    resultSet.getLong("id"),
+                    resultSet.getString("title"),
+                    resultSet.getString("description"),
+                    dueDate == null ? null : dueDate.toLocalDate().toString(),
+                    resultSet.getBoolean("completed"));
+        }
+    }
+}
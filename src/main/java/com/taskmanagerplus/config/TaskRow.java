@@ -0,0 +1,17 @@
+package com.taskmanagerplus.config;
+
+/**
+ * The state of a task row as read from the database.
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ *
+ * @param id the primary key of the task
+ * @param title the title of the task
+ * @param description the description of the task
+ * @param dueDate the due date of the task, formatted as yyyy-MM-dd, or null if not set
+ * @param completed the completed status of the task
+ */
+public record TaskRow(long id, String title, String description, String dueDate, boolean completed) {
+}
@@ -0,0 +1,103 @@
+package com.taskmanagerplus.config;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Describes the rows generated by {@link TaskDataSeeder}.
+ *
+ * <p>Titles are built from {@code wordsPerTitle} words drawn from the vocabulary with a Zipf
+ * distribution, so a few words are very common and most are rare, as in real task lists. An
+ * exponent of 0 draws the words uniformly. Due dates are spread uniformly over {@code dueDateDays}
+ * days starting at {@code dueDateFrom}, and a {@code completedRatio} share of the rows is completed.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * TaskSeedSpec spec = TaskSeedSpec.fromSystemProperties();
+ * }
+ * </pre>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ *
+ * @param rows the number of rows to generate
+ * @param batchSize the number of rows per multi-row insert
+ * @param vocabulary the words titles and descriptions are built from
+ * @param wordsPerTitle the number of words in a title
+ * @param zipfExponent the skew of the word distribution
+ * @param dueDateFrom the earliest due date
+ * @param dueDateDays the number of days due dates are spread over
+ * @param completedRatio the share of completed rows, between 0 and 1
+ * @param randomSeed the seed of the generator, so runs can be reproduced
+ */
+public record TaskSeedSpec(long rows, int batchSize, List<String> vocabulary, int wordsPerTitle, double zipfExponent,
+        LocalDate dueDateFrom, int dueDateDays, double completedRatio, long randomSeed) {
+
+    /** Words used when no vocabulary is configured. */
+    public static final List<String> DEFAULT_VOCABULARY = List.of(
+            "Review", "Update", "Deploy", "Fix", "Write", "Plan", "Test", "Report", "Meeting", "Invoice",
+            "Release", "Backlog", "Customer", "Budget", "Design", "Migration", "Audit", "Onboarding", "Roadmap", "Sprint",
+            "Database", "Server", "Contract", "Training", "Feedback", "Security", "Dashboard", "Analytics", "Marketing", "Support");
+
+    public TaskSeedSpec {
+        if (rows <= 0) {
+            throw new IllegalArgumentException("rows must be positive: " + rows);
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        if (vocabulary == null || vocabulary.isEmpty()) {
+            throw new IllegalArgumentException("vocabulary must not be empty");
+        }
+        if (wordsPerTitle <= 0) {
+            throw new IllegalArgumentException("wordsPerTitle must be positive: " + wordsPerTitle);
+        }
+        if (zipfExponent < 0) {
+            throw new IllegalArgumentException("zipfExponent must not be negative: " + zipfExponent);
+        }
+        if (dueDateDays <= 0) {
+            throw new IllegalArgumentException("dueDateDays must be positive: " + dueDateDays);
+        }
+        if (completedRatio < 0 || completedRatio > 1) {
+            throw new IllegalArgumentException("completedRatio must be between 0 and 1: " + completedRatio);
+        }
+        vocabulary = List.copyOf(vocabulary);
+    }
+
+    /**
+     * Creates a spec with the default distribution for the given number of rows.
+     *
+     * @param rows the number of rows to generate
+     * @return the spec
+     */
+    public static TaskSeedSpec of(long rows) {
+        return new TaskSeedSpec(rows, 1000, DEFAULT_VOCABULARY, 3, 1.0, LocalDate.now().minusDays(365), 730, 0.3, 42L);
+    }
+
+    /**
+     * Creates a spec from the {@code seed.*} system properties, falling back to the defaults of {@link #of(long)}.
+     *
+     * <p>Supported properties: {@code seed.rows}, {@code seed.batchSize}, {@code seed.vocabulary}
+     * (comma separated), {@code seed.wordsPerTitle}, {@code seed.zipfExponent}, {@code seed.dueDateFrom}
+     * (yyyy-MM-dd), {@code seed.dueDateDays}, {@code seed.completedRatio} and {@code seed.randomSeed}.</p>
+     *
+     * @return the spec
+     */
+    public static TaskSeedSpec fromSystemProperties() {
+        TaskSeedSpec defaults = of(Long.getLong("seed.rows", 1_000_000L));
+        String vocabulary = System.getProperty("seed.vocabulary");
+        String dueDateFrom = System.getProperty("seed.dueDateFrom");
+        return new TaskSeedSpec(
+                defaults.rows(),
+                Integer.getInteger("seed.batchSize", defaults.batchSize()),
+                vocabulary == null ? defaults.vocabulary() : List.of(vocabulary.trim().split("\\s*,\\s*")),
+                Integer.getInteger("seed.wordsPerTitle", defaults.wordsPerTitle()),
+                Double.parseDouble(System.getProperty("seed.zipfExponent", String.valueOf(defaults.zipfExponent()))),
+                dueDateFrom == null ? defaults.dueDateFrom() : LocalDate.parse(dueDateFrom),
+                Integer.getInteger("seed.dueDateDays", defaults.dueDateDays()),
+                Double.parseDouble(System.getProperty("seed.completedRatio", String.valueOf(defaults.completedRatio()))),
+                Long.getLong("seed.randomSeed", defaults.randomSeed()));
+    }
+}
@@ -0,0 +1,103 @@
+package com.taskmanagerplus.config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Per-test registry of the database rows created while a test runs.
+ *
+ * <p>Fixture rows inserted through {@link JdbcTemplateSingleton} are tracked by their generated
+ * primary key. Rows created through the UI have no key known to the test, so they are tracked by
+ * their exact title and resolved to keys at cleanup time.</p>
+ *
+ * <p>Each test thread owns its own registry; {@link #detach()} hands the collected rows over to
+ * the cleanup and starts a fresh registry for the next test on the same thread.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * long id = JdbcTemplateSingleton.insertTaskData("Test Task A", "Description", "2024-07-15", false);
+ * JdbcTemplateSingleton.registerTaskTitle("Test Task created through the UI");
+ * JdbcTemplateSingleton.cleanupTrackedTestData();
+ * }
+ * </pre>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public final class TestDataRegistry {
+
+    private static final ThreadLocal<TestDataRegistry> CURRENT = ThreadLocal.withInitial(TestDataRegistry::new);
+
+    private final Set<Long> taskIds = new LinkedHashSet<>();
+    private final Set<String> taskTitles = new LinkedHashSet<>();
+
+    /**
+     * Gets the registry of the test running on the current thread.
+     *
+     * @return the current registry
+     */
+    public static TestDataRegistry current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Removes the registry of the current thread and returns it, so that the tracked rows can be
+     * cleaned up while the next test starts with an empty registry.
+     *
+     * @return the registry that was current until now
+     */
+    public static TestDataRegistry detach() {
+        TestDataRegistry registry = CURRENT.get();
+        CURRENT.remove();
+        return registry;
+    }
+
+    /**
+     * Tracks the primary key of a task row created by the test.
+     *
+     * @param id the generated key of the task row
+     */
+    public void trackTaskId(long id) {
+        taskIds.add(id);
+    }
+
+    /**
+     * Tracks the exact title of a task row created by the test through the UI.
+     *
+     * @param title the title of the task
+     */
+    public void trackTaskTitle(String title) {
+        taskTitles.add(title);
+    }
+
+    /**
+     * Gets the tracked task keys, in insertion order.
+     *
+     * @return a copy of the tracked task keys
+     */
+    public List<Long> getTaskIds() {
+        return new ArrayList<>(taskIds);
+    }
+
+    /**
+     * Gets the tracked task titles, in registration order.
+     *
+     * @return a copy of the tracked task titles
+     */
+    public List<String> getTaskTitles() {
+        return new ArrayList<>(taskTitles);
+    }
+
+    /**
+     * Checks if nothing has been tracked.
+     *
+     * @return true if no key and no title has been tracked, false otherwise
+     */
+    public boolean isEmpty() {
+        return taskIds.isEmpty() && taskTitles.isEmpty();
+    }
+}
@@ -0,0 +1,164 @@
+package com.taskmanagerplus.drivers;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.events.ConsoleEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Recorder of the browser console of the current test in the Task Manager Plus application.
+ *
+ * <p>When a driver is created, the recorder subscribes to its console messages and uncaught
+ * JavaScript exceptions over the DevTools protocol, so they are streamed while the test runs
+ * instead of being pulled from the browser log after a failure. Events are kept, unformatted, in a
+ * ring buffer of {@code -Dbrowser.console.capacity} entries (default {@value #DEFAULT_CAPACITY});
+ * when it is full the oldest entries are overwritten, so a chatty page costs a fixed amount of
+ * memory. A passing test never formats or reports the entries; a failing test drains them into
+ * the report in one batch through {@link com.taskmanagerplus.utils.BrowserUtils#captureConsoleLogs(WebDriver)}.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * ChromeDriver driver = new ChromeDriver();
+ * BrowserConsoleRecorder.attach(driver);
+ * // ... after a failure, on the test thread ...
+ * List<String> lines = BrowserConsoleRecorder.current().drain();
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> The recorder is bound to the thread that created the driver, which is the
+ * thread running the test. {@code -Dbrowser.console=false} disables it; drivers without DevTools
+ * support are left alone.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public final class BrowserConsoleRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserConsoleRecorder.class);
+
+    /** System property enabling the recorder; true by default. */
+    public static final String ENABLED_PROPERTY = "browser.console";
+
+    /** System property setting the number of entries kept per test. */
+    public static final String CAPACITY_PROPERTY = "browser.console.capacity";
+
+    static final int DEFAULT_CAPACITY = 256;
+
+    private static final ThreadLocal<BrowserConsoleRecorder> current = new ThreadLocal<>();
+
+    /**
+     * A console message or exception, as received.
+     */
+    private record Entry(Instant time, Object event) {
+    }
+
+    private final Entry[] entries;
+    private int next;
+    private long recorded;
+
+    /**
+     * Creates an empty recorder.
+     *
+     * @param capacity the number of entries kept
+     */
+    public BrowserConsoleRecorder(int capacity) {
+        this.entries = new Entry[Math.max(1, capacity)];
+    }
+
+    /**
+     * Starts recording the console of a driver, and makes the recorder current on this thread.
+     *
+     * @param driver the driver, before it is decorated
+     * @return the recorder, or null if recording is disabled or not supported by the driver
+     */
+    public static BrowserConsoleRecorder attach(WebDriver driver) {
+        current.remove();
+        if (!Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true")) || !(driver instanceof HasDevTools)) {
+            return null;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            BrowserConsoleRecorder recorder = new BrowserConsoleRecorder(Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY));
+            devTools.getDomains().events().addConsoleListener(recorder::record);
+            devTools.getDomains().events().addJavascriptExceptionListener(recorder::record);
+            current.set(recorder);
+            return recorder;
+        } catch (RuntimeException e) {
+            logger.warn("Browser console streaming is not available, falling back to the browser log: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Gets the recorder of the driver created on this thread.
+     *
+     * @return the recorder, or null if none is attached
+     */
+    public static BrowserConsoleRecorder current() {
+        return current.get();
+    }
+
+    /**
+     * Records a console event or JavaScript exception.
+     *
+     * @param event the {@link ConsoleEvent} or {@link JavascriptException}
+     */
+    public synchronized void record(Object event) {
+        entries[next] = new Entry(Instant.now(), event);
+        next = (next + 1) % entries.length;
+        recorded++;
+    }
+
+    /**
+     * Formats the recorded entries, oldest first, and empties the buffer.
+     *
+     * @return one line per entry, preceded by a line counting the overwritten entries if any
+     */
+    public synchronized List<String> drain() {
+        List<String> lines = new ArrayList<>();
+        if (recorded > entries.length) {
+            lines.add("... " + (recorded - entries.length) + " earlier entries were overwritten");
+        }
+        for (int i = 0; i < entries.length; i++) {
+            int index = (next + i) % entries.length;
+            if (entries[index] != null) {
+                lines.add(format(entries[index]));
+                entries[index] = null;
+            }
+        }
+        next = 0;
+        recorded = 0;
+        return lines;
+    }
+
+    /**
+     * Gets the number of entries recorded since the buffer was last drained, including overwritten ones.
+     *
+     * @return the number of entries
+     */
+    public synchronized long getRecorded() {
+        return recorded;
+    }
+
+    private static String format(Entry entry) {
+        if (entry.event() instanceof ConsoleEvent console) {
+            Instant time = console.getTimestamp() != null ? console.getTimestamp() : entry.time();
+            return time + " " + console.getType().toUpperCase(Locale.ROOT) + " " + String.join(" ", console.getMessages());
+        }
+        if (entry.event() instanceof JavascriptException exception) {
+            return entry.time() + " EXCEPTION " + exception.getMessage();
+        }
+        return entry.time() + " " + entry.event();
+    }
+}
@@ -0,0 +1,107 @@
+package com.taskmanagerplus.drivers;
+
+import java.lang.StackWalker.StackFrame;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+/**
+ * WebDriver listener recording the latency of every command in the Task Manager Plus application.
+ *
+ * <p>The listener is attached by {@link DriverFactory} through Selenium's
+ * {@link org.openqa.selenium.support.events.EventFiringDecorator}. It times the commands that
+ * account for the test time, such as {@code get}, {@code findElement}, {@code click},
+ * {@code sendKeys} and {@code executeScript}, and records each one in {@link CommandMetrics} with
+ * the page-object method that issued it. That method is the nearest caller in the
+ * {@code com.taskmanagerplus.pages} package, or the nearest caller in the project, such as a
+ * test, when the command was not issued through a page object. Commands that throw, such as a
+ * {@code findElement} that waits out the implicit wait, are recorded with {@code (failed)}
+ * appended to their name.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * WebDriver driver = new EventFiringDecorator<>(new CommandLatencyListener()).decorate(new ChromeDriver());
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> The arguments of the commands, such as the keys sent to a password field, are
+ * never recorded.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class CommandLatencyListener implements WebDriverListener {
+
+    private static final Set<String> TIMED_COMMANDS = Set.of(
+            "get", "findElement", "findElements", "click", "sendKeys", "clear", "submit",
+            "executeScript", "executeAsyncScript", "to", "back", "forward", "refresh");
+
+    private static final String PAGES_PACKAGE = "com.taskmanagerplus.pages.";
+    private static final String PROJECT_PACKAGE = "com.taskmanagerplus.";
+    private static final String DRIVERS_PACKAGE = "com.taskmanagerplus.drivers.";
+    private static final String UNKNOWN_CALLER = "-";
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final CommandTimer timer = new CommandTimer();
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (TIMED_COMMANDS.contains(method.getName())) {
+            timer.start();
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        record(method.getName(), false);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        record(method.getName(), true);
+    }
+
+    private void record(String command, boolean failed) {
+        if (!TIMED_COMMANDS.contains(command)) {
+            return;
+        }
+        long nanos = timer.stop();
+        if (nanos >= 0) {
+            CommandMetrics.recordCommand(failed ? command + " (failed)" : command, findCaller(), nanos);
+        }
+    }
+
+    /**
+     * Finds the page-object method, or else the project method, that issued the current command.
+     *
+     * @return the caller as {@code SimpleClassName.method}, or {@code -}
+     */
+    static String findCaller() {
+        return STACK_WALKER.walk(frames -> {
+            StackFrame projectFrame = null;
+            // A page object is always nearer than the test calling it, but may call project utilities itself
+            for (Iterator<StackFrame> iterator = frames.iterator(); iterator.hasNext();) {
+                StackFrame frame = iterator.next();
+                String className = frame.getClassName();
+                if (className.startsWith(PAGES_PACKAGE)) {
+                    return describe(frame);
+                }
+                if (projectFrame == null && className.startsWith(PROJECT_PACKAGE) && !className.startsWith(DRIVERS_PACKAGE)) {
+                    projectFrame = frame;
+                }
+            }
+            return projectFrame != null ? describe(projectFrame) : UNKNOWN_CALLER;
+        });
+    }
+
+    private static String describe(StackFrame frame) {
+        String className = frame.getClassName();
+        return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+    }
+}
@@ -0,0 +1,267 @@
+package com.taskmanagerplus.drivers;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Collects the WebDriver command latencies of the test run in the Task Manager Plus application.
+ *
+ * <p>Every command is recorded with the test that issued it and the page-object method it was
+ * issued from. Three views are kept: an HDR latency histogram per command for the whole run, the
+ * slowest {@value #SLOWEST_COMMANDS} commands of the run, and a breakdown per command and
+ * page-object method for the test running on the current thread, returned by
+ * {@link #finishTest()}.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * CommandMetrics.startTest("com.taskmanagerplus.tests.LoginTest.testLogin()");
+ * // ... the test issues WebDriver commands ...
+ * String[][] breakdown = CommandMetrics.finishTest();
+ * String[][] slowest = CommandMetrics.getSlowestCommandsTable();
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> The latencies are fed by {@link CommandLatencyListener}, which decorates the
+ * drivers returned by {@link DriverFactory}.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class CommandMetrics {
+
+    /** Number of commands kept in the slowest commands table. */
+    public static final int SLOWEST_COMMANDS = 20;
+
+    private static final String NO_TEST = "-";
+
+    private static final Map<String, CommandStats> commands = new ConcurrentHashMap<>();
+    private static final PriorityQueue<Sample> slowest = new PriorityQueue<>(Comparator.comparingLong(Sample::nanos));
+    private static final ThreadLocal<TestCommands> currentTest = new ThreadLocal<>();
+    private static volatile long slowestThreshold;
+
+    /**
+     * One recorded command.
+     */
+    private record Sample(String test, String pageObjectMethod, String command, long nanos) {
+    }
+
+    private CommandMetrics() {
+        // private constructor to prevent instantiation
+    }
+
+    /**
+     * Starts collecting the breakdown of the test running on the current thread.
+     *
+     * @param testName the name of the test
+     */
+    public static void startTest(String testName) {
+        currentTest.set(new TestCommands(testName));
+    }
+
+    /**
+     * Stops collecting the breakdown of the test running on the current thread.
+     *
+     * @return the breakdown table, with a header row and one row per command and page-object
+     *         method sorted by total time, or null if the test issued no command
+     */
+    public static String[][] finishTest() {
+        TestCommands test = currentTest.get();
+        currentTest.remove();
+        if (test == null || test.commands.isEmpty()) {
+            return null;
+        }
+        List<Tally> all = new ArrayList<>(test.commands.values());
+        all.sort(Comparator.comparingLong((Tally tally) -> tally.totalNanos).reversed());
+        String[][] table = new String[all.size() + 1][];
+        table[0] = new String[] {"Command", "Page Object Method", "Count", "Total ms", "Max ms"};
+        for (int i = 0; i < all.size(); i++) {
+            Tally tally = all.get(i);
+            table[i + 1] = new String[] {tally.command, tally.pageObjectMethod, String.valueOf(tally.executions),
+                    millis(TimeUnit.NANOSECONDS.toMicros(tally.totalNanos)), millis(TimeUnit.NANOSECONDS.toMicros(tally.maxNanos))};
+        }
+        return table;
+    }
+
+    /**
+     * Gets the time the test running on the current thread has spent in each command so far.
+     *
+     * @return the total nanoseconds by page-object method and command, such as
+     *         {@code LoginPage.enterLogin sendKeys}, or an empty map outside a test
+     */
+    public static Map<String, Long> getTestCommandNanos() {
+        TestCommands test = currentTest.get();
+        Map<String, Long> totals = new HashMap<>();
+        if (test != null) {
+            test.commands.values().forEach(tally -> totals.merge(tally.pageObjectMethod + " " + tally.command, tally.totalNanos, Long::sum));
+        }
+        return totals;
+    }
+
+    /**
+     * Records the execution of a command.
+     *
+     * @param command the name of the command, such as {@code findElement} or {@code click}
+     * @param pageObjectMethod the page-object method that issued the command, or {@code -}
+     * @param nanos the execution time in nanoseconds
+     */
+    public static void recordCommand(String command, String pageObjectMethod, long nanos) {
+        commands.computeIfAbsent(command, CommandStats::new).record(nanos);
+        TestCommands test = currentTest.get();
+        if (test != null) {
+            test.commands.computeIfAbsent(command + " " + pageObjectMethod, key -> new Tally(command, pageObjectMethod)).record(nanos);
+        }
+        // Most commands are faster than the slowest ones kept, so the lock is rarely taken
+        if (nanos > slowestThreshold) {
+            recordSlowest(new Sample(test != null ? test.name : NO_TEST, pageObjectMethod, command, nanos));
+        }
+    }
+
+    /**
+     * Checks if anything has been recorded.
+     *
+     * @return true if nothing has been recorded, false otherwise
+     */
+    public static boolean isEmpty() {
+        return commands.isEmpty();
+    }
+
+    /**
+     * Builds the summary table, with a header row and one row per command sorted by total time.
+     *
+     * @return the summary table
+     */
+    public static String[][] getSummaryTable() {
+        List<CommandStats> all = new ArrayList<>(commands.values());
+        all.sort(Comparator.comparingLong((CommandStats stats) -> stats.totalNanos.sum()).reversed());
+        String[][] table = new String[all.size() + 1][];
+        table[0] = new String[] {"Command", "Count", "Total ms", "Mean ms", "p50 ms", "p95 ms", "p99 ms", "Max ms"};
+        for (int i = 0; i < all.size(); i++) {
+            table[i + 1] = all.get(i).toRow();
+        }
+        return table;
+    }
+
+    /**
+     * Builds the table of the slowest commands of the run, slowest first.
+     *
+     * @return the table, with a header row
+     */
+    public static synchronized String[][] getSlowestCommandsTable() {
+        List<Sample> samples = new ArrayList<>(slowest);
+        samples.sort(Comparator.comparingLong(Sample::nanos).reversed());
+        String[][] table = new String[samples.size() + 1][];
+        table[0] = new String[] {"Test", "Page Object Method", "Command", "ms"};
+        for (int i = 0; i < samples.size(); i++) {
+            Sample sample = samples.get(i);
+            table[i + 1] = new String[] {sample.test(), sample.pageObjectMethod(), sample.command(),
+                    millis(TimeUnit.NANOSECONDS.toMicros(sample.nanos()))};
+        }
+        return table;
+    }
+
+    /**
+     * Clears all recorded statistics.
+     */
+    public static synchronized void reset() {
+        commands.clear();
+        slowest.clear();
+        slowestThreshold = 0;
+        currentTest.remove();
+    }
+
+    private static synchronized void recordSlowest(Sample sample) {
+        if (slowest.size() < SLOWEST_COMMANDS) {
+            slowest.add(sample);
+        } else if (sample.nanos() > slowest.peek().nanos()) {
+            slowest.poll();
+            slowest.add(sample);
+        }
+        if (slowest.size() == SLOWEST_COMMANDS) {
+            slowestThreshold = slowest.peek().nanos();
+        }
+    }
+
+    private static String millis(double micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+
+    /**
+     * The commands of one test, by command and page-object method.
+     */
+    private static final class TestCommands {
+
+        private final String name;
+        private final Map<String, Tally> commands = new HashMap<>();
+
+        TestCommands(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * The executions of one command from one page-object method in one test; only touched by the test's thread.
+     */
+    private static final class Tally {
+
+        private final String command;
+        private final String pageObjectMethod;
+        private long executions;
+        private long totalNanos;
+        private long maxNanos;
+
+        Tally(String command, String pageObjectMethod) {
+            this.command = command;
+            this.pageObjectMethod = pageObjectMethod;
+        }
+
+        void record(long nanos) {
+            executions++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+    }
+
+    private static final class CommandStats {
+
+        private final String command;
+        private final Histogram latencyMicros = new ConcurrentHistogram(3);
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        CommandStats(String command) {
+            this.command = command;
+        }
+
+        void record(long nanos) {
+            latencyMicros.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)));
+            totalNanos.add(nanos);
+            executions.increment();
+        }
+
+        String[] toRow() {
+            Histogram snapshot = latencyMicros.copy();
+            return new String[] {
+                    command,
+                    String.valueOf(executions.sum()),
+                    millis(TimeUnit.NANOSECONDS.toMicros(totalNanos.sum())),
+                    millis(snapshot.getMean()),
+                    millis(snapshot.getValueAtPercentile(50)),
+                    millis(snapshot.getValueAtPercentile(95)),
+                    millis(snapshot.getValueAtPercentile(99)),
+                    millis(snapshot.getMaxValue())
+            };
+        }
+    }
+}
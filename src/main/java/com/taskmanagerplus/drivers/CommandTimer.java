@@ -0,0 +1,47 @@
+package com.taskmanagerplus.drivers;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Per-thread timer of the WebDriver commands seen by a listener in the Task Manager Plus application.
+ *
+ * <p>Each listener owns a timer, starts it in {@code beforeAnyCall} for the commands it times and
+ * stops it in {@code afterAnyCall} or {@code onError}, so {@link CommandLatencyListener} and
+ * {@link FlightRecorderListener} time their commands the same way.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * timer.start();
+ * // ... the command runs ...
+ * long nanos = timer.stop();
+ * }
+ * </pre>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+final class CommandTimer {
+
+    // Commands do not nest today, but a stack keeps the timings right if a listener ever issues one
+    private final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Starts timing a command on the current thread.
+     */
+    void start() {
+        startTimes.get().push(System.nanoTime());
+    }
+
+    /**
+     * Stops timing the latest command started on the current thread.
+     *
+     * @return the execution time in nanoseconds, or -1 if no command was started
+     */
+    long stop() {
+        Long start = startTimes.get().poll();
+        return start != null ? System.nanoTime() - start : -1;
+    }
+}
@@ -5,6 +5,12 @@
  * and providing a method to obtain the WebDriver instance. The path to the 
  * ChromeDriver executable is read from the configuration properties file.</p>
  * 
+ * <p>The driver is decorated with a {@link CommandLatencyListener}, so that the latency of every
+ * command is recorded in {@link CommandMetrics}, and with a {@link FlightRecorderListener}, so that
+ * the commands of the test are kept in its {@link FlightRecorder}. Its console is streamed into a
+ * {@link BrowserConsoleRecorder}. Its session ID is added to the
+ * {@link com.taskmanagerplus.utils.LoggingContext} of the test.</p>
+ * 
  * <p>Example usage:</p>
  * <pre>
  * {@code
@@ -23,7 +29,9 @@ package com.taskmanagerplus.drivers;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
 import com.taskmanagerplus.config.ConfigReader;
+import com.taskmanagerplus.utils.LoggingContext;
 
 public class DriverFactory {
 
@@ -32,12 +40,15 @@ public class DriverFactory {
      * 
      * <p>This method sets the system property for the ChromeDriver executable 
      * path using the value from the configuration properties file and then 
-     * returns a new instance of ChromeDriver.</p>
+     * returns a new instance of ChromeDriver, decorated to record command latencies.</p>
      * 
      * @return a new instance of {@link org.openqa.selenium.WebDriver} for Chrome
      */
     public static WebDriver getDriver() {
         System.setProperty("webdriver.chrome.driver", ConfigReader.getProperty("chromeDriverPath"));
-        return new ChromeDriver();
+        ChromeDriver driver = new ChromeDriver();
+        LoggingContext.setDriverSession(String.valueOf(driver.getSessionId()));
+        BrowserConsoleRecorder.attach(driver);
+        return new EventFiringDecorator<WebDriver>(new CommandLatencyListener(), new FlightRecorderListener()).decorate(driver);
     }
 }
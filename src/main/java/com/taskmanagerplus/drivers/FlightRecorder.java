@@ -0,0 +1,262 @@
+package com.taskmanagerplus.drivers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.openqa.selenium.WebElement;
+import org.slf4j.helpers.MessageFormatter;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * In-memory flight recorder of the WebDriver commands and log lines of a test in the Task Manager Plus application.
+ *
+ * <p>Each test gets a ring buffer of the last {@code -Dflight.recorder.capacity} entries (default
+ * {@value #DEFAULT_CAPACITY}), fed by {@link FlightRecorderListener} with every driver command,
+ * its arguments, result and duration, and by {@link FlightRecorderAppender} with every log line of
+ * the test, including debug lines that no other appender writes. Recording an entry is a single
+ * slot claim on an atomic counter and an array store, without locks, and nothing is formatted
+ * except values too large to keep, such as page sources, which are truncated as they are recorded:
+ * when the test passes the buffer is simply dropped. Only a failing test pays for {@link #dump()},
+ * which formats the entries, oldest first, for the report.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * FlightRecorder.start("com.taskmanagerplus.tests.LoginTest.testLogin()");
+ * // ... the test runs ...
+ * FlightRecorder recorder = FlightRecorder.finish();
+ * if (failed && recorder != null) {
+ *     String dump = recorder.dump();
+ * }
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> The keys typed by {@code sendKeys} are never recorded. A log line is kept as its
+ * message pattern and argument references, so an argument changed after it was logged is dumped
+ * in its later state. {@code -Dflight.recorder=false} disables the recorder.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public final class FlightRecorder {
+
+    /** System property enabling the recorder; true by default. */
+    public static final String ENABLED_PROPERTY = "flight.recorder";
+
+    /** System property setting the number of entries kept per test. */
+    public static final String CAPACITY_PROPERTY = "flight.recorder.capacity";
+
+    static final int DEFAULT_CAPACITY = 512;
+
+    private static final int MAX_VALUE_LENGTH = 200;
+
+    private static final ThreadLocal<FlightRecorder> current = new ThreadLocal<>();
+    private static final Map<String, FlightRecorder> byTest = new ConcurrentHashMap<>();
+
+    /**
+     * A recorded command or log line; the sequence number tells a current entry from one left over
+     * in its slot from an earlier lap of the ring.
+     */
+    private record Entry(long sequence, long nanoTime, Object event) {
+    }
+
+    /**
+     * A WebDriver command, as issued.
+     */
+    record Command(Object target, String method, Object[] args, Object result, Throwable error, long nanos) {
+    }
+
+    /**
+     * A log line, as logged: the message pattern and its arguments, not yet formatted.
+     */
+    private record Log(Level level, String loggerName, String pattern, Object[] args) {
+    }
+
+    /**
+     * A value too large to keep, such as a page source or a screenshot, summarized when it was recorded.
+     */
+    private record Summary(String text) {
+    }
+
+    private final String testName;
+    private final long startNanos = System.nanoTime();
+    private final AtomicReferenceArray<Entry> entries;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Creates an empty recorder.
+     *
+     * @param testName the name of the test
+     * @param capacity the number of entries kept
+     */
+    public FlightRecorder(String testName, int capacity) {
+        this.testName = testName;
+        this.entries = new AtomicReferenceArray<>(Math.max(1, capacity));
+    }
+
+    /**
+     * Starts a recorder for the test running on the current thread, replacing any previous one.
+     *
+     * @param testName the name of the test, as set in the {@link com.taskmanagerplus.utils.LoggingContext}
+     * @return the recorder, or null if recording is disabled
+     */
+    public static FlightRecorder start(String testName) {
+        finish();
+        if (!Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"))) {
+            return null;
+        }
+        FlightRecorder recorder = new FlightRecorder(testName, Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY));
+        current.set(recorder);
+        byTest.put(testName, recorder);
+        return recorder;
+    }
+
+    /**
+     * Stops the recorder of the test running on the current thread.
+     *
+     * @return the recorder, to dump it if the test failed, or null if none was started
+     */
+    public static FlightRecorder finish() {
+        FlightRecorder recorder = current.get();
+        current.remove();
+        if (recorder != null) {
+            byTest.remove(recorder.testName, recorder);
+        }
+        return recorder;
+    }
+
+    /**
+     * Gets the recorder of the test running on the current thread.
+     *
+     * @return the recorder, or null if none is started
+     */
+    public static FlightRecorder current() {
+        return current.get();
+    }
+
+    /**
+     * Gets the recorder of a test, from any thread.
+     *
+     * @param testName the name of the test
+     * @return the recorder, or null if the test is not running
+     */
+    public static FlightRecorder forTest(String testName) {
+        return testName != null ? byTest.get(testName) : null;
+    }
+
+    /**
+     * Records a WebDriver command.
+     *
+     * @param target the driver, element or other object the command was issued on
+     * @param method the name of the command
+     * @param args the arguments, already masked where needed
+     * @param result the result, or null
+     * @param error the exception thrown by the command, or null
+     * @param nanos the execution time in nanoseconds
+     */
+    public void recordCommand(Object target, String method, Object[] args, Object result, Throwable error, long nanos) {
+        record(new Command(target, method, args != null ? Arrays.stream(args).map(FlightRecorder::retain).toArray() : null,
+                retain(result), error, nanos));
+    }
+
+    /**
+     * Records a log line.
+     *
+     * @param event the logging event
+     */
+    public void recordLog(ILoggingEvent event) {
+        // Only references are kept; the message is formatted from its pattern and arguments by dump()
+        record(new Log(event.getLevel(), event.getLoggerName(), event.getMessage(), event.getArgumentArray()));
+    }
+
+    private void record(Object event) {
+        long claimed = sequence.getAndIncrement();
+        entries.set((int) (claimed % entries.length()), new Entry(claimed, System.nanoTime(), event));
+    }
+
+    /**
+     * Gets the number of entries recorded, including overwritten ones.
+     *
+     * @return the number of entries
+     */
+    public long getRecorded() {
+        return sequence.get();
+    }
+
+    /**
+     * Formats the recorded entries, oldest first, with their time since the start of the test.
+     *
+     * @return the entries, one per line, preceded by a line counting the overwritten entries if any
+     */
+    public String dump() {
+        long end = sequence.get();
+        long first = Math.max(0, end - entries.length());
+        List<String> lines = new ArrayList<>();
+        lines.add("Flight recorder of " + testName + ", last " + (end - first) + " of " + end + " entries");
+        if (first > 0) {
+            lines.add("... " + first + " earlier entries were overwritten");
+        }
+        for (long i = first; i < end; i++) {
+            Entry entry = entries.get((int) (i % entries.length()));
+            if (entry != null && entry.sequence() == i) {
+                lines.add(String.format(Locale.ROOT, "+%10.3f ms %s", (entry.nanoTime() - startNanos) / 1_000_000.0, format(entry.event())));
+            }
+        }
+        return String.join("\n", lines);
+    }
+
+    private static String format(Object event) {
+        if (event instanceof Command command) {
+            StringBuilder line = new StringBuilder("CMD ").append(command.method()).append('(');
+            if (command.args() != null) {
+                Arrays.stream(command.args()).map(FlightRecorder::describe).reduce((a, b) -> a + ", " + b).ifPresent(line::append);
+            }
+            line.append(')');
+            if (command.target() instanceof WebElement) {
+                line.append(" on ").append(describe(command.target()));
+            }
+            if (command.error() != null) {
+                line.append(" threw ").append(describe(command.error().getClass().getSimpleName() + ": " + command.error().getMessage()));
+            } else if (command.result() != null) {
+                line.append(" -> ").append(describe(command.result()));
+            }
+            return line.append(String.format(Locale.ROOT, " [%.3f ms]", command.nanos() / 1_000_000.0)).toString();
+        }
+        if (event instanceof Log log) {
+            String logger = log.loggerName();
+            String message = MessageFormatter.arrayFormat(log.pattern(), log.args()).getMessage();
+            return "LOG " + log.level() + " " + logger.substring(logger.lastIndexOf('.') + 1) + " - " + describe(message);
+        }
+        return String.valueOf(event);
+    }
+
+    /**
+     * Keeps a value as is, unless it is too large to hold until the end of the test.
+     */
+    private static Object retain(Object value) {
+        if (value instanceof byte[] || value instanceof CharSequence text && text.length() > MAX_VALUE_LENGTH) {
+            return new Summary(describe(value));
+        }
+        return value;
+    }
+
+    private static String describe(Object value) {
+        if (value instanceof Summary summary) {
+            return summary.text();
+        }
+        String text = value instanceof Object[] array ? Arrays.deepToString(array)
+                : value instanceof byte[] bytes ? "<" + bytes.length + " bytes>"
+                : String.valueOf(value);
+        text = text.replace('\n', ' ');
+        return text.length() > MAX_VALUE_LENGTH ? text.substring(0, MAX_VALUE_LENGTH) + "... (" + text.length() + " chars)" : text;
+    }
+}
@@ -0,0 +1,42 @@
+package com.taskmanagerplus.drivers;
+
+import com.taskmanagerplus.utils.LoggingContext;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+
+/**
+ * Logback appender feeding the log lines of a test to its {@link FlightRecorder} in the Task Manager Plus application.
+ *
+ * <p>A line logged on the thread running the test goes to that test's recorder; a line logged on
+ * another thread goes to the recorder of the test named in its {@link LoggingContext}, such as
+ * the report events logged by the sink threads. Other lines are ignored. The event is stored as
+ * it is and only formatted if the test fails.</p>
+ *
+ * <p>Example usage, in {@code logback.xml}:</p>
+ * <pre>
+ * {@code
+ * <appender name="FLIGHT_RECORDER" class="com.taskmanagerplus.drivers.FlightRecorderAppender"/>
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> The appender does not take a lock, so it is attached directly rather than
+ * behind an asynchronous appender.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class FlightRecorderAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        FlightRecorder recorder = FlightRecorder.current();
+        if (recorder == null) {
+            recorder = FlightRecorder.forTest(event.getMDCPropertyMap().get(LoggingContext.TEST_ID));
+        }
+        if (recorder != null) {
+            recorder.recordLog(event);
+        }
+    }
+}
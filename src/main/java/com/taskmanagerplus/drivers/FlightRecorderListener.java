@@ -0,0 +1,70 @@
+package com.taskmanagerplus.drivers;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+/**
+ * WebDriver listener feeding every command of a test to its {@link FlightRecorder} in the Task Manager Plus application.
+ *
+ * <p>The listener is attached by {@link DriverFactory} next to the {@link CommandLatencyListener}.
+ * Unlike that listener, it records every command, including getters such as {@code getText} and
+ * {@code getCurrentUrl}, with its arguments and result, since those show what the test saw
+ * before it failed. Commands issued on threads without a recorder, such as the background quit
+ * of the driver, are ignored.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * WebDriver driver = new EventFiringDecorator<>(new FlightRecorderListener()).decorate(new ChromeDriver());
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> The arguments of {@code sendKeys} are replaced by {@value #MASKED} before they
+ * are recorded, since they can be passwords.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class FlightRecorderListener implements WebDriverListener {
+
+    static final String MASKED = "***";
+
+    private static final Object[] MASKED_ARGS = {MASKED};
+
+    private static final Set<String> IGNORED_METHODS = Set.of("toString", "hashCode", "equals", "getWrappedDriver", "getWrappedElement");
+
+    private final CommandTimer timer = new CommandTimer();
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (FlightRecorder.current() != null && !IGNORED_METHODS.contains(method.getName())) {
+            timer.start();
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        record(target, method, args, result, null);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        record(target, method, args, null, e.getTargetException());
+    }
+
+    private void record(Object target, Method method, Object[] args, Object result, Throwable error) {
+        FlightRecorder recorder = FlightRecorder.current();
+        if (recorder == null || IGNORED_METHODS.contains(method.getName())) {
+            return;
+        }
+        long nanos = timer.stop();
+        if (nanos >= 0) {
+            String name = method.getName();
+            recorder.recordCommand(target, name, "sendKeys".equals(name) ? MASKED_ARGS : args, result, error, nanos);
+        }
+    }
+}
@@ -5,11 +5,15 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.PageFactory;
 
+import com.taskmanagerplus.utils.FailureEvidence;
+
 /**
  * Page object class for handling common notification messages in the Task Manager Plus application.
  * 
  * <p>This class provides methods to interact with notification messages,
- * including retrieving success messages displayed on various pages.</p>
+ * including retrieving success messages displayed on various pages. The toast a test reads
+ * becomes the {@link FailureEvidence} of the test before it is looked up, so a missing toast
+ * replaces the evidence of an earlier lookup too, and is photographed as the full page.</p>
  * 
  * Author: Maicon Fang
  * Date: 2024-07-16
@@ -36,7 +40,8 @@ public class NotificationPage {
      * @return the notification message text
      */
     public String getToastMessageText() {
-        return toastMessage.getText();
+        // The element is a lazy proxy, so the focus moves before the toast is looked up
+        return FailureEvidence.focusOn(toastMessage, "Toast message").getText();
     }
     
     
@@ -46,7 +51,7 @@ public class NotificationPage {
      * @return the WebElement of the confirm remove message
      */
     public WebElement getConfirmRemoveMessage() {
-		return toastContainer;
+		return FailureEvidence.focusOn(toastContainer, "Toast messages");
 	}
     
     /**
@@ -55,7 +60,7 @@ public class NotificationPage {
      * @return the WebElement of the confirm remove message
      */
     public WebElement getSuccessfullyCreatedMessage() {
-		return toastContainer;
+		return FailureEvidence.focusOn(toastContainer, "Toast messages");
 	}
     
     
@@ -10,6 +10,8 @@ import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import com.taskmanagerplus.utils.FailureEvidence;
+
 /**
  * Page object class for the task search page in the Task Manager Plus application.
  * 
@@ -120,11 +122,16 @@ public class TaskSearchPage {
     /**
      * Gets the WebElement of the row corresponding to the specified task title.
      * 
+     * <p>The row becomes the {@link FailureEvidence} of the test; if it is missing, the full page does.</p>
+     * 
      * @param taskTitle the title of the task
      * @return the WebElement of the task row
      */
     public WebElement getTaskRow(String taskTitle) {
-        return driver.findElement(By.xpath("//td[@id='task-search-column-task-title' and text()='" + taskTitle + "']/parent::tr"));
+        // A missing row must not leave the evidence on the element of an earlier lookup
+        FailureEvidence.clear();
+        WebElement taskRow = driver.findElement(By.xpath("//td[@id='task-search-column-task-title' and text()='" + taskTitle + "']/parent::tr"));
+        return FailureEvidence.focusOn(taskRow, "Task row '" + taskTitle + "'");
     }
 
     /**
@@ -302,10 +309,14 @@ public class TaskSearchPage {
     /**
      * Gets the first task on the current page.
      * 
+     * <p>The row becomes the {@link FailureEvidence} of the test; if it is missing, the full page does.</p>
+     * 
      * @return the WebElement of the first task row on the current page
      */
     public WebElement getFirstTaskOnCurrentPage() {
-        return driver.findElement(By.xpath("//tbody/tr[not(contains(@class,'no-content-message'))][1]"));
+        FailureEvidence.clear();
+        WebElement taskRow = driver.findElement(By.xpath("//tbody/tr[not(contains(@class,'no-content-message'))][1]"));
+        return FailureEvidence.focusOn(taskRow, "First task row on the page");
     }
 
     /**
@@ -0,0 +1,411 @@
+package com.taskmanagerplus.reports;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Store of test and step durations across test runs in the Task Manager Plus application.
+ *
+ * <p>The durations of the current run are collected in memory and appended to a JSON-lines file,
+ * by default {@code test-history/durations.jsonl}, when the run finishes. Every line holds one
+ * duration with the run, the git commit and the application version it was measured on. A test
+ * is stored as a whole, as the time spent in each WebDriver command of each page-object method,
+ * which is time spent in the browser and the application, and as the remaining
+ * {@value #HARNESS_STEP} time spent in the test code itself.</p>
+ *
+ * <p>When the run finishes, each duration is compared to the same test or step in the last
+ * {@value #BASELINE_RUNS} runs of other commits; earlier runs of the same commit are left out, so
+ * that a regression does not become part of its own baseline when a commit is run again. A duration is flagged as a regression when at least
+ * {@value #MIN_BASELINE_RUNS} earlier runs measured it and it is more than
+ * {@value #Z_THRESHOLD} standard deviations and {@value #MIN_SLOWDOWN_MILLIS} ms slower than their
+ * mean. The standard deviation is never taken as less than 5% of the mean, so that steps which
+ * always took the same time are not flagged for a few milliseconds.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * DurationHistory.recordTest("com.taskmanagerplus.tests.LoginTest.testLogin()", 1250);
+ * List<DurationHistory.Regression> regressions = DurationHistory.finishRun();
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> The commit is read from {@code -Dgit.sha}, the {@code GIT_COMMIT} or
+ * {@code GITHUB_SHA} environment variables, or {@code git rev-parse}; the application version from
+ * {@code -Dapp.version} or the {@code APP_VERSION} environment variable. An empty
+ * {@code history.file} system property disables the store. The file keeps the last
+ * {@code -Dhistory.maxRuns} runs (default {@value #DEFAULT_MAX_RUNS}); it is compacted to them once
+ * it holds a quarter more.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class DurationHistory {
+
+    private static final Logger logger = LoggerFactory.getLogger(DurationHistory.class);
+
+    /** System property setting the history file; empty disables the store. */
+    public static final String HISTORY_FILE_PROPERTY = "history.file";
+
+    /** System property setting the number of runs kept in the history file. */
+    public static final String MAX_RUNS_PROPERTY = "history.maxRuns";
+
+    /** Step under which the time a test spent outside WebDriver commands is stored. */
+    public static final String HARNESS_STEP = "[harness]";
+
+    static final int BASELINE_RUNS = 20;
+    static final int MIN_BASELINE_RUNS = 5;
+    static final double Z_THRESHOLD = 3.0;
+    static final long MIN_SLOWDOWN_MILLIS = 50;
+    static final int DEFAULT_MAX_RUNS = 100;
+
+    private static final String DEFAULT_HISTORY_FILE = "test-history/durations.jsonl";
+    private static final String UNKNOWN = "unknown";
+    private static final double MIN_RELATIVE_DEVIATION = 0.05;
+    private static final Json JSON = new Json();
+
+    private static final ConcurrentLinkedQueue<Pending> samples = new ConcurrentLinkedQueue<>();
+    private static final Map<String, Long> commandNanos = new ConcurrentHashMap<>();
+
+    /**
+     * One duration of one run.
+     *
+     * @param run the identifier of the run
+     * @param gitSha the git commit the run was measured on
+     * @param appVersion the application version the run was measured on
+     * @param time when the run finished, in epoch milliseconds
+     * @param test the name of the test
+     * @param step the step, or an empty string for the whole test
+     * @param millis the duration in milliseconds
+     */
+    public record Sample(String run, String gitSha, String appVersion, long time, String test, String step, long millis) {
+
+        String key() {
+            return test + "\u0000" + step;
+        }
+    }
+
+    /**
+     * A duration that is significantly slower than in earlier runs.
+     *
+     * @param test the name of the test
+     * @param step the step, or an empty string for the whole test
+     * @param millis the duration in this run, in milliseconds
+     * @param baselineMean the mean duration in the earlier runs, in milliseconds
+     * @param baselineStdDev the standard deviation in the earlier runs, in milliseconds
+     * @param baselineRuns the number of earlier runs that measured the duration
+     * @param zScore the number of standard deviations above the mean
+     */
+    public record Regression(String test, String step, long millis, double baselineMean, double baselineStdDev, int baselineRuns, double zScore) {
+    }
+
+    /**
+     * A duration of the current run, before the run is identified.
+     */
+    private record Pending(String test, String step, long millis) {
+    }
+
+    private DurationHistory() {
+        // private constructor to prevent instantiation
+    }
+
+    /**
+     * Records the time the current test spent in WebDriver commands, by step.
+     *
+     * <p>This must be called before {@link #recordTest(String, long)} for the same test, so that
+     * the {@value #HARNESS_STEP} time can be derived.</p>
+     *
+     * @param test the name of the test
+     * @param stepNanos the nanoseconds spent in each step
+     */
+    public static void recordSteps(String test, Map<String, Long> stepNanos) {
+        long total = 0;
+        for (Map.Entry<String, Long> step : stepNanos.entrySet()) {
+            samples.add(new Pending(test, step.getKey(), TimeUnit.NANOSECONDS.toMillis(step.getValue())));
+            total += step.getValue();
+        }
+        if (total > 0) {
+            commandNanos.merge(test, total, Long::sum);
+        }
+    }
+
+    /**
+     * Records the duration of a test.
+     *
+     * @param test the name of the test
+     * @param millis the duration in milliseconds
+     */
+    public static void recordTest(String test, long millis) {
+        samples.add(new Pending(test, "", millis));
+        Long commands = commandNanos.remove(test);
+        if (commands != null) {
+            samples.add(new Pending(test, HARNESS_STEP, Math.max(0, millis - TimeUnit.NANOSECONDS.toMillis(commands))));
+        }
+    }
+
+    /**
+     * Appends the durations of the current run to the history file and compares them to the earlier runs.
+     *
+     * @return the regressions, slowest first, or an empty list if the store is disabled or nothing was recorded
+     */
+    public static List<Regression> finishRun() {
+        String file = System.getProperty(HISTORY_FILE_PROPERTY, DEFAULT_HISTORY_FILE);
+        List<Sample> run = new ArrayList<>();
+        String runId = UUID.randomUUID().toString();
+        String gitSha = resolveGitSha();
+        String appVersion = firstNonBlank(System.getProperty("app.version"), System.getenv("APP_VERSION"));
+        long time = Instant.now().toEpochMilli();
+        for (Pending pending; (pending = samples.poll()) != null;) {
+            run.add(new Sample(runId, gitSha, appVersion, time, pending.test(), pending.step(), pending.millis()));
+        }
+        commandNanos.clear();
+        if (file.isBlank() || run.isEmpty()) {
+            return List.of();
+        }
+        try {
+            Path path = Path.of(file);
+            Map<String, String> runs = Files.exists(path) ? readRuns(path) : Map.of();
+            List<Regression> regressions = runs.isEmpty() ? List.of() : compare(path, run, runs);
+            append(path, run);
+            logger.info("Stored {} durations of commit {} in {}", run.size(), gitSha, path.toAbsolutePath());
+            int maxRuns = Math.max(BASELINE_RUNS, Integer.getInteger(MAX_RUNS_PROPERTY, DEFAULT_MAX_RUNS));
+            if (runs.size() + 1 > maxRuns + maxRuns / 4) {
+                prune(path, maxRuns);
+            }
+            return regressions;
+        } catch (IOException e) {
+            logger.error("Failed to update the duration history {}", file, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * Compares the durations of a run to the last {@value #BASELINE_RUNS} runs of other commits in a history file.
+     *
+     * @param history the history file
+     * @param run the durations of the run
+     * @return the regressions, slowest first
+     * @throws IOException if the history cannot be read
+     */
+    public static List<Regression> compare(Path history, List<Sample> run) throws IOException {
+        return compare(history, run, readRuns(history));
+    }
+
+    /**
+     * Keeps only the last runs of a history file.
+     *
+     * @param history the history file
+     * @param maxRuns the number of runs to keep
+     * @throws IOException if the file cannot be rewritten
+     */
+    public static void prune(Path history, int maxRuns) throws IOException {
+        Map<String, String> runs = readRuns(history);
+        if (runs.size() <= maxRuns) {
+            return;
+        }
+        Set<String> kept = new HashSet<>(runs.keySet().stream().skip(runs.size() - maxRuns).toList());
+        List<Sample> samples = new ArrayList<>();
+        forEachSample(history, sample -> {
+            if (kept.contains(sample.run())) {
+                samples.add(sample);
+            }
+        });
+        // Written next to the file and moved over it, so that an interrupted run never truncates the history
+        Path pruned = history.resolveSibling(history.getFileName() + ".tmp");
+        Files.deleteIfExists(pruned);
+        append(pruned, samples);
+        Files.move(pruned, history, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.info("Pruned the duration history {} to its last {} runs", history.toAbsolutePath(), maxRuns);
+    }
+
+    /**
+     * Reads the runs of a history file with their commits, in the order they were stored.
+     */
+    private static Map<String, String> readRuns(Path history) throws IOException {
+        Map<String, String> runs = new LinkedHashMap<>();
+        forEachSample(history, sample -> runs.putIfAbsent(sample.run(), sample.gitSha()));
+        return runs;
+    }
+
+    private static List<Regression> compare(Path history, List<Sample> run, Map<String, String> runs) throws IOException {
+        // Runs of the commit being measured are left out, an unknown commit cannot be told apart
+        Set<String> currentShas = new HashSet<>();
+        run.forEach(sample -> currentShas.add(sample.gitSha()));
+        currentShas.remove(UNKNOWN);
+        List<String> earlier = runs.entrySet().stream()
+                .filter(entry -> !currentShas.contains(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+        Set<String> baseline = new HashSet<>(earlier.subList(Math.max(0, earlier.size() - BASELINE_RUNS), earlier.size()));
+        Set<String> keys = new HashSet<>();
+        run.forEach(sample -> keys.add(sample.key()));
+        Map<String, Stats> stats = new HashMap<>();
+        forEachSample(history, sample -> {
+            if (baseline.contains(sample.run()) && keys.contains(sample.key())) {
+                stats.computeIfAbsent(sample.key(), key -> new Stats()).add(sample.run(), sample.millis());
+            }
+        });
+
+        List<Regression> regressions = new ArrayList<>();
+        for (Sample sample : run) {
+            Stats baselineStats = stats.get(sample.key());
+            if (baselineStats == null || baselineStats.runs.size() < MIN_BASELINE_RUNS) {
+                continue;
+            }
+            double mean = baselineStats.mean;
+            double stdDev = Math.max(baselineStats.stdDev(), mean * MIN_RELATIVE_DEVIATION);
+            double zScore = stdDev > 0 ? (sample.millis() - mean) / stdDev : 0;
+            if (zScore >= Z_THRESHOLD && sample.millis() - mean >= MIN_SLOWDOWN_MILLIS) {
+                regressions.add(new Regression(sample.test(), sample.step(), sample.millis(), mean, baselineStats.stdDev(), baselineStats.runs.size(), zScore));
+            }
+        }
+        regressions.sort(Comparator.comparingDouble((Regression regression) -> regression.millis() - regression.baselineMean()).reversed());
+        return regressions;
+    }
+
+    /**
+     * Builds the table of regressions, with a header row.
+     *
+     * @param regressions the regressions
+     * @return the table
+     */
+    public static String[][] toTable(List<Regression> regressions) {
+        String[][] table = new String[regressions.size() + 1][];
+        table[0] = new String[] {"Test", "Step", "ms", "Baseline mean ms", "Baseline std dev ms", "Baseline runs", "z-score"};
+        for (int i = 0; i < regressions.size(); i++) {
+            Regression regression = regressions.get(i);
+            table[i + 1] = new String[] {regression.test(), regression.step().isEmpty() ? "(test)" : regression.step(),
+                    String.valueOf(regression.millis()), String.format(Locale.ROOT, "%.1f", regression.baselineMean()),
+                    String.format(Locale.ROOT, "%.1f", regression.baselineStdDev()), String.valueOf(regression.baselineRuns()),
+                    String.format(Locale.ROOT, "%.1f", regression.zScore())};
+        }
+        return table;
+    }
+
+    /**
+     * Appends durations to a history file.
+     *
+     * @param history the history file
+     * @param run the durations
+     * @throws IOException if the file cannot be written
+     */
+    public static void append(Path history, List<Sample> run) throws IOException {
+        if (history.getParent() != null) {
+            Files.createDirectories(history.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(history, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (Sample sample : run) {
+                Map<String, Object> line = new LinkedHashMap<>();
+                line.put("run", sample.run());
+                line.put("sha", sample.gitSha());
+                line.put("version", sample.appVersion());
+                line.put("time", sample.time());
+                line.put("test", sample.test());
+                line.put("step", sample.step());
+                line.put("millis", sample.millis());
+                StringWriter json = new StringWriter();
+                JSON.newOutput(json).setPrettyPrint(false).write(line);
+                writer.write(json.toString());
+                writer.write('\n');
+            }
+        }
+    }
+
+    private static void forEachSample(Path history, Consumer<Sample> consumer) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(history, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    Map<String, Object> values = JSON.toType(line, Json.MAP_TYPE);
+                    consumer.accept(new Sample(String.valueOf(values.get("run")), String.valueOf(values.get("sha")),
+                            String.valueOf(values.get("version")), ((Number) values.get("time")).longValue(),
+                            String.valueOf(values.get("test")), String.valueOf(values.get("step")), ((Number) values.get("millis")).longValue()));
+                } catch (JsonException | ClassCastException | NullPointerException e) {
+                    logger.warn("Skipping a malformed duration: {}", line);
+                }
+            }
+        }
+    }
+
+    private static String resolveGitSha() {
+        String sha = firstNonBlank(System.getProperty("git.sha"), System.getenv("GIT_COMMIT"), System.getenv("GITHUB_SHA"));
+        if (!UNKNOWN.equals(sha)) {
+            return sha;
+        }
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            if (process.waitFor(5, TimeUnit.SECONDS) && process.exitValue() == 0 && !output.isEmpty()) {
+                return output;
+            }
+        } catch (IOException e) {
+            logger.debug("git is not available", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return UNKNOWN;
+    }
+
+    private static String firstNonBlank(String... values) {
+        for (String value : values) {
+            if (value != null && !value.isBlank()) {
+                return value;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * Running mean and variance of one test or step over the baseline runs, by Welford's method.
+     */
+    private static final class Stats {
+
+        private final Set<String> runs = new LinkedHashSet<>();
+        private int count;
+        private double mean;
+        private double m2;
+
+        void add(String run, long millis) {
+            runs.add(run);
+            count++;
+            double delta = millis - mean;
+            mean += delta / count;
+            m2 += delta * (millis - mean);
+        }
+
+        double stdDev() {
+            return count > 1 ? Math.sqrt(m2 / (count - 1)) : 0;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.taskmanagerplus.reports;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.aventstack.extentreports.model.ScreenCapture;
+
+/**
+ * Utility class for rendering the event log of {@link EventLogReporter} into an HTML report in the Task Manager Plus application.
+ *
+ * <p>The log is read twice, line by line. The first pass counts the tests by final status for the
+ * summary; the second writes each test to the report as soon as its {@code end} event is read, so
+ * only the tests still open at that point of the log are held in memory. Tests without an
+ * {@code end} event, such as those of an aborted run, are written at the end with the status
+ * {@code unknown}.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * EventLogRenderer.render(Path.of("test-output/ExtentReport.jsonl"), Path.of("test-output/ExtentReport.html"));
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> Log details are written as they are, since the report logs HTML markup such as
+ * tables; test names and stack traces are escaped. Base64 screenshots are embedded as images,
+ * screenshots saved to a file are linked. The renderer can also be run on its own, with
+ * the log and report files as arguments.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class EventLogRenderer {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventLogRenderer.class);
+
+    private static final Json JSON = new Json();
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+    private static final String UNKNOWN = "unknown";
+
+    private static final String STYLE = """
+            body{font-family:sans-serif;margin:24px;color:#222}
+            .summary span{display:inline-block;margin-right:16px;font-weight:bold}
+            details{border:1px solid #ddd;border-radius:4px;margin:6px 0;padding:6px 10px}
+            summary{cursor:pointer}
+            table{border-collapse:collapse;width:100%;margin-top:8px}
+            td{border-top:1px solid #eee;padding:4px;vertical-align:top}
+            pre{white-space:pre-wrap;margin:0;font-size:12px}
+            img{max-width:100%;border:1px solid #ddd}
+            .pass{color:#2e7d32}.fail{color:#c62828}.skip{color:#f9a825}.warning{color:#ef6c00}
+            .info{color:#1565c0}.unknown{color:#757575}
+            """;
+
+    /**
+     * A test whose {@code end} event has not been read yet.
+     */
+    private static final class OpenTest {
+
+        private final String name;
+        private final long started;
+        private final StringBuilder rows = new StringBuilder();
+
+        OpenTest(String name, long started) {
+            this.name = name;
+            this.started = started;
+        }
+    }
+
+    // private constructor to prevent instantiation
+    private EventLogRenderer() {
+    }
+
+    /**
+     * Renders the command-line event log into the HTML report.
+     *
+     * @param args the event log and the HTML report
+     * @throws IOException if a file cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: EventLogRenderer <event log> <html report>");
+            System.exit(2);
+        }
+        render(Path.of(args[0]), Path.of(args[1]));
+    }
+
+    /**
+     * Renders an event log into an HTML report.
+     *
+     * @param eventLog the JSON-lines file written by {@link EventLogReporter}
+     * @param report the HTML file to write
+     * @return the number of tests in the report
+     * @throws IOException if a file cannot be read or written
+     */
+    public static int render(Path eventLog, Path report) throws IOException {
+        Map<String, Integer> counts = countStatuses(eventLog);
+        int tests = counts.values().stream().mapToInt(Integer::intValue).sum();
+        if (report.getParent() != null) {
+            Files.createDirectories(report.getParent());
+        }
+        try (BufferedReader reader = Files.newBufferedReader(eventLog, StandardCharsets.UTF_8);
+                Writer writer = new BufferedWriter(Files.newBufferedWriter(report, StandardCharsets.UTF_8))) {
+            writer.write("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\"><title>Automation Test Report</title><style>");
+            writer.write(STYLE);
+            writer.write("</style></head><body>\n<h1>Automation Test Results</h1>\n<div class=\"summary\"><span>Tests: " + tests + "</span>");
+            for (Map.Entry<String, Integer> count : counts.entrySet()) {
+                writer.write("<span class=\"" + count.getKey() + "\">" + escape(count.getKey()) + ": " + count.getValue() + "</span>");
+            }
+            writer.write("</div>\n");
+
+            Map<Long, OpenTest> openTests = new LinkedHashMap<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Map<String, Object> event = parse(line);
+                if (event == null) {
+                    continue;
+                }
+                long id = number(event.get("test"));
+                long time = number(event.get("time"));
+                switch (String.valueOf(event.get("event"))) {
+                    case "test" -> openTests.put(id, new OpenTest(String.valueOf(event.get("name")), time));
+                    case "log" -> appendLog(openTests.computeIfAbsent(id, key -> new OpenTest("Test " + key, time)), event, time);
+                    case "media" -> appendMedia(openTests.computeIfAbsent(id, key -> new OpenTest("Test " + key, time)), event);
+                    case "end" -> {
+                        OpenTest open = openTests.remove(id);
+                        if (open != null) {
+                            writeTest(writer, open, status(event), time, number(event.get("droppedLogs")));
+                        }
+                    }
+                    default -> logger.debug("Skipping unknown event {}", event.get("event"));
+                }
+            }
+            for (OpenTest open : openTests.values()) {
+                writeTest(writer, open, UNKNOWN, open.started, 0);
+            }
+            writer.write("</body></html>\n");
+        }
+        logger.info("Rendered {} tests from {} into {}", tests, eventLog, report);
+        return tests;
+    }
+
+    private static Map<String, Integer> countStatuses(Path eventLog) throws IOException {
+        Map<Long, String> statuses = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(eventLog, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Map<String, Object> event = parse(line);
+                if (event == null) {
+                    continue;
+                }
+                switch (String.valueOf(event.get("event"))) {
+                    case "test" -> statuses.put(number(event.get("test")), UNKNOWN);
+                    case "end" -> statuses.put(number(event.get("test")), status(event));
+                    default -> {
+                    }
+                }
+            }
+        }
+        Map<String, Integer> counts = new TreeMap<>();
+        statuses.values().forEach(status -> counts.merge(status, 1, Integer::sum));
+        return counts;
+    }
+
+    private static void appendLog(OpenTest open, Map<String, Object> event, long time) {
+        String status = status(event);
+        open.rows.append("<tr><td>").append(TIME_FORMAT.format(Instant.ofEpochMilli(time)))
+                .append("</td><td class=\"").append(status).append("\">").append(status).append("</td><td>");
+        if (event.get("details") != null) {
+            open.rows.append(event.get("details"));
+        }
+        if (event.get("exception") != null) {
+            open.rows.append("<pre>").append(escape(String.valueOf(event.get("exception")))).append("</pre>");
+        }
+        if (event.get("path") != null || event.get("base64") != null) {
+            appendImage(open, event);
+        }
+        open.rows.append("</td></tr>\n");
+    }
+
+    private static void appendMedia(OpenTest open, Map<String, Object> event) {
+        open.rows.append("<tr><td></td><td></td><td>");
+        appendImage(open, event);
+        open.rows.append("</td></tr>\n");
+    }
+
+    private static void appendImage(OpenTest open, Map<String, Object> event) {
+        Object title = event.get("title");
+        String label = title != null ? escape(String.valueOf(title)) : "screenshot";
+        if (event.get("base64") != null) {
+            // Base64 screenshots have no file, so they are embedded in the report
+            String base64 = String.valueOf(event.get("base64"));
+            String source = base64.startsWith("data:") ? base64 : ScreenCapture.BASE64_ENCODED + base64;
+            open.rows.append("<img src=\"").append(escape(source)).append("\" alt=\"").append(label).append("\">");
+            return;
+        }
+        String path = escape(String.valueOf(event.get("path")));
+        open.rows.append("<a href=\"").append(path).append("\">").append(label).append("</a>");
+    }
+
+    private static void writeTest(Writer writer, OpenTest open, String status, long ended, long droppedLogs) throws IOException {
+        writer.write("<details><summary><span class=\"" + status + "\">" + status + "</span> " + escape(open.name)
+                + " <small>" + TIME_FORMAT.format(Instant.ofEpochMilli(open.started)) + ", "
+                + Math.max(0, ended - open.started) + " ms</small></summary>\n<table>\n");
+        writer.write(open.rows.toString());
+        if (droppedLogs > 0) {
+            writer.write("<tr><td></td><td></td><td><i>" + droppedLogs + " further log entries were not recorded</i></td></tr>\n");
+        }
+        writer.write("</table></details>\n");
+    }
+
+    private static Map<String, Object> parse(String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+        try {
+            return JSON.toType(line, Json.MAP_TYPE);
+        } catch (JsonException e) {
+            // The last line of an interrupted run may be incomplete
+            logger.warn("Skipping a malformed event: {}", line);
+            return null;
+        }
+    }
+
+    private static String status(Map<String, Object> event) {
+        Object status = event.get("status");
+        return status == null ? UNKNOWN : String.valueOf(status).toLowerCase();
+    }
+
+    private static long number(Object value) {
+        return value instanceof Number number ? number.longValue() : 0;
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
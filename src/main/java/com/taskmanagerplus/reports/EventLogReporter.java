@@ -0,0 +1,294 @@
+package com.taskmanagerplus.reports;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.aventstack.extentreports.model.Log;
+import com.aventstack.extentreports.model.Media;
+import com.aventstack.extentreports.model.ScreenCapture;
+import com.aventstack.extentreports.model.Test;
+import com.aventstack.extentreports.observer.LogObserver;
+import com.aventstack.extentreports.observer.MediaObserver;
+import com.aventstack.extentreports.observer.TestObserver;
+import com.aventstack.extentreports.observer.entity.LogEntity;
+import com.aventstack.extentreports.observer.entity.MediaEntity;
+import com.aventstack.extentreports.observer.entity.ObservedEntity;
+import com.aventstack.extentreports.observer.entity.TestEntity;
+
+import io.reactivex.rxjava3.core.Observer;
+import io.reactivex.rxjava3.disposables.Disposable;
+
+/**
+ * ExtentReports observer appending every report event to a JSON-lines file in the Task Manager Plus application.
+ *
+ * <p>Each line of the file is one event: {@code test} when a test is created, {@code log} for
+ * every log entry, {@code media} for every screenshot, by path or as Base64, and {@code end} with
+ * the final status when a test is removed from the report or the log is closed. Events are written as they happen, so
+ * {@link ExtentReportManager} can drop each finished test from the in-memory report and the heap
+ * no longer grows with the number of tests. {@link EventLogRenderer} turns the file into HTML
+ * after the run.</p>
+ *
+ * <p>Memory and file size stay bounded per test as well: details longer than
+ * {@value #MAX_DETAILS_LENGTH} characters are truncated, and log entries beyond
+ * {@code -Dreport.eventlog.maxLogsPerTest} (default {@value #DEFAULT_MAX_LOGS_PER_TEST}) are
+ * counted in the {@code end} event instead of being written.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * EventLogReporter eventLog = new EventLogReporter(Path.of("test-output/ExtentReport.jsonl"));
+ * extent.attachReporter(eventLog);
+ * // ... run the tests ...
+ * eventLog.close();
+ * }
+ * </pre>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class EventLogReporter implements TestObserver<ObservedEntity>, LogObserver<ObservedEntity>, MediaObserver<ObservedEntity>, Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventLogReporter.class);
+
+    /** System property limiting the log entries written per test. */
+    public static final String MAX_LOGS_PROPERTY = "report.eventlog.maxLogsPerTest";
+
+    static final int DEFAULT_MAX_LOGS_PER_TEST = 1000;
+    static final int MAX_DETAILS_LENGTH = 32_768;
+
+    private static final Json JSON = new Json();
+
+    private final Path file;
+    private final Writer writer;
+    private final int maxLogsPerTest = Integer.getInteger(MAX_LOGS_PROPERTY, DEFAULT_MAX_LOGS_PER_TEST);
+    private final Map<Integer, OpenTest> openTests = new HashMap<>();
+    private boolean closed;
+
+    /**
+     * Per-test counters kept until the test ends.
+     */
+    private static final class OpenTest {
+
+        private final Test test;
+        private int logs;
+        private int droppedLogs;
+
+        OpenTest(Test test) {
+            this.test = test;
+        }
+    }
+
+    /**
+     * Creates the event log, replacing an existing file.
+     *
+     * @param file the JSON-lines file
+     * @throws UncheckedIOException if the file cannot be created
+     */
+    public EventLogReporter(Path file) {
+        this.file = file;
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            this.writer = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create the event log " + file, e);
+        }
+    }
+
+    /**
+     * Gets the file the events are written to.
+     *
+     * @return the JSON-lines file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public Observer<TestEntity> getTestObserver() {
+        return new EntityObserver<>() {
+            @Override
+            public void onNext(TestEntity entity) {
+                if (Boolean.TRUE.equals(entity.getRemoved())) {
+                    testEnded(entity.getTest());
+                } else {
+                    testCreated(entity.getTest());
+                }
+            }
+        };
+    }
+
+    @Override
+    public Observer<LogEntity> getLogObserver() {
+        return new EntityObserver<>() {
+            @Override
+            public void onNext(LogEntity entity) {
+                logCreated(entity.getLog(), entity.getTest());
+            }
+        };
+    }
+
+    @Override
+    public Observer<MediaEntity> getMediaObserver() {
+        return new EntityObserver<>() {
+            @Override
+            public void onNext(MediaEntity entity) {
+                mediaAdded(entity.getMedia(), entity.getTest());
+            }
+        };
+    }
+
+    /**
+     * Writes the buffered events to the file.
+     */
+    public synchronized void flush() {
+        if (closed) {
+            return;
+        }
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            logger.error("Failed to flush the event log {}", file, e);
+        }
+    }
+
+    /**
+     * Ends every open test and closes the file.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        for (OpenTest open : openTests.values().toArray(new OpenTest[0])) {
+            testEnded(open.test);
+        }
+        closed = true;
+        writer.close();
+    }
+
+    private synchronized void testCreated(Test test) {
+        openTests.put(test.getId(), new OpenTest(test));
+        Map<String, Object> event = event("test", test, test.getStartTime());
+        event.put("name", test.getName());
+        if (test.getDescription() != null) {
+            event.put("description", test.getDescription());
+        }
+        write(event);
+    }
+
+    private synchronized void testEnded(Test test) {
+        OpenTest open = openTests.remove(test.getId());
+        if (open == null) {
+            return;
+        }
+        Map<String, Object> event = event("end", test, new Date());
+        event.put("status", test.getStatus().toString());
+        if (open.droppedLogs > 0) {
+            event.put("droppedLogs", open.droppedLogs);
+        }
+        write(event);
+    }
+
+    private synchronized void logCreated(Log log, Test test) {
+        OpenTest open = openTests.computeIfAbsent(test.getId(), id -> new OpenTest(test));
+        if (open.logs >= maxLogsPerTest) {
+            open.droppedLogs++;
+            return;
+        }
+        open.logs++;
+        Map<String, Object> event = event("log", test, log.getTimestamp());
+        event.put("status", log.getStatus().toString());
+        if (log.getDetails() != null && !log.getDetails().isEmpty()) {
+            event.put("details", truncate(log.getDetails()));
+        }
+        if (log.hasException()) {
+            event.put("exception", truncate(log.getException().getStackTrace()));
+        }
+        if (log.hasMedia()) {
+            putMedia(event, log.getMedia());
+        }
+        write(event);
+    }
+
+    private synchronized void mediaAdded(Media media, Test test) {
+        Map<String, Object> event = event("media", test, new Date());
+        putMedia(event, media);
+        write(event);
+    }
+
+    private static Map<String, Object> event(String type, Test test, Date time) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("event", type);
+        event.put("test", test.getId());
+        event.put("time", (time == null ? new Date() : time).getTime());
+        return event;
+    }
+
+    private static void putMedia(Map<String, Object> event, Media media) {
+        if (media instanceof ScreenCapture capture && capture.getBase64() != null) {
+            event.put("base64", capture.getBase64());
+        } else {
+            event.put("path", media.getResolvedPath() != null ? media.getResolvedPath() : media.getPath());
+        }
+        if (media.getTitle() != null) {
+            event.put("title", media.getTitle());
+        }
+    }
+
+    private static String truncate(String value) {
+        return value == null || value.length() <= MAX_DETAILS_LENGTH ? value : value.substring(0, MAX_DETAILS_LENGTH) + "... (truncated)";
+    }
+
+    private void write(Map<String, Object> event) {
+        if (closed) {
+            return;
+        }
+        try {
+            StringWriter line = new StringWriter();
+            JSON.newOutput(line).setPrettyPrint(false).write(event);
+            writer.write(line.toString());
+            writer.write('\n');
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to write to the event log {}", file, e);
+        }
+    }
+
+    /**
+     * Observer of one kind of report entity; the subscription and completion signals carry no data.
+     */
+    private abstract static class EntityObserver<T> implements Observer<T> {
+
+        @Override
+        public void onSubscribe(Disposable disposable) {
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            logger.error("Report event stream failed", throwable);
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
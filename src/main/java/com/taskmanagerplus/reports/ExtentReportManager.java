@@ -1,12 +1,22 @@
 package com.taskmanagerplus.reports;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
-import com.taskmanagerplus.utils.EnvironmentUtils;
+import com.taskmanagerplus.utils.EnvironmentMetadataService;
+import com.taskmanagerplus.utils.EnvironmentMetadataService.EnvironmentMetadata;
 
 import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Utility class for managing ExtentReports in the Task Manager Plus application.
@@ -14,6 +24,13 @@ import org.openqa.selenium.WebDriver;
  * <p>This class provides methods to set up and manage ExtentReports, create test entries,
  * and retrieve the current test instance. It also adds environment information to the report.</p>
  * 
+ * <p>The {@code report.backend} system property chooses how the report is written. The default,
+ * {@code extent}, keeps every test in memory and regenerates the Spark HTML report on each
+ * {@link #flush()}. With {@code eventlog}, the events of each test are appended to
+ * {@code test-output/ExtentReport.jsonl} by {@link EventLogReporter} as they happen, each test is
+ * dropped from memory once the next one is created, and {@link EventLogRenderer} renders the HTML
+ * report from the log in {@link #close()}, so memory stays flat however long the run is.</p>
+ * 
  * <p>Example usage:</p>
  * <pre>
  * {@code
@@ -21,6 +38,7 @@ import org.openqa.selenium.WebDriver;
  * ExtentTest test = ExtentReportManager.createTest("Test Name");
  * test.log(Status.INFO, "This is a log message.");
  * ExtentReportManager.flush();
+ * ExtentReportManager.close();
  * }
  * </pre>
  * 
@@ -31,24 +49,36 @@ import org.openqa.selenium.WebDriver;
  * Version: 1.0
  */
 public class ExtentReportManager {
+    private static final Logger logger = LoggerFactory.getLogger(ExtentReportManager.class);
+
+    /** System property choosing the report backend, {@code extent} or {@code eventlog}. */
+    public static final String BACKEND_PROPERTY = "report.backend";
+
     private static ExtentReports extent;
     private static ExtentTest test;
     private static ExtentSparkReporter htmlReporter;
+    private static EventLogReporter eventLog;
+    private static final Set<EnvironmentMetadata> reportedEnvironments = new HashSet<>();
     private static String reportFileName = "ExtentReport.html";
     private static String reportFilePath = System.getProperty("user.dir") + "/test-output/" + reportFileName;
+    private static String eventLogFilePath = System.getProperty("user.dir") + "/test-output/ExtentReport.jsonl";
 
     /**
      * Sets up the ExtentReports instance and configures the reporter.
      */
     public static synchronized void setUp() {
         if (extent == null) {
+            extent = new ExtentReports();
+            if ("eventlog".equalsIgnoreCase(System.getProperty(BACKEND_PROPERTY, "extent"))) {
+                eventLog = new EventLogReporter(Path.of(eventLogFilePath));
+                extent.attachReporter(eventLog);
+                return;
+            }
             htmlReporter = new ExtentSparkReporter(reportFilePath);
             htmlReporter.config().setTheme(Theme.STANDARD);
             htmlReporter.config().setDocumentTitle("Automation Test Report");
             htmlReporter.config().setEncoding("utf-8");
             htmlReporter.config().setReportName("Automation Test Results");
-
-            extent = new ExtentReports();
             extent.attachReporter(htmlReporter);
         }
     }
@@ -56,7 +86,10 @@ public class ExtentReportManager {
     /**
      * Gets the singleton instance of ExtentReports.
      * 
-     * @param driver the WebDriver instance
+     * <p>The environment of the driver is added to the report the first time its browser
+     * configuration is seen; see {@link EnvironmentMetadataService}.</p>
+     * 
+     * @param driver the WebDriver instance, or null
      * @return the singleton instance of {@link ExtentReports}
      */
     public static synchronized ExtentReports getInstance(WebDriver driver) {
@@ -64,10 +97,14 @@ public class ExtentReportManager {
             setUp();
         }
         if (driver != null) {
-            // Adding environment information
-            extent.setSystemInfo("OS", EnvironmentUtils.getOS());
-            extent.setSystemInfo("Browser", EnvironmentUtils.getBrowserName(driver));
-            extent.setSystemInfo("Browser Version", EnvironmentUtils.getBrowserVersion(driver));
+            // Adding environment information, once per browser configuration
+            EnvironmentMetadata metadata = EnvironmentMetadataService.get(driver);
+            if (reportedEnvironments.isEmpty()) {
+                metadata.getHostInfo().forEach(extent::setSystemInfo);
+            }
+            if (reportedEnvironments.add(metadata)) {
+                metadata.getBrowserInfo().forEach(extent::setSystemInfo);
+            }
         }
         return extent;
     }
@@ -75,11 +112,26 @@ public class ExtentReportManager {
     /**
      * Creates a new test entry in the ExtentReports instance.
      * 
+     * <p>Events published to the {@link ReportingEventBus} for the previous test are delivered first.
+     * With the event-log backend, the previous test is complete by now and is removed from
+     * memory; its events are already in the log.</p>
+     * 
      * @param testName the name of the test
      * @return the created {@link ExtentTest} instance
      */
-    public static synchronized ExtentTest createTest(String testName) {
-        test = getInstance(null).createTest(testName);
+    public static ExtentTest createTest(String testName) {
+        // Deliver the events of the previous test before it stops being the current one; outside the
+        // lock, since the sinks delivering them need it to look up the current test
+        ReportingEventBus.flush();
+        return switchTest(testName);
+    }
+
+    private static synchronized ExtentTest switchTest(String testName) {
+        ExtentReports instance = getInstance(null);
+        if (eventLog != null && test != null) {
+            instance.removeTest(test);
+        }
+        test = instance.createTest(testName);
         return test;
     }
 
@@ -96,6 +148,31 @@ public class ExtentReportManager {
         return test;
     }
 
+    /**
+     * Gets the current ExtentTest instance, if a test has been created.
+     * 
+     * @return the current {@link ExtentTest} instance, or null
+     */
+    public static synchronized ExtentTest findTest() {
+        return test;
+    }
+
+    /**
+     * Adds a standalone entry holding a summary table, such as the statistics of the test run.
+     * 
+     * <p>The entry does not replace the current test returned by {@link #getTest()}.</p>
+     * 
+     * @param title the title of the entry
+     * @param table the table to add, with the header in its first row
+     */
+    public static synchronized void addSummaryTable(String title, String[][] table) {
+        ExtentTest summary = getInstance(null).createTest(title);
+        summary.log(Status.INFO, MarkupHelper.createTable(table));
+        if (eventLog != null) {
+            extent.removeTest(summary);
+        }
+    }
+
     /**
      * Flushes the ExtentReports instance, writing all logs and information to the report.
      */
@@ -103,5 +180,30 @@ public class ExtentReportManager {
         if (extent != null) {
             extent.flush();
         }
+        if (eventLog != null) {
+            eventLog.flush();
+        }
+    }
+
+    /**
+     * Flushes the report at the end of the run; with the event-log backend, also closes the log and
+     * renders it into the HTML report.
+     */
+    public static synchronized void close() {
+        flush();
+        // The next report lists its environments again, whichever backend wrote this one
+        reportedEnvironments.clear();
+        if (eventLog == null) {
+            return;
+        }
+        try {
+            eventLog.close();
+            EventLogRenderer.render(eventLog.getFile(), Path.of(reportFilePath));
+        } catch (IOException e) {
+            logger.error("Failed to render the report from {}", eventLog.getFile(), e);
+        }
+        eventLog = null;
+        extent = null;
+        test = null;
     }
 }
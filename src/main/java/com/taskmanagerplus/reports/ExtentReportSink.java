@@ -0,0 +1,57 @@
+package com.taskmanagerplus.reports;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.MediaEntityBuilder;
+import com.aventstack.extentreports.markuputils.ExtentColor;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+
+/**
+ * Report sink logging the events of the {@link ReportingEventBus} to the Extent report in the Task Manager Plus application.
+ *
+ * <p>Each event is logged to the Extent test that was current when it was published. Image
+ * attachments are embedded as Base64 screenshots; other attachments are embedded as code blocks
+ * when they are text, up to {@value #MAX_TEXT_LENGTH} characters, and are otherwise only named.</p>
+ *
+ * <p><b>Note:</b> This sink is registered by default, with a blocking queue so that no event is
+ * missing from the report.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class ExtentReportSink implements ReportSink<ExtentTest> {
+
+    static final int MAX_TEXT_LENGTH = 20_000;
+
+    @Override
+    public String getName() {
+        return "extent";
+    }
+
+    @Override
+    public ExtentTest capture(ReportEvent event) {
+        return ExtentReportManager.findTest();
+    }
+
+    @Override
+    public void accept(ReportEvent event, ExtentTest test) {
+        switch (event.type()) {
+            case STEP -> test.log(event.status(), MarkupHelper.createLabel(event.message(), ExtentColor.GREY));
+            case LOG -> test.log(event.status(), event.message());
+            case ATTACHMENT -> {
+                if (event.isImage()) {
+                    String base64 = Base64.getEncoder().encodeToString(event.content());
+                    test.info(event.message(), MediaEntityBuilder.createScreenCaptureFromBase64String(base64, event.message()).build());
+                } else if (event.mimeType() != null && event.mimeType().startsWith("text/") && event.content().length <= MAX_TEXT_LENGTH) {
+                    test.info(event.message());
+                    test.info(MarkupHelper.createCodeBlock(new String(event.content(), StandardCharsets.UTF_8)));
+                } else {
+                    test.info(event.message() + " (" + event.mimeType() + ", " + event.content().length + " bytes)");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.taskmanagerplus.reports;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.taskmanagerplus.utils.LoggingContext;
+
+/**
+ * Report sink writing the events of the {@link ReportingEventBus} to the log in the Task Manager Plus application.
+ *
+ * <p>Steps and messages are logged at the level matching their status, with the
+ * {@link LoggingContext} of the publishing test, since the log is read alongside the output of
+ * parallel tests. Attachments are logged by name and size only.</p>
+ *
+ * <p><b>Note:</b> This sink is registered by default; it drops the oldest events when it falls
+ * behind, since the reports hold the same information.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class LogReportSink implements ReportSink<Map<String, String>> {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogReportSink.class);
+
+    @Override
+    public String getName() {
+        return "log";
+    }
+
+    @Override
+    public Map<String, String> capture(ReportEvent event) {
+        return LoggingContext.snapshot();
+    }
+
+    @Override
+    public void accept(ReportEvent event, Map<String, String> context) {
+        LoggingContext.restore(context);
+        try {
+            switch (event.type()) {
+                case STEP -> logger.info("Step: {}", event.message());
+                case LOG -> {
+                    switch (event.status()) {
+                        case FAIL -> logger.error(event.message());
+                        case WARNING, SKIP -> logger.warn(event.message());
+                        default -> logger.info(event.message());
+                    }
+                }
+                case ATTACHMENT -> logger.debug("Attachment {} ({}, {} bytes)", event.message(), event.mimeType(), event.content().length);
+            }
+        } finally {
+            LoggingContext.clear();
+        }
+    }
+}
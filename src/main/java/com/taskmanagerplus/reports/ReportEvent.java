@@ -0,0 +1,81 @@
+package com.taskmanagerplus.reports;
+
+import java.time.Instant;
+
+import com.aventstack.extentreports.Status;
+
+/**
+ * Event published to the {@link ReportingEventBus} in the Task Manager Plus application.
+ *
+ * <p>An event is a test step, a log message or an attachment such as a screenshot or the page
+ * source. Events are immutable and are delivered to every registered {@link ReportSink}.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * ReportingEventBus.publish(ReportEvent.log(Status.INFO, "Login page loaded"));
+ * }
+ * </pre>
+ *
+ * @param type the kind of event
+ * @param status the status of a step or log message
+ * @param message the step or log message, or the name of an attachment
+ * @param mimeType the MIME type of an attachment, or null
+ * @param content the content of an attachment, or null
+ * @param time when the event was published
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public record ReportEvent(Type type, Status status, String message, String mimeType, byte[] content, Instant time) {
+
+    /**
+     * The kinds of report events.
+     */
+    public enum Type {
+        STEP, LOG, ATTACHMENT
+    }
+
+    /**
+     * Creates a passed test step.
+     *
+     * @param name the name of the step
+     * @return the event
+     */
+    public static ReportEvent step(String name) {
+        return new ReportEvent(Type.STEP, Status.PASS, name, null, null, Instant.now());
+    }
+
+    /**
+     * Creates a log message.
+     *
+     * @param status the status of the message
+     * @param message the message
+     * @return the event
+     */
+    public static ReportEvent log(Status status, String message) {
+        return new ReportEvent(Type.LOG, status, message, null, null, Instant.now());
+    }
+
+    /**
+     * Creates an attachment.
+     *
+     * @param name the name of the attachment
+     * @param mimeType the MIME type, such as {@code image/png} or {@code text/html}
+     * @param content the content
+     * @return the event
+     */
+    public static ReportEvent attachment(String name, String mimeType, byte[] content) {
+        return new ReportEvent(Type.ATTACHMENT, Status.INFO, name, mimeType, content, Instant.now());
+    }
+
+    /**
+     * Checks whether this event is an image attachment.
+     *
+     * @return true if the attachment is an image
+     */
+    public boolean isImage() {
+        return type == Type.ATTACHMENT && mimeType != null && mimeType.startsWith("image/");
+    }
+}
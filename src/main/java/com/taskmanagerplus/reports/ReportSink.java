@@ -0,0 +1,49 @@
+package com.taskmanagerplus.reports;
+
+/**
+ * Consumer of the events published to the {@link ReportingEventBus} in the Task Manager Plus application.
+ *
+ * <p>Each registered sink has its own queue and thread, on which {@link #accept(ReportEvent, Object)}
+ * is called in publication order. Most reporting libraries find the current test through the
+ * publishing thread, so {@link #capture(ReportEvent)} is called on that thread first and its result,
+ * typically the current test, is handed to {@code accept} with the event. {@code capture} should
+ * only do cheap bookkeeping; the expensive work belongs in {@code accept}.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * ReportingEventBus.register(new LogReportSink(), 1024, ReportingEventBus.OverflowPolicy.DROP_OLDEST);
+ * }
+ * </pre>
+ *
+ * @param <C> the type of the context captured on the publishing thread
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public interface ReportSink<C> {
+
+    /**
+     * Gets the name of the sink, used for its thread and in log messages.
+     *
+     * @return the name of the sink
+     */
+    String getName();
+
+    /**
+     * Captures the context of an event on the publishing thread.
+     *
+     * @param event the event being published
+     * @return the context handed to {@link #accept(ReportEvent, Object)}, or null to skip the event
+     */
+    C capture(ReportEvent event);
+
+    /**
+     * Consumes an event on the sink's own thread.
+     *
+     * @param event the event
+     * @param context the context captured when the event was published
+     */
+    void accept(ReportEvent event, C context);
+}
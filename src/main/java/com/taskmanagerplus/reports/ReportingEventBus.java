@@ -0,0 +1,337 @@
+package com.taskmanagerplus.reports;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+
+/**
+ * In-process event bus for test reporting in the Task Manager Plus application.
+ *
+ * <p>Tests publish steps, log messages and attachments once; every registered {@link ReportSink}
+ * consumes them on its own thread, from its own bounded queue, so the test thread no longer
+ * formats, encodes and writes the same information once per reporting library. When a sink falls
+ * behind and its queue is full, its {@link OverflowPolicy} decides whether the publisher waits or
+ * an event is dropped; dropped events are counted and logged at shutdown.</p>
+ *
+ * <p>The Extent report and the log are fed by default, when the first event is published; other
+ * sinks, such as the Allure sink of the test listeners, are added with
+ * {@link #register(ReportSink, int, OverflowPolicy)}.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * ReportingEventBus.step("Open the login page");
+ * ReportingEventBus.log(Status.INFO, "Login page loaded");
+ * ReportingEventBus.attach("Page screenshot", "image/png", screenshot);
+ * // At the end of the test, so that its events are in the reports
+ * ReportingEventBus.flush();
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> {@link #flush()} is called before each new Extent test is created, so events are
+ * never logged to the wrong test, and {@link #shutdown()} when the test plan finishes.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class ReportingEventBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportingEventBus.class);
+
+    /** Queue capacity of the default sinks. */
+    static final int DEFAULT_CAPACITY = 1024;
+
+    private static final Duration FLUSH_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final List<SinkWorker<?>> workers = new CopyOnWriteArrayList<>();
+    private static volatile boolean defaultsRegistered;
+
+    /**
+     * What a sink does with a new event when its queue is full.
+     */
+    public enum OverflowPolicy {
+        /** The publisher waits for room in the queue; no event is lost. */
+        BLOCK,
+        /** The new event is dropped. */
+        DROP_NEWEST,
+        /** The oldest queued event is dropped to make room for the new one. */
+        DROP_OLDEST
+    }
+
+    private ReportingEventBus() {
+        // private constructor to prevent instantiation
+    }
+
+    /**
+     * Registers a sink with its own queue and thread.
+     *
+     * @param sink the sink
+     * @param capacity the capacity of the sink's queue
+     * @param policy what to do when the queue is full
+     */
+    public static synchronized void register(ReportSink<?> sink, int capacity, OverflowPolicy policy) {
+        registerDefaults();
+        workers.add(new SinkWorker<>(sink, capacity, policy));
+    }
+
+    /**
+     * Delivers the queued events of a sink and removes it from the bus.
+     *
+     * @param sink the sink
+     */
+    public static synchronized void unregister(ReportSink<?> sink) {
+        for (SinkWorker<?> worker : workers) {
+            if (worker.sink == sink) {
+                workers.remove(worker);
+                worker.stop();
+            }
+        }
+    }
+
+    /**
+     * Publishes a passed test step.
+     *
+     * @param name the name of the step
+     */
+    public static void step(String name) {
+        publish(ReportEvent.step(name));
+    }
+
+    /**
+     * Publishes a log message.
+     *
+     * @param status the status of the message
+     * @param message the message
+     */
+    public static void log(Status status, String message) {
+        publish(ReportEvent.log(status, message));
+    }
+
+    /**
+     * Publishes an exception, such as the cause of a failed test, as a log message holding its stack trace.
+     *
+     * @param status the status of the message
+     * @param throwable the exception
+     */
+    public static void log(Status status, Throwable throwable) {
+        StringWriter stackTrace = new StringWriter();
+        throwable.printStackTrace(new PrintWriter(stackTrace));
+        log(status, MarkupHelper.createCodeBlock(stackTrace.toString()).getMarkup());
+    }
+
+    /**
+     * Publishes an attachment.
+     *
+     * @param name the name of the attachment
+     * @param mimeType the MIME type of the attachment
+     * @param content the content of the attachment
+     */
+    public static void attach(String name, String mimeType, byte[] content) {
+        publish(ReportEvent.attachment(name, mimeType, content));
+    }
+
+    /**
+     * Publishes an event to every registered sink.
+     *
+     * @param event the event
+     */
+    public static void publish(ReportEvent event) {
+        if (!defaultsRegistered) {
+            synchronized (ReportingEventBus.class) {
+                registerDefaults();
+            }
+        }
+        for (SinkWorker<?> worker : workers) {
+            worker.offer(event);
+        }
+    }
+
+    /**
+     * Waits until every sink has consumed the events published so far.
+     *
+     * @return true if every sink caught up in time
+     */
+    public static boolean flush() {
+        long deadline = System.nanoTime() + FLUSH_TIMEOUT.toNanos();
+        boolean flushed = true;
+        for (SinkWorker<?> worker : workers) {
+            flushed &= worker.awaitIdle(deadline);
+        }
+        return flushed;
+    }
+
+    /**
+     * Delivers the queued events and stops every sink; the default sinks are registered again by the next event.
+     */
+    public static synchronized void shutdown() {
+        for (SinkWorker<?> worker : workers) {
+            worker.stop();
+        }
+        workers.clear();
+        defaultsRegistered = false;
+    }
+
+    /**
+     * Gets the number of events dropped by the sink with the given name.
+     *
+     * @param sinkName the name of the sink
+     * @return the number of dropped events, or 0 if no such sink is registered
+     */
+    public static long getDroppedEvents(String sinkName) {
+        return workers.stream().filter(worker -> worker.sink.getName().equals(sinkName)).mapToLong(worker -> worker.dropped.get()).sum();
+    }
+
+    private static void registerDefaults() {
+        if (!defaultsRegistered) {
+            defaultsRegistered = true;
+            workers.add(new SinkWorker<>(new ExtentReportSink(), DEFAULT_CAPACITY, OverflowPolicy.BLOCK));
+            workers.add(new SinkWorker<>(new LogReportSink(), DEFAULT_CAPACITY, OverflowPolicy.DROP_OLDEST));
+        }
+    }
+
+    /**
+     * An event and the context captured for one sink.
+     */
+    private record Envelope<C>(ReportEvent event, C context) {
+    }
+
+    /**
+     * The queue and thread of one sink.
+     */
+    private static final class SinkWorker<C> {
+
+        private static final Envelope<?> END = new Envelope<>(null, null);
+
+        private final ReportSink<C> sink;
+        private final OverflowPolicy policy;
+        private final BlockingQueue<Envelope<?>> queue;
+        private final Thread thread;
+        private final AtomicLong pending = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+
+        SinkWorker(ReportSink<C> sink, int capacity, OverflowPolicy policy) {
+            this.sink = sink;
+            this.policy = policy;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.thread = new Thread(this::drain, "report-sink-" + sink.getName());
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        void offer(ReportEvent event) {
+            C context;
+            try {
+                context = sink.capture(event);
+            } catch (RuntimeException e) {
+                logger.warn("Report sink {} failed to capture an event", sink.getName(), e);
+                return;
+            }
+            if (context == null) {
+                return;
+            }
+            Envelope<C> envelope = new Envelope<>(event, context);
+            pending.incrementAndGet();
+            switch (policy) {
+                case BLOCK -> {
+                    try {
+                        queue.put(envelope);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        drop();
+                    }
+                }
+                case DROP_NEWEST -> {
+                    if (!queue.offer(envelope)) {
+                        drop();
+                    }
+                }
+                case DROP_OLDEST -> {
+                    while (!queue.offer(envelope)) {
+                        if (queue.poll() != null) {
+                            drop();
+                        }
+                    }
+                }
+            }
+        }
+
+        boolean awaitIdle(long deadline) {
+            synchronized (pending) {
+                while (pending.get() > 0) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        logger.warn("Report sink {} still has {} events pending", sink.getName(), pending.get());
+                        return false;
+                    }
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(pending, remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        void stop() {
+            try {
+                queue.put(END);
+                thread.join(FLUSH_TIMEOUT.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (dropped.get() > 0) {
+                logger.warn("Report sink {} dropped {} events", sink.getName(), dropped.get());
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void drain() {
+            while (true) {
+                Envelope<?> next;
+                try {
+                    next = queue.take();
+                } catch (InterruptedException e) {
+                    // Only stop() ends the sink, so that no queued event is lost
+                    continue;
+                }
+                if (next == END) {
+                    return;
+                }
+                try {
+                    sink.accept(next.event(), (C) next.context());
+                } catch (RuntimeException e) {
+                    logger.warn("Report sink {} failed to consume an event", sink.getName(), e);
+                }
+                done();
+            }
+        }
+
+        private void drop() {
+            dropped.incrementAndGet();
+            done();
+        }
+
+        private void done() {
+            if (pending.decrementAndGet() == 0) {
+                synchronized (pending) {
+                    pending.notifyAll();
+                }
+            }
+        }
+    }
+}
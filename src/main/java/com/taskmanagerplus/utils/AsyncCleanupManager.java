@@ -0,0 +1,152 @@
+package com.taskmanagerplus.utils;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.taskmanagerplus.config.JdbcTemplateSingleton;
+import com.taskmanagerplus.config.TestDataRegistry;
+
+/**
+ * Utility class for running test teardown work in the background in the Task Manager Plus application.
+ *
+ * <p>Database cleanup and {@code driver.quit()} do not need to finish before the next test starts
+ * its browser, so they are handed over to background executors and overlap with the next test's
+ * setup. Database cleanups of one namespace run one at a time in submission order, while those of
+ * different namespaces run side by side; a test calls {@link #awaitDataCleanup(String)} before
+ * inserting its fixtures, which waits for the last cleanup submitted for its namespace and therefore
+ * guarantees it never sees stale rows from that namespace. The tests use one namespace per test
+ * class, so a test does not wait on the cleanup of another class whose rows it never reads.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * // In @AfterEach
+ * AsyncCleanupManager.submitDataCleanup(getClass().getName(), TestDataRegistry.detach());
+ * AsyncCleanupManager.submitDriverQuit(driver);
+ *
+ * // In the next @BeforeEach, before inserting fixtures
+ * AsyncCleanupManager.awaitDataCleanup(getClass().getName());
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> Pending work is awaited by a JVM shutdown hook, so no browser process or test row
+ * is left behind when the test run ends.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class AsyncCleanupManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncCleanupManager.class);
+
+    private static final long AWAIT_TIMEOUT_SECONDS = 60;
+
+    private static final ExecutorService dataCleanupExecutor = Executors.newCachedThreadPool(daemonThreads("test-data-cleanup"));
+    private static final ExecutorService driverQuitExecutor = Executors.newCachedThreadPool(daemonThreads("driver-quit"));
+
+    private static final Map<String, CompletableFuture<Void>> pendingCleanups = new ConcurrentHashMap<>();
+    private static final Set<CompletableFuture<Void>> pendingDriverQuits = ConcurrentHashMap.newKeySet();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(AsyncCleanupManager::awaitAll, "async-cleanup-shutdown"));
+    }
+
+    private AsyncCleanupManager() {
+        // private constructor to prevent instantiation
+    }
+
+    /**
+     * Deletes the rows tracked by the given registry in the background.
+     *
+     * @param namespace the namespace the cleanup is ordered in, such as the test class
+     * @param registry the registry holding the rows to delete
+     */
+    public static void submitDataCleanup(String namespace, TestDataRegistry registry) {
+        if (registry.isEmpty()) {
+            return;
+        }
+        Runnable cleanup = () -> JdbcTemplateSingleton.cleanupTestData(registry);
+        // Cleanups of a namespace are chained, so waiting for the latest one covers the earlier ones too
+        pendingCleanups.compute(namespace, (key, previous) -> previous == null
+                ? CompletableFuture.runAsync(cleanup, dataCleanupExecutor)
+                : previous.exceptionally(error -> null).thenRunAsync(cleanup, dataCleanupExecutor));
+    }
+
+    /**
+     * Waits until every cleanup submitted for the given namespace has finished.
+     *
+     * @param namespace the namespace the cleanups were submitted in
+     */
+    public static void awaitDataCleanup(String namespace) {
+        CompletableFuture<Void> cleanup = pendingCleanups.get(namespace);
+        if (cleanup == null) {
+            return;
+        }
+        try {
+            cleanup.get(AWAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            pendingCleanups.remove(namespace, cleanup);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the cleanup of namespace " + namespace, e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Cleanup of namespace " + namespace + " did not complete", e);
+        }
+    }
+
+    /**
+     * Quits the given WebDriver in the background.
+     *
+     * @param driver the WebDriver instance to quit, may be null
+     */
+    public static void submitDriverQuit(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        CompletableFuture<Void> quit = CompletableFuture.runAsync(() -> {
+            try {
+                driver.quit();
+            } catch (Exception e) {
+                logger.warn("Failed to quit the WebDriver", e);
+            }
+        }, driverQuitExecutor);
+        pendingDriverQuits.add(quit);
+        quit.whenComplete((result, error) -> pendingDriverQuits.remove(quit));
+    }
+
+    /**
+     * Waits for all pending cleanups and driver quits to finish.
+     */
+    public static void awaitAll() {
+        CompletableFuture<?>[] cleanups = pendingCleanups.values().toArray(new CompletableFuture<?>[0]);
+        CompletableFuture<?>[] quits = pendingDriverQuits.toArray(new CompletableFuture<?>[0]);
+        try {
+            CompletableFuture.allOf(cleanups).get(AWAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            CompletableFuture.allOf(quits).get(AWAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.warn("Background cleanup did not complete", e);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
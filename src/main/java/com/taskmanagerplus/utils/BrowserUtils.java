@@ -23,23 +23,43 @@
 package com.taskmanagerplus.utils;
 
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.logging.LogEntries;
 import org.openqa.selenium.logging.LogEntry;
 import org.openqa.selenium.logging.LogType;
 import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
 
-import com.taskmanagerplus.reports.ExtentReportManager;
+import com.taskmanagerplus.drivers.BrowserConsoleRecorder;
+import com.taskmanagerplus.reports.ReportingEventBus;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 public class BrowserUtils {
+
+    /**
+     * Adds the browser console of the current test to the report, in one batch.
+     * 
+     * <p>The entries streamed by the {@link BrowserConsoleRecorder} of the driver are used when
+     * there is one; otherwise the browser log is read from the driver.</p>
+     * 
+     * @param driver the WebDriver instance
+     */
     public static void captureConsoleLogs(WebDriver driver) {
-        LogEntries logEntries = driver.manage().logs().get(LogType.BROWSER);
-        for (LogEntry entry : logEntries) {
-            System.out.println(new Date(entry.getTimestamp()) + " " + entry.getLevel() + " " + entry.getMessage());
-            // Add logs to the report
-            ExtentReportManager.getTest().log(Status.INFO, new Date(entry.getTimestamp()) + " " + entry.getLevel() + " " + entry.getMessage());
+        BrowserConsoleRecorder recorder = BrowserConsoleRecorder.current();
+        List<String> lines = new ArrayList<>();
+        if (recorder != null) {
+            lines.addAll(recorder.drain());
+        } else {
+            for (LogEntry entry : driver.manage().logs().get(LogType.BROWSER)) {
+                lines.add(new Date(entry.getTimestamp()) + " " + entry.getLevel() + " " + entry.getMessage());
+            }
+        }
+        if (lines.isEmpty()) {
+            ReportingEventBus.log(Status.INFO, "The browser console is empty");
+            return;
         }
+        ReportingEventBus.log(Status.INFO, MarkupHelper.createCodeBlock(String.join("\n", lines)).getMarkup());
     }
 }
 
@@ -0,0 +1,308 @@
+package com.taskmanagerplus.utils;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.apache.poi.ss.usermodel.CellType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.taskmanagerplus.utils.StreamingSheetReader.StreamedCell;
+import com.taskmanagerplus.utils.StreamingSheetReader.StreamedRow;
+
+/**
+ * Reader for test data workbooks compiled by {@link TestDataCompiler} in the Task Manager Plus application.
+ *
+ * <p>A compiled workbook consists of a small index file ({@code .tdx}), read into memory, and a
+ * columnar data file ({@code .tdb}), memory-mapped read-only. For every sheet and column the data
+ * file holds contiguous arrays of cell types, string references, numeric values and number formats,
+ * and all strings are stored once in a shared pool. Rows are decoded on demand into the same
+ * {@link StreamedRow} values the other {@link SheetRowSource} implementations produce, so
+ * {@link ExcelUtils} returns identical results whichever source it reads.</p>
+ *
+ * <p>Both files record the SHA-256 of the source workbook. {@link #open(String)} hashes the
+ * source on the classpath and returns null when the compiled files are missing, unreadable or were
+ * compiled from a different version of the source, so that the caller falls back to parsing the
+ * .xlsx file.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * CompiledWorkbook compiled = CompiledWorkbook.open("testdata/LoginCredentials.xlsx");
+ * ExcelUtils excelUtils = compiled != null ? new ExcelUtils(compiled) : new ExcelUtils("testdata/LoginCredentials.xlsx");
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> Instances are immutable and can be read from any number of threads.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public final class CompiledWorkbook implements SheetRowSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompiledWorkbook.class);
+
+    static final int INDEX_MAGIC = 0x54445831; // "TDX1"
+    static final int DATA_MAGIC = 0x54444231; // "TDB1"
+    static final int FORMAT_VERSION = 1;
+    static final String INDEX_EXTENSION = ".tdx";
+    static final String DATA_EXTENSION = ".tdb";
+
+    /** Cell type code of a column without a cell in a given row. */
+    static final byte NO_CELL = -1;
+    /** String reference of a null string. */
+    static final int NULL_STRING = -1;
+
+    private static final CellType[] CELL_TYPES = {CellType.NUMERIC, CellType.STRING, CellType.FORMULA, CellType.BLANK, CellType.BOOLEAN, CellType.ERROR};
+
+    private final ByteBuffer data;
+    private final boolean date1904;
+    private final Map<String, SheetIndex> sheets;
+    private final int stringCount;
+    private final long stringsOffset;
+    private final String[] strings;
+
+    private CompiledWorkbook(ByteBuffer data, boolean date1904, Map<String, SheetIndex> sheets, long stringsOffset, int stringCount) {
+        this.data = data;
+        this.date1904 = date1904;
+        this.sheets = Collections.unmodifiableMap(sheets);
+        this.stringsOffset = stringsOffset;
+        this.stringCount = stringCount;
+        this.strings = new String[stringCount];
+    }
+
+    /**
+     * Opens the compiled form of the workbook at the given classpath location.
+     *
+     * @param filePath the classpath location of the source workbook, for example {@code testdata/LoginCredentials.xlsx}
+     * @return the compiled workbook, or null if it is missing or stale
+     */
+    public static CompiledWorkbook open(String filePath) {
+        ClassLoader classLoader = CompiledWorkbook.class.getClassLoader();
+        String basePath = basePath(filePath);
+        File source = toFile(classLoader.getResource(filePath));
+        File index = toFile(classLoader.getResource(basePath + INDEX_EXTENSION));
+        File dataFile = toFile(classLoader.getResource(basePath + DATA_EXTENSION));
+        if (source == null || index == null || dataFile == null) {
+            logger.info("No compiled test data for {}, reading the workbook", filePath);
+            return null;
+        }
+        try {
+            byte[] sourceHash = sha256(source);
+            CompiledWorkbook workbook = read(index, dataFile, sourceHash);
+            if (workbook == null) {
+                logger.info("Compiled test data for {} is stale, reading the workbook", filePath);
+            }
+            return workbook;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Compiled test data for {} is unreadable, reading the workbook", filePath, e);
+            return null;
+        }
+    }
+
+    @Override
+    public List<String> getSheetNames() {
+        return List.copyOf(sheets.keySet());
+    }
+
+    @Override
+    public boolean hasSheet(String sheetName) {
+        return sheets.containsKey(sheetName);
+    }
+
+    @Override
+    public void forEachRow(String sheetName, Predicate<StreamedRow> visitor) {
+        SheetIndex sheet = getSheet(sheetName);
+        for (int rowNum = 0; rowNum < sheet.rowCount; rowNum++) {
+            StreamedRow row = readRow(sheet, rowNum);
+            if (row != null && !visitor.test(row)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public StreamedRow getRow(String sheetName, int rowNum) {
+        return readRow(getSheet(sheetName), rowNum);
+    }
+
+    @Override
+    public RowCursor openCursor(String sheetName) {
+        SheetIndex sheet = getSheet(sheetName);
+        int[] nextRowNum = {0};
+        return () -> {
+            while (nextRowNum[0] < sheet.rowCount) {
+                StreamedRow row = readRow(sheet, nextRowNum[0]++);
+                if (row != null) {
+                    return row;
+                }
+            }
+            return null;
+        };
+    }
+
+    static String basePath(String filePath) {
+        int extension = filePath.lastIndexOf('.');
+        return extension > filePath.lastIndexOf('/') ? filePath.substring(0, extension) : filePath;
+    }
+
+    static byte[] sha256(File file) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream input = Files.newInputStream(file.toPath())) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = input.read(buffer)) > 0) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    static byte typeCode(CellType cellType) {
+        for (byte code = 0; code < CELL_TYPES.length; code++) {
+            if (CELL_TYPES[code] == cellType) {
+                return code;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported cell type: " + cellType);
+    }
+
+    private static CompiledWorkbook read(File index, File dataFile, byte[] sourceHash) throws IOException {
+        Map<String, SheetIndex> sheets = new LinkedHashMap<>();
+        boolean date1904;
+        long stringsOffset;
+        int stringCount;
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(index.toPath()))) {
+            if (input.readInt() != INDEX_MAGIC || input.readInt() != FORMAT_VERSION || !Arrays.equals(readHash(input), sourceHash)) {
+                return null;
+            }
+            date1904 = input.readBoolean();
+            stringsOffset = input.readLong();
+            stringCount = input.readInt();
+            int sheetCount = input.readInt();
+            for (int i = 0; i < sheetCount; i++) {
+                String name = input.readUTF();
+                int rowCount = input.readInt();
+                long rowsOffset = input.readLong();
+                long[] columnOffsets = new long[input.readInt()];
+                for (int column = 0; column < columnOffsets.length; column++) {
+                    columnOffsets[column] = input.readLong();
+                }
+                sheets.put(name, new SheetIndex(rowCount, rowsOffset, columnOffsets));
+            }
+        }
+
+        ByteBuffer data;
+        try (FileChannel channel = FileChannel.open(dataFile.toPath(), StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        byte[] dataHash = new byte[32];
+        if (data.getInt(0) != DATA_MAGIC || data.getInt(4) != FORMAT_VERSION) {
+            return null;
+        }
+        data.get(8, dataHash);
+        if (!Arrays.equals(dataHash, sourceHash)) {
+            return null;
+        }
+        return new CompiledWorkbook(data, date1904, sheets, stringsOffset, stringCount);
+    }
+
+    private static byte[] readHash(DataInputStream input) throws IOException {
+        byte[] hash = new byte[32];
+        input.readFully(hash);
+        return hash;
+    }
+
+    private static File toFile(URL resource) {
+        if (resource == null || !"file".equals(resource.getProtocol())) {
+            return null;
+        }
+        try {
+            return new File(resource.toURI());
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
+    private SheetIndex getSheet(String sheetName) {
+        SheetIndex sheet = sheets.get(sheetName);
+        if (sheet == null) {
+            throw new IllegalArgumentException("Sheet not found: " + sheetName);
+        }
+        return sheet;
+    }
+
+    private StreamedRow readRow(SheetIndex sheet, int rowNum) {
+        if (rowNum < 0 || rowNum >= sheet.rowCount || data.get(Math.toIntExact(sheet.rowsOffset + rowNum)) == 0) {
+            return null;
+        }
+        List<StreamedCell> cells = new ArrayList<>();
+        for (int column = 0; column < sheet.columnOffsets.length; column++) {
+            long offset = sheet.columnOffsets[column];
+            if (offset < 0) {
+                continue;
+            }
+            // Column layout: types (1 byte), texts (4), numbers (8), format indexes (2), format strings (4) per row
+            int rows = sheet.rowCount;
+            byte type = data.get(Math.toIntExact(offset + rowNum));
+            if (type == NO_CELL) {
+                continue;
+            }
+            String text = string(data.getInt(Math.toIntExact(offset + rows + 4L * rowNum)));
+            double number = data.getDouble(Math.toIntExact(offset + 5L * rows + 8L * rowNum));
+            int formatIndex = data.getShort(Math.toIntExact(offset + 13L * rows + 2L * rowNum)) & 0xFFFF;
+            String formatString = string(data.getInt(Math.toIntExact(offset + 15L * rows + 4L * rowNum)));
+            cells.add(new StreamedCell(column, CELL_TYPES[type], text, number, formatIndex, formatString, date1904));
+        }
+        return new StreamedRow(rowNum, cells);
+    }
+
+    private String string(int reference) {
+        if (reference == NULL_STRING) {
+            return null;
+        }
+        if (reference < 0 || reference >= stringCount) {
+            throw new IllegalStateException("Invalid string reference: " + reference);
+        }
+        // Strings are immutable, so a racy first decode is harmless
+        String value = strings[reference];
+        if (value == null) {
+            int entry = data.getInt(Math.toIntExact(stringsOffset + 4L * reference));
+            byte[] bytes = new byte[data.getInt(entry)];
+            data.get(entry + 4, bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+            strings[reference] = value;
+        }
+        return value;
+    }
+
+    /**
+     * The location of a sheet in the data file.
+     */
+    private record SheetIndex(int rowCount, long rowsOffset, long[] columnOffsets) {
+    }
+}
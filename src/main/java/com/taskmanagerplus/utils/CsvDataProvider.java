@@ -0,0 +1,103 @@
+package com.taskmanagerplus.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test data backend for CSV files in the Task Manager Plus application.
+ *
+ * <p>The file is read as a single sheet named after the file without its extension, so
+ * {@code testdata/LoginCredentials.csv} is read as the sheet {@code LoginCredentials}. The first
+ * record is the header. Fields are separated by commas and may be quoted with double quotes, in
+ * which case they can contain commas, line breaks and doubled quotes (RFC 4180). Every field is
+ * read as text; empty fields are blank cells.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * ExcelUtils csvUtils = ExcelUtils.shared("testdata/LoginCredentials.csv");
+ * String username = csvUtils.getCellDataByColumnName("LoginCredentials", 1, "Username");
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> The file must be encoded in UTF-8; a leading byte order mark is ignored.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class CsvDataProvider implements TestDataProvider {
+
+    @Override
+    public List<String> getExtensions() {
+        return List.of("csv");
+    }
+
+    @Override
+    public SheetRowSource load(String filePath) throws IOException {
+        String text;
+        try (InputStream input = getClass().getClassLoader().getResourceAsStream(filePath)) {
+            if (input == null) {
+                throw new IllegalArgumentException("File not found: " + filePath);
+            }
+            text = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String fileName = filePath.substring(filePath.lastIndexOf('/') + 1);
+        return WorkbookSnapshot.ofTables(Map.of(CompiledWorkbook.basePath(fileName), parse(text, filePath)));
+    }
+
+    static List<List<Object>> parse(String text, String filePath) throws IOException {
+        List<List<Object>> records = new ArrayList<>();
+        List<Object> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int start = text.startsWith("\uFEFF") ? 1 : 0;
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r' && i + 1 < text.length() && text.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                fields.add(field.toString());
+                field.setLength(0);
+                addRecord(records, fields);
+                fields = new ArrayList<>();
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IOException("Unterminated quoted field in " + filePath);
+        }
+        if (field.length() > 0 || !fields.isEmpty()) {
+            fields.add(field.toString());
+            addRecord(records, fields);
+        }
+        return records;
+    }
+
+    private static void addRecord(List<List<Object>> records, List<Object> fields) {
+        // A line without any character is not a record, as in a trailing newline
+        if (fields.size() > 1 || !"".equals(fields.get(0))) {
+            records.add(fields);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.taskmanagerplus.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+
+/**
+ * Service collecting the environment metadata of the test run in the Task Manager Plus application.
+ *
+ * <p>The host part of the metadata, the operating system and the Java runtime, is read once per
+ * JVM. The browser part, the browser, its version, its platform and the version of its driver,
+ * is read from the capabilities of the driver, once per distinct browser configuration: every
+ * later driver with the same browser, version and platform gets the cached
+ * {@link EnvironmentMetadata}, so a suite creating one driver per test looks the versions up
+ * once.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * EnvironmentMetadata metadata = EnvironmentMetadataService.get(driver);
+ * metadata.getBrowserInfo().forEach(extent::setSystemInfo);
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> Drivers decorated by {@link com.taskmanagerplus.drivers.DriverFactory} are
+ * unwrapped first, so that reading the capabilities is not recorded as a test command.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class EnvironmentMetadataService {
+
+    private static final String UNKNOWN = "unknown";
+
+    private static final Map<String, EnvironmentMetadata> cache = new ConcurrentHashMap<>();
+
+    /**
+     * The environment of one browser configuration.
+     *
+     * @param os the name of the operating system
+     * @param osVersion the version of the operating system
+     * @param javaVersion the version of the Java runtime
+     * @param browserName the name of the browser
+     * @param browserVersion the version of the browser
+     * @param platformName the platform reported by the browser
+     * @param driverVersion the version of the browser's driver, such as ChromeDriver
+     */
+    public record EnvironmentMetadata(String os, String osVersion, String javaVersion, String browserName,
+            String browserVersion, String platformName, String driverVersion) {
+
+        /**
+         * Gets the host part of the metadata, labelled for the report.
+         *
+         * @return the operating system and Java runtime, by label
+         */
+        public Map<String, String> getHostInfo() {
+            Map<String, String> info = new LinkedHashMap<>();
+            info.put("OS", os + " " + osVersion);
+            info.put("Java", javaVersion);
+            return info;
+        }
+
+        /**
+         * Gets the browser part of the metadata, labelled for the report.
+         *
+         * @return the browser, its version, its platform and its driver version, by label
+         */
+        public Map<String, String> getBrowserInfo() {
+            Map<String, String> info = new LinkedHashMap<>();
+            info.put("Browser", browserName);
+            info.put("Browser Version", browserVersion);
+            info.put("Platform", platformName);
+            info.put("Driver Version", driverVersion);
+            return info;
+        }
+    }
+
+    private EnvironmentMetadataService() {
+        // private constructor to prevent instantiation
+    }
+
+    /**
+     * Gets the environment metadata of a driver, collecting it if its browser configuration has not been seen yet.
+     *
+     * @param driver the WebDriver instance, decorated or not
+     * @return the metadata, shared by all drivers of the same browser configuration
+     */
+    public static EnvironmentMetadata get(WebDriver driver) {
+        WebDriver target = driver instanceof WrapsDriver wrapper ? wrapper.getWrappedDriver() : driver;
+        if (!(target instanceof HasCapabilities hasCapabilities)) {
+            return cache.computeIfAbsent(UNKNOWN, key -> collect(null));
+        }
+        Capabilities capabilities = hasCapabilities.getCapabilities();
+        String key = capabilities.getBrowserName() + "|" + capabilities.getBrowserVersion() + "|" + capabilities.getPlatformName();
+        return cache.computeIfAbsent(key, ignored -> collect(capabilities));
+    }
+
+    /**
+     * Clears the cached metadata.
+     */
+    public static void reset() {
+        cache.clear();
+    }
+
+    private static EnvironmentMetadata collect(Capabilities capabilities) {
+        String os = System.getProperty("os.name");
+        String osVersion = System.getProperty("os.version");
+        String javaVersion = System.getProperty("java.version");
+        if (capabilities == null) {
+            return new EnvironmentMetadata(os, osVersion, javaVersion, UNKNOWN, UNKNOWN, UNKNOWN, UNKNOWN);
+        }
+        return new EnvironmentMetadata(os, osVersion, javaVersion, valueOrUnknown(capabilities.getBrowserName()),
+                valueOrUnknown(capabilities.getBrowserVersion()), valueOrUnknown(capabilities.getPlatformName()),
+                findDriverVersion(capabilities));
+    }
+
+    /**
+     * Finds the driver version among the capabilities, such as {@code chrome.chromedriverVersion},
+     * {@code ms:edgeOptions.msedgedriverVersion} or {@code moz:geckodriverVersion}.
+     */
+    private static String findDriverVersion(Capabilities capabilities) {
+        for (Map.Entry<String, Object> entry : capabilities.asMap().entrySet()) {
+            if (entry.getKey().endsWith("driverVersion")) {
+                return stripBuild(entry.getValue());
+            }
+            if (entry.getValue() instanceof Map<?, ?> nested) {
+                for (Map.Entry<?, ?> nestedEntry : nested.entrySet()) {
+                    if (String.valueOf(nestedEntry.getKey()).endsWith("driverVersion")) {
+                        return stripBuild(nestedEntry.getValue());
+                    }
+                }
+            }
+        }
+        return UNKNOWN;
+    }
+
+    // ChromeDriver reports "126.0.6478.126 (d36ace6122e0a59570e258d82441395206d60e1c-refs/...)"
+    private static String stripBuild(Object version) {
+        String text = String.valueOf(version);
+        int space = text.indexOf(' ');
+        return space > 0 ? text.substring(0, space) : text;
+    }
+
+    private static String valueOrUnknown(Object value) {
+        String text = Objects.toString(value, "");
+        return text.isEmpty() ? UNKNOWN : text;
+    }
+}
@@ -0,0 +1,36 @@
+package com.taskmanagerplus.utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maps a record component to a sheet column whose header differs from the component name.
+ *
+ * <p>Components without this annotation are mapped to the column whose header equals their name,
+ * ignoring case.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * public record Credentials(@ExcelColumn("Username") String email, String password) {
+ * }
+ * }
+ * </pre>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface ExcelColumn {
+
+    /**
+     * The header of the column.
+     *
+     * @return the header of the column
+     */
+    String value();
+}
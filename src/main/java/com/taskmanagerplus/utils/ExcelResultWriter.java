@@ -0,0 +1,249 @@
+package com.taskmanagerplus.utils;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writer streaming test results into an .xlsx workbook in the Task Manager Plus application.
+ *
+ * <p>Results are handed to a bounded queue and written by a single background thread into an
+ * {@link SXSSFWorkbook}, which keeps only a small window of rows in memory and flushes older rows
+ * to a compressed temporary file. Memory use therefore stays flat however many results a run
+ * produces; when the writer falls behind, {@link #write(TestResult)} waits for room in the queue
+ * instead of buffering without limit. The workbook is written to its file by {@link #close()}.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * try (ExcelResultWriter writer = new ExcelResultWriter(new File("test-output/TestResults.xlsx"))) {
+ *     writer.write(new ExcelResultWriter.TestResult("LoginTest", "testLogin", "testLogin()", "",
+ *             "SUCCESSFUL", 1250, Instant.now(), null));
+ * }
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> {@link #write(TestResult)} can be called from any number of threads, also while
+ * the writer is being closed; the rows appear in the order the results were queued, and a result
+ * is either written or rejected with an exception, never silently lost.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public final class ExcelResultWriter implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExcelResultWriter.class);
+
+    static final int QUEUE_CAPACITY = 1024;
+    static final int ROWS_IN_MEMORY = 100;
+
+    private static final String[] HEADERS = {"Test Class", "Test Method", "Display Name", "Parameters", "Status", "Duration (ms)", "Started", "Error"};
+    private static final int[] COLUMN_WIDTHS = {40, 35, 50, 60, 12, 14, 22, 80};
+    private static final Object END = new Object();
+
+    /**
+     * The outcome of one test or parameterized invocation.
+     *
+     * @param testClass the name of the test class
+     * @param testMethod the name of the test method
+     * @param displayName the display name of the test or invocation
+     * @param parameters the arguments of a parameterized invocation, or an empty string
+     * @param status the outcome, such as {@code SUCCESSFUL}, {@code FAILED}, {@code ABORTED} or {@code SKIPPED}
+     * @param durationMillis the time the test ran, in milliseconds
+     * @param started when the test started
+     * @param error the message of the failure, or null
+     */
+    public record TestResult(String testClass, String testMethod, String displayName, String parameters, String status,
+            long durationMillis, Instant started, String error) {
+    }
+
+    private final File file;
+    private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final SXSSFWorkbook workbook = new SXSSFWorkbook(ROWS_IN_MEMORY);
+    private final SXSSFSheet sheet;
+    private final CellStyle dateStyle;
+    private final Thread writerThread;
+    private final AtomicLong rowsWritten = new AtomicLong();
+    // Writers share the read lock, close() takes the write lock, so no result is queued after END
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private boolean closed;
+
+    /**
+     * Creates the workbook and starts the background writer.
+     *
+     * @param file the .xlsx file written when the writer is closed
+     */
+    public ExcelResultWriter(File file) {
+        this.file = file;
+        workbook.setCompressTempFiles(true);
+        sheet = workbook.createSheet("Results");
+        dateStyle = workbook.createCellStyle();
+        dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+
+        CellStyle headerStyle = workbook.createCellStyle();
+        Font headerFont = workbook.createFont();
+        headerFont.setBold(true);
+        headerStyle.setFont(headerFont);
+        Row header = sheet.createRow(0);
+        for (int column = 0; column < HEADERS.length; column++) {
+            header.createCell(column).setCellValue(HEADERS[column]);
+            header.getCell(column).setCellStyle(headerStyle);
+            sheet.setColumnWidth(column, COLUMN_WIDTHS[column] * 256);
+        }
+        sheet.createFreezePane(0, 1);
+
+        writerThread = new Thread(this::drain, "excel-result-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Queues a result for writing, waiting if the queue is full.
+     *
+     * @param result the result
+     * @throws IllegalStateException if the writer is closed
+     */
+    public void write(TestResult result) {
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("The result writer is closed");
+            }
+            queue.put(result);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while queuing the result of {}", result.displayName());
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of results written to the workbook so far.
+     *
+     * @return the number of results written
+     */
+    public long getRowsWritten() {
+        return rowsWritten.get();
+    }
+
+    /**
+     * Writes the queued results, saves the workbook to its file and deletes the temporary files.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        closeLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            // The writer thread is still draining, so this waits at most for the results already queued
+            queue.put(END);
+        } catch (InterruptedException e) {
+            closed = false;
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing the test results", e);
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing the test results", e);
+        }
+        try {
+            long rows = rowsWritten.get();
+            if (rows > 0) {
+                sheet.setAutoFilter(new CellRangeAddress(0, (int) rows, 0, HEADERS.length - 1));
+            }
+            if (file.getParentFile() != null) {
+                Files.createDirectories(file.getParentFile().toPath());
+            }
+            try (OutputStream output = new FileOutputStream(file)) {
+                workbook.write(output);
+            }
+            logger.info("Wrote {} test results to {}", rows, file.getAbsolutePath());
+        } finally {
+            workbook.close();
+        }
+    }
+
+    private void drain() {
+        int maxRows = SpreadsheetVersion.EXCEL2007.getLastRowIndex();
+        boolean failed = false;
+        while (true) {
+            Object next;
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                // Only close() ends the writer, so that no queued result is lost
+                continue;
+            }
+            if (next == END) {
+                return;
+            }
+            // Keep draining after a failure, so that producers never block on a full queue
+            if (failed) {
+                continue;
+            }
+            try {
+                if (rowsWritten.get() >= maxRows) {
+                    logger.warn("The results sheet is full, dropping further results");
+                    failed = true;
+                    continue;
+                }
+                appendRow((TestResult) next);
+            } catch (RuntimeException e) {
+                logger.error("Failed to write test results to {}", file, e);
+                failed = true;
+            }
+        }
+    }
+
+    private void appendRow(TestResult result) {
+        Row row = sheet.createRow((int) rowsWritten.get() + 1);
+        row.createCell(0).setCellValue(result.testClass());
+        row.createCell(1).setCellValue(result.testMethod());
+        row.createCell(2).setCellValue(truncate(result.displayName()));
+        row.createCell(3).setCellValue(truncate(result.parameters()));
+        row.createCell(4).setCellValue(result.status());
+        row.createCell(5).setCellValue(result.durationMillis());
+        if (result.started() != null) {
+            row.createCell(6).setCellValue(Date.from(result.started()));
+            row.getCell(6).setCellStyle(dateStyle);
+        }
+        if (result.error() != null) {
+            row.createCell(7).setCellValue(truncate(result.error()));
+        }
+        rowsWritten.incrementAndGet();
+    }
+
+    private static String truncate(String value) {
+        int maxLength = SpreadsheetVersion.EXCEL2007.getMaxTextLength();
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+}
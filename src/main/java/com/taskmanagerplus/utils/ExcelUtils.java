@@ -2,12 +2,42 @@ package com.taskmanagerplus.utils;
 
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import com.taskmanagerplus.utils.StreamingSheetReader.StreamedCell;
+import com.taskmanagerplus.utils.StreamingSheetReader.StreamedRow;
+
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Utility class for Excel-related operations in the Task Manager Plus application.
@@ -24,6 +54,29 @@ import java.util.Map;
  * }
  * </pre>
  * 
+ * <p>The header row of every sheet is indexed once, so looking up a column by name is a single map
+ * access. Rows can also be mapped onto records by column name with {@link #getRowAs(String, int, Class)}
+ * and {@link #getRowsAs(String, Class)}, converting the cell values to the component types.</p>
+ * 
+ * <p>Test classes usually obtain an instance with {@link #shared(String)}, which reads the immutable
+ * rows of the workbook loaded once per JVM by {@link WorkbookRegistry}, from the compiled test data
+ * when it is up to date.</p>
+ * 
+ * <p>In streaming mode the workbook is read through {@link StreamingSheetReader} instead of being
+ * loaded as an {@link XSSFWorkbook}: shared strings are parsed once, and every lookup streams the
+ * sheet only up to the requested row, so memory use stays bounded for large data-driven sheets.
+ * The same methods work in both modes and return the same values. Streaming is enabled per
+ * instance, or for the single-argument constructor with {@code -Dexcel.streaming=true}:</p>
+ * <pre>
+ * {@code
+ * ExcelUtils excelUtils = new ExcelUtils("testdata/LoginCredentials.xlsx", true);
+ * String username = excelUtils.getCellDataByColumnName("LoginCredentials", 1, "Username");
+ * }
+ * </pre>
+ * 
+ * <p>A streaming instance keeps the workbook package open until {@link #close()} is called, so it
+ * is best opened in a try-with-resources statement.</p>
+ * 
  * <p><b>Note:</b> This class should be extended with static methods to perform 
  * common Excel actions, such as reading data, writing data, and updating cells.</p>
  * 
@@ -31,13 +84,43 @@ import java.util.Map;
  * Date: 2024-07-09
  * Version: 1.0
  */
-public class ExcelUtils {
+public class ExcelUtils implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExcelUtils.class);
+
+    /** System property enabling streaming mode for {@link #ExcelUtils(String)}. */
+    public static final String STREAMING_PROPERTY = "excel.streaming";
 
     private Workbook workbook;
+    private SheetRowSource rowSource;
+    private boolean ownsRowSource;
+    private final Map<String, SheetHeader> headers = new ConcurrentHashMap<>();
+    private final Map<String, Map<Class<?>, RowMapper<?>>> rowMappers = new ConcurrentHashMap<>();
     private String filePath;
 
     public ExcelUtils(String filePath) {
+        this(filePath, Boolean.getBoolean(STREAMING_PROPERTY));
+    }
+
+    /**
+     * Opens the workbook at the given classpath location.
+     * 
+     * @param filePath the classpath location of the workbook
+     * @param streaming true to read the sheets through {@link StreamingSheetReader}, false to load the workbook as a DOM
+     * @throws UncheckedIOException if the workbook cannot be opened for streaming
+     */
+    public ExcelUtils(String filePath, boolean streaming) {
         this.filePath = filePath;
+        if (streaming) {
+            try {
+                rowSource = new StreamingSheetReader(resolveFile(filePath));
+                ownsRowSource = true;
+                logger.info("Workbook has been opened for streaming from: {}", filePath);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to open " + filePath + " for streaming", e);
+            }
+            return;
+        }
         try (InputStream file = getClass().getClassLoader().getResourceAsStream(filePath)) {
             if (file == null) {
                 throw new IllegalArgumentException("File not found: " + filePath);
@@ -49,6 +132,29 @@ public class ExcelUtils {
         }
     }
 
+    /**
+     * Reads the sheets of an already loaded workbook, such as a {@link WorkbookSnapshot} or a {@link CompiledWorkbook}.
+     * 
+     * @param source the immutable rows of the workbook
+     */
+    public ExcelUtils(SheetRowSource source) {
+        this.rowSource = source;
+    }
+
+    /**
+     * Gets an ExcelUtils reading the workbook at the given classpath location from the process-wide
+     * {@link WorkbookRegistry}, so the file is parsed only once per JVM however many test classes read it.
+     * CSV and JSON files are read the same way through their {@link TestDataProvider}.
+     * 
+     * @param filePath the classpath location of the workbook
+     * @return an ExcelUtils backed by the shared rows of the workbook
+     */
+    public static ExcelUtils shared(String filePath) {
+        ExcelUtils excelUtils = new ExcelUtils(WorkbookRegistry.get(filePath));
+        excelUtils.filePath = filePath;
+        return excelUtils;
+    }
+
     public void printFilePath() {
         URL resource = getClass().getClassLoader().getResource(filePath);
         if (resource != null) {
@@ -58,15 +164,46 @@ public class ExcelUtils {
         }
     }
 
-    public String getCellData(String sheetName, int rowNum, int colNum) {
-        Sheet sheet = workbook.getSheet(sheetName);
-        if (sheet == null) {
-            throw new IllegalArgumentException("Sheet not found: " + sheetName);
+    /**
+     * Checks if this instance reads the workbook in streaming mode.
+     * 
+     * @return true in streaming mode, false otherwise
+     */
+    public boolean isStreaming() {
+        return rowSource instanceof StreamingSheetReader;
+    }
+
+    /**
+     * Closes the workbook opened by this instance. The rows of a {@link SheetRowSource} passed in,
+     * such as the shared rows of {@link #shared(String)}, are owned by the caller and stay open.
+     */
+    @Override
+    public void close() {
+        if (ownsRowSource && rowSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                logger.warn("Failed to close the workbook {}", filePath, e);
+            }
         }
-        Row row = sheet.getRow(rowNum);
-        if (row == null) {
-            throw new IllegalArgumentException("Row not found: " + rowNum);
+        if (workbook != null) {
+            try {
+                workbook.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close the workbook {}", filePath, e);
+            }
+        }
+    }
+
+    public String getCellData(String sheetName, int rowNum, int colNum) {
+        if (rowSource != null) {
+            StreamedCell cell = getStreamedRow(sheetName, rowNum).getCell(colNum);
+            if (cell == null) {
+                throw new IllegalArgumentException("Cell not found: " + colNum);
+            }
+            return cell.toString();
         }
+        Row row = getDomRow(sheetName, rowNum);
         Cell cell = row.getCell(colNum);
         if (cell == null) {
             throw new IllegalArgumentException("Cell not found: " + colNum);
@@ -76,49 +213,37 @@ public class ExcelUtils {
     }
 
     public Map<String, String> getRowData(String sheetName, int rowNum) {
-        Map<String, String> rowData = new HashMap<>();
-        Sheet sheet = workbook.getSheet(sheetName);
-        if (sheet == null) {
-            throw new IllegalArgumentException("Sheet not found: " + sheetName);
-        }
-        Row row = sheet.getRow(rowNum);
-        if (row == null) {
-            throw new IllegalArgumentException("Row not found: " + rowNum);
+        if (rowSource != null) {
+            StreamedRow row = getStreamedRow(sheetName, rowNum);
+            SheetHeader header = getHeader(sheetName);
+            Map<String, String> rowData = new HashMap<>(capacityFor(row.getCells().size()));
+            for (StreamedCell cell : row.getCells()) {
+                rowData.put(header.nameAt(cell.getColumnIndex()), cell.toString());
+            }
+            return rowData;
         }
-
+        Row row = getDomRow(sheetName, rowNum);
+        SheetHeader header = getHeader(sheetName);
+        Map<String, String> rowData = new HashMap<>(capacityFor(row.getPhysicalNumberOfCells()));
         for (Cell cell : row) {
-            rowData.put(cell.getSheet().getRow(0).getCell(cell.getColumnIndex()).toString(), cell.toString());
+            rowData.put(header.nameAt(cell.getColumnIndex()), cell.toString());
         }
 
         return rowData;
     }
 
     public String getCellDataByColumnName(String sheetName, int rowNum, String colName) {
-        Sheet sheet = workbook.getSheet(sheetName);
-        if (sheet == null) {
-            throw new IllegalArgumentException("Sheet not found: " + sheetName);
-        }
-        Row row = sheet.getRow(rowNum);
-        if (row == null) {
-            throw new IllegalArgumentException("Row not found: " + rowNum);
-        }
-        Row headerRow = sheet.getRow(0);
-        if (headerRow == null) {
-            throw new IllegalArgumentException("Header row not found: " + 0);
-        }
-        
-        int colNum = -1;
-        for (Cell cell : headerRow) {
-            if (cell.toString().equalsIgnoreCase(colName)) {
-                colNum = cell.getColumnIndex();
-                break;
+        if (rowSource != null) {
+            StreamedRow row = getStreamedRow(sheetName, rowNum);
+            int colNum = getHeader(sheetName).indexOf(colName);
+            StreamedCell cell = row.getCell(colNum);
+            if (cell == null) {
+                throw new IllegalArgumentException("Cell not found at row " + rowNum + " and column " + colNum);
             }
+            return cell.getFormattedValue();
         }
-
-        if (colNum == -1) {
-            throw new IllegalArgumentException("Column " + colName + " not found");
-        }
-        
+        Row row = getDomRow(sheetName, rowNum);
+        int colNum = getHeader(sheetName).indexOf(colName);
         Cell cell = row.getCell(colNum);
         if (cell == null) {
             throw new IllegalArgumentException("Cell not found at row " + rowNum + " and column " + colNum);
@@ -127,6 +252,122 @@ public class ExcelUtils {
         return formatCellValue(cell);
     }
 
+    /**
+     * Maps a row onto a record, matching every record component to the column with the same header.
+     * 
+     * <p>A component is matched to the column named by its {@link ExcelColumn} annotation, or to the
+     * column whose header equals the component name, ignoring case. Cell values are converted to
+     * {@code String}, {@code int}, {@code long}, {@code double}, {@code boolean} (and their wrappers),
+     * {@code BigDecimal}, {@code LocalDate}, {@code LocalDateTime} and enum components. Empty or
+     * missing cells map to null, which is rejected for primitive components.</p>
+     * 
+     * <p>Example usage:</p>
+     * <pre>
+     * {@code
+     * public record Credentials(String username, String password) {
+     * }
+     * 
+     * Credentials credentials = excelUtils.getRowAs("LoginCredentials", 1, Credentials.class);
+     * }
+     * </pre>
+     * 
+     * @param sheetName the name of the sheet
+     * @param rowNum the zero-based index of the row
+     * @param type the record type to map the row onto
+     * @return the record built from the row
+     * @throws IllegalArgumentException if the sheet, the row or a column is missing, or a value cannot be converted
+     */
+    public <R extends Record> R getRowAs(String sheetName, int rowNum, Class<R> type) {
+        RowMapper<R> mapper = getRowMapper(sheetName, type);
+        if (rowSource != null) {
+            StreamedRow row = getStreamedRow(sheetName, rowNum);
+            return mapper.map(column -> toCellValue(row.getCell(column)), rowNum);
+        }
+        Row row = getDomRow(sheetName, rowNum);
+        return mapper.map(column -> toCellValue(row.getCell(column)), rowNum);
+    }
+
+    /**
+     * Maps every row below the header onto a record, skipping rows without any value.
+     * 
+     * @param sheetName the name of the sheet
+     * @param type the record type to map the rows onto
+     * @return the records built from the rows, in sheet order
+     * @see #getRowAs(String, int, Class)
+     */
+    public <R extends Record> List<R> getRowsAs(String sheetName, Class<R> type) {
+        RowMapper<R> mapper = getRowMapper(sheetName, type);
+        List<R> records = new ArrayList<>();
+        if (rowSource != null) {
+            if (!rowSource.hasSheet(sheetName)) {
+                throw new IllegalArgumentException("Sheet not found: " + sheetName);
+            }
+            rowSource.forEachRow(sheetName, row -> {
+                if (row.getRowNum() > 0 && mapper.hasValue(column -> toCellValue(row.getCell(column)))) {
+                    records.add(mapper.map(column -> toCellValue(row.getCell(column)), row.getRowNum()));
+                }
+                return true;
+            });
+            return records;
+        }
+        Sheet sheet = getDomSheet(sheetName);
+        for (Row row : sheet) {
+            if (row.getRowNum() > 0 && mapper.hasValue(column -> toCellValue(row.getCell(column)))) {
+                records.add(mapper.map(column -> toCellValue(row.getCell(column)), row.getRowNum()));
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Streams the rows below the header of a sheet, skipping rows without any value.
+     * 
+     * <p>Rows are read lazily as the stream is consumed, so a data-driven test can iterate a large
+     * sheet without holding all of its rows. Every row carries the formatted value of each header
+     * column, as returned by {@link #getCellDataByColumnName(String, int, String)}.</p>
+     * 
+     * <p>Example usage:</p>
+     * <pre>
+     * {@code
+     * try (Stream<ExcelUtils.SheetRow> rows = excelUtils.streamRows("LoginCredentials")) {
+     *     rows.forEach(row -> login(row.get("Username"), row.get("Password")));
+     * }
+     * }
+     * </pre>
+     * 
+     * @param sheetName the name of the sheet
+     * @return the rows of the sheet, in sheet order
+     * @throws IllegalArgumentException if the sheet or its header row is missing
+     */
+    public Stream<SheetRow> streamRows(String sheetName) {
+        if (rowSource != null) {
+            if (!rowSource.hasSheet(sheetName)) {
+                throw new IllegalArgumentException("Sheet not found: " + sheetName);
+            }
+            SheetHeader header = getHeader(sheetName);
+            SourceRowSpliterator rows = new SourceRowSpliterator(sheetName);
+            return StreamSupport.stream(rows, false)
+                    .onClose(rows::close)
+                    .map(row -> toSheetRow(header, row.getRowNum(), column -> toCellValue(row.getCell(column))))
+                    .filter(SheetRow::hasValue);
+        }
+        Sheet sheet = getDomSheet(sheetName);
+        SheetHeader header = getHeader(sheetName);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(sheet.rowIterator(), Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .filter(row -> row.getRowNum() > 0)
+                .map(row -> toSheetRow(header, row.getRowNum(), column -> toCellValue(row.getCell(column))))
+                .filter(SheetRow::hasValue);
+    }
+
+    private static SheetRow toSheetRow(SheetHeader header, int rowNum, IntFunction<CellValue> cells) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int column : header.columns()) {
+            CellValue value = cells.apply(column);
+            values.putIfAbsent(header.nameAt(column), value == null ? null : value.text());
+        }
+        return new SheetRow(rowNum, Collections.unmodifiableMap(values));
+    }
+
     private String formatCellValue(Cell cell) {
         switch (cell.getCellType()) {
             case STRING:
@@ -152,4 +393,346 @@ public class ExcelUtils {
                 return cell.toString();
         }
     }
+
+    private Sheet getDomSheet(String sheetName) {
+        Sheet sheet = workbook.getSheet(sheetName);
+        if (sheet == null) {
+            throw new IllegalArgumentException("Sheet not found: " + sheetName);
+        }
+        return sheet;
+    }
+
+    private Row getDomRow(String sheetName, int rowNum) {
+        Row row = getDomSheet(sheetName).getRow(rowNum);
+        if (row == null) {
+            throw new IllegalArgumentException("Row not found: " + rowNum);
+        }
+        return row;
+    }
+
+    private StreamedRow getStreamedRow(String sheetName, int rowNum) {
+        if (!rowSource.hasSheet(sheetName)) {
+            throw new IllegalArgumentException("Sheet not found: " + sheetName);
+        }
+        StreamedRow row = rowSource.getRow(sheetName, rowNum);
+        if (row == null) {
+            throw new IllegalArgumentException("Row not found: " + rowNum);
+        }
+        return row;
+    }
+
+    private SheetHeader getHeader(String sheetName) {
+        // Computed once per sheet, so that column lookups are a single map access
+        SheetHeader header = headers.get(sheetName);
+        if (header != null) {
+            return header;
+        }
+        Map<Integer, String> names = new HashMap<>();
+        if (rowSource != null) {
+            StreamedRow headerRow = rowSource.hasSheet(sheetName) ? rowSource.getRow(sheetName, 0) : null;
+            if (headerRow == null) {
+                throw new IllegalArgumentException("Header row not found: " + 0);
+            }
+            headerRow.getCells().forEach(cell -> names.put(cell.getColumnIndex(), cell.toString()));
+        } else {
+            Row headerRow = getDomSheet(sheetName).getRow(0);
+            if (headerRow == null) {
+                throw new IllegalArgumentException("Header row not found: " + 0);
+            }
+            headerRow.forEach(cell -> names.put(cell.getColumnIndex(), cell.toString()));
+        }
+        header = new SheetHeader(names);
+        headers.put(sheetName, header);
+        return header;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R extends Record> RowMapper<R> getRowMapper(String sheetName, Class<R> type) {
+        Map<Class<?>, RowMapper<?>> mappers = rowMappers.computeIfAbsent(sheetName, key -> new ConcurrentHashMap<>());
+        RowMapper<?> mapper = mappers.get(type);
+        if (mapper == null) {
+            mapper = new RowMapper<>(type, getHeader(sheetName));
+            mappers.put(type, mapper);
+        }
+        return (RowMapper<R>) mapper;
+    }
+
+    private CellValue toCellValue(Cell cell) {
+        if (cell == null || cell.getCellType() == CellType.BLANK) {
+            return null;
+        }
+        boolean date = cell.getCellType() == CellType.NUMERIC && DateUtil.isCellDateFormatted(cell);
+        return new CellValue(cell.getCellType(), cell.getCellType() == CellType.NUMERIC ? cell.getNumericCellValue() : 0,
+                date ? cell.getLocalDateTimeCellValue() : null, formatCellValue(cell));
+    }
+
+    private static CellValue toCellValue(StreamedCell cell) {
+        if (cell == null || cell.getCellType() == CellType.BLANK) {
+            return null;
+        }
+        return new CellValue(cell.getCellType(), cell.getNumericValue(),
+                cell.isDateFormatted() ? cell.getLocalDateTimeValue() : null, cell.getFormattedValue());
+    }
+
+    private static int capacityFor(int entries) {
+        return (int) (entries / 0.75f) + 1;
+    }
+
+    /**
+     * The header row of a sheet, indexed both ways.
+     */
+    private static final class SheetHeader {
+
+        private final Map<Integer, String> namesByColumn;
+        private final Map<String, Integer> columnsByName = new HashMap<>();
+        private final int[] columns;
+
+        SheetHeader(Map<Integer, String> namesByColumn) {
+            this.namesByColumn = namesByColumn;
+            this.columns = namesByColumn.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+            // The first column wins when several headers only differ in case, as with a linear scan
+            namesByColumn.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .forEach(entry -> columnsByName.putIfAbsent(entry.getValue().toLowerCase(Locale.ROOT), entry.getKey()));
+        }
+
+        String nameAt(int column) {
+            String name = namesByColumn.get(column);
+            if (name == null) {
+                throw new IllegalArgumentException("Header cell not found: " + column);
+            }
+            return name;
+        }
+
+        int indexOf(String name) {
+            Integer column = columnsByName.get(name.toLowerCase(Locale.ROOT));
+            if (column == null) {
+                throw new IllegalArgumentException("Column " + name + " not found");
+            }
+            return column;
+        }
+
+        int[] columns() {
+            return columns;
+        }
+    }
+
+    /**
+     * A row below the header of a sheet, as returned by {@link ExcelUtils#streamRows(String)}.
+     * 
+     * @param rowNum the zero-based index of the row
+     * @param values the formatted value of every header column, in column order; empty or missing cells are null
+     */
+    public record SheetRow(int rowNum, Map<String, String> values) {
+
+        /**
+         * Gets the formatted value of a column, matching the header name ignoring case.
+         * 
+         * @param colName the header name of the column
+         * @return the formatted value, or null if the cell is empty or missing
+         * @throws IllegalArgumentException if the column does not exist
+         */
+        public String get(String colName) {
+            if (values.containsKey(colName)) {
+                return values.get(colName);
+            }
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                if (entry.getKey().equalsIgnoreCase(colName)) {
+                    return entry.getValue();
+                }
+            }
+            throw new IllegalArgumentException("Column " + colName + " not found");
+        }
+
+        boolean hasValue() {
+            return values.values().stream().anyMatch(value -> value != null && !value.isEmpty());
+        }
+    }
+
+    /**
+     * Pulls the rows below the header of a sheet from the row source one at a time.
+     */
+    private final class SourceRowSpliterator extends Spliterators.AbstractSpliterator<StreamedRow> implements AutoCloseable {
+
+        private final String sheetName;
+        private SheetRowSource.RowCursor cursor;
+        private boolean closed;
+
+        SourceRowSpliterator(String sheetName) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.sheetName = sheetName;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super StreamedRow> action) {
+            if (closed) {
+                return false;
+            }
+            if (cursor == null) {
+                cursor = rowSource.openCursor(sheetName);
+            }
+            // Every pull resumes where the cursor stopped, so the sheet is read once
+            StreamedRow row;
+            do {
+                row = cursor.next();
+            } while (row != null && row.getRowNum() == 0);
+            if (row == null) {
+                close();
+                return false;
+            }
+            action.accept(row);
+            return true;
+        }
+
+        @Override
+        public void close() {
+            if (cursor != null && !closed) {
+                cursor.close();
+            }
+            closed = true;
+        }
+    }
+
+    /**
+     * The value of a non-empty cell, independent of how the workbook is read.
+     */
+    private record CellValue(CellType type, double number, LocalDateTime dateTime, String text) {
+    }
+
+    /**
+     * Builds records of one type from the rows of one sheet.
+     */
+    private static final class RowMapper<R extends Record> {
+
+        private final Class<R> type;
+        private final Constructor<R> constructor;
+        private final String[] columnNames;
+        private final int[] columns;
+        private final Class<?>[] componentTypes;
+
+        RowMapper(Class<R> type, SheetHeader header) {
+            this.type = type;
+            RecordComponent[] components = type.getRecordComponents();
+            this.columnNames = new String[components.length];
+            this.columns = new int[components.length];
+            this.componentTypes = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                ExcelColumn column = components[i].getAnnotation(ExcelColumn.class);
+                columnNames[i] = column == null ? components[i].getName() : column.value();
+                columns[i] = header.indexOf(columnNames[i]);
+                componentTypes[i] = components[i].getType();
+            }
+            try {
+                this.constructor = type.getDeclaredConstructor(componentTypes);
+                this.constructor.setAccessible(true);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                throw new IllegalArgumentException("Cannot access the canonical constructor of " + type.getName(), e);
+            }
+        }
+
+        boolean hasValue(IntFunction<CellValue> cells) {
+            for (int column : columns) {
+                CellValue value = cells.apply(column);
+                if (value != null && !value.text().isEmpty()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        R map(IntFunction<CellValue> cells, int rowNum) {
+            Object[] arguments = new Object[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                try {
+                    arguments[i] = convert(cells.apply(columns[i]), componentTypes[i]);
+                } catch (RuntimeException e) {
+                    throw new IllegalArgumentException("Cannot convert column " + columnNames[i] + " of row " + rowNum
+                            + " to " + componentTypes[i].getSimpleName() + ": " + e.getMessage(), e);
+                }
+            }
+            try {
+                return constructor.newInstance(arguments);
+            } catch (InvocationTargetException e) {
+                throw new IllegalArgumentException("Row " + rowNum + " is rejected by " + type.getSimpleName() + ": " + e.getCause().getMessage(), e.getCause());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException("Cannot create " + type.getName() + " from row " + rowNum, e);
+            }
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static Object convert(CellValue value, Class<?> target) {
+            if (value == null) {
+                if (target.isPrimitive()) {
+                    throw new IllegalArgumentException("the cell is empty");
+                }
+                return null;
+            }
+            boolean numeric = value.type() == CellType.NUMERIC;
+            String text = value.text().trim();
+            if (target == String.class) {
+                return value.text();
+            }
+            if (target == int.class || target == Integer.class) {
+                return numeric ? Math.toIntExact(wholeNumber(value.number())) : Integer.parseInt(text);
+            }
+            if (target == long.class || target == Long.class) {
+                return numeric ? wholeNumber(value.number()) : Long.parseLong(text);
+            }
+            if (target == double.class || target == Double.class) {
+                return numeric ? value.number() : Double.parseDouble(text);
+            }
+            if (target == boolean.class || target == Boolean.class) {
+                if (!"true".equalsIgnoreCase(text) && !"false".equalsIgnoreCase(text)) {
+                    throw new IllegalArgumentException("'" + text + "' is not a boolean");
+                }
+                return Boolean.parseBoolean(text);
+            }
+            if (target == BigDecimal.class) {
+                return numeric ? BigDecimal.valueOf(value.number()) : new BigDecimal(text);
+            }
+            if (target == LocalDate.class) {
+                return value.dateTime() != null ? value.dateTime().toLocalDate() : LocalDate.parse(text);
+            }
+            if (target == LocalDateTime.class) {
+                return value.dateTime() != null ? value.dateTime() : LocalDateTime.parse(text);
+            }
+            if (target.isEnum()) {
+                for (Object constant : target.getEnumConstants()) {
+                    if (((Enum) constant).name().equalsIgnoreCase(text)) {
+                        return constant;
+                    }
+                }
+                throw new IllegalArgumentException("'" + text + "' is not one of " + Arrays.toString(target.getEnumConstants()));
+            }
+            throw new IllegalArgumentException("unsupported component type");
+        }
+
+        private static long wholeNumber(double number) {
+            if (number != Math.rint(number)) {
+                throw new IllegalArgumentException(number + " is not a whole number");
+            }
+            return (long) number;
+        }
+    }
+
+    static File resolveFile(String filePath) throws IOException {
+        URL resource = ExcelUtils.class.getClassLoader().getResource(filePath);
+        if (resource == null) {
+            throw new IllegalArgumentException("File not found: " + filePath);
+        }
+        if ("file".equals(resource.getProtocol())) {
+            try {
+                return new File(resource.toURI());
+            } catch (URISyntaxException e) {
+                throw new IOException("Invalid location of " + filePath, e);
+            }
+        }
+        // Packaged resources are copied out once, as the streaming reader needs random access to the file
+        Path copy = Files.createTempFile("excel-utils-", ".xlsx");
+        copy.toFile().deleteOnExit();
+        try (InputStream input = resource.openStream()) {
+            Files.copy(input, copy, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return copy.toFile();
+    }
 }
@@ -0,0 +1,135 @@
+package com.taskmanagerplus.utils;
+
+import java.util.Base64;
+import java.util.Map;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Utility class capturing the screenshot evidence of a test in the Task Manager Plus application.
+ *
+ * <p>A full-page screenshot is large and slow to encode, while a failure usually involves one
+ * component. Page objects therefore point the evidence at the element they hand to the test,
+ * such as a task row or a toast message, with {@link #focusOn(WebElement, String)}, and a test
+ * can point it at any region of the page with {@link #focusOnRegion(Rectangle, String)}. When the
+ * evidence is captured, only the element is photographed, or only the region, clipped by the
+ * browser through the DevTools {@code Page.captureScreenshot} command. A full-page screenshot is
+ * taken only when nothing is in focus, or when the element is gone by then.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * FailureEvidence.focusOn(taskRow, "Task row 'Test Task A'");
+ * // ... the test fails ...
+ * FailureEvidence.Evidence evidence = FailureEvidence.capture(driver);
+ * ReportingEventBus.attach(evidence.description(), "image/png", evidence.png());
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> The focus is kept per thread, and the latest call wins; it is cleared by
+ * {@link #clear()} before each test.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class FailureEvidence {
+
+    private static final Logger logger = LoggerFactory.getLogger(FailureEvidence.class);
+
+    private static final ThreadLocal<Focus> focus = new ThreadLocal<>();
+
+    /**
+     * The element or region in focus; exactly one of them is set.
+     */
+    private record Focus(WebElement element, Rectangle region, String description) {
+    }
+
+    /**
+     * A captured screenshot.
+     *
+     * @param description what the screenshot shows, such as {@code Task row 'Test Task A'} or {@code Full page}
+     * @param png the PNG image
+     */
+    public record Evidence(String description, byte[] png) {
+    }
+
+    private FailureEvidence() {
+        // private constructor to prevent instantiation
+    }
+
+    /**
+     * Points the evidence of the current test at an element.
+     *
+     * @param element the element involved, such as the row being checked
+     * @param description what the element is, for the report
+     * @return the element, so the call can wrap a lookup
+     */
+    public static WebElement focusOn(WebElement element, String description) {
+        focus.set(new Focus(element, null, description));
+        return element;
+    }
+
+    /**
+     * Points the evidence of the current test at a region of the page.
+     *
+     * @param region the region, in CSS pixels from the top left of the page
+     * @param description what the region shows, for the report
+     */
+    public static void focusOnRegion(Rectangle region, String description) {
+        focus.set(new Focus(null, region, description));
+    }
+
+    /**
+     * Removes the focus of the current thread.
+     */
+    public static void clear() {
+        focus.remove();
+    }
+
+    /**
+     * Takes the screenshot of the element or region in focus, or else of the full page.
+     *
+     * @param driver the WebDriver instance of the test
+     * @return the evidence
+     */
+    public static Evidence capture(WebDriver driver) {
+        Focus current = focus.get();
+        if (current != null) {
+            try {
+                if (current.element() != null) {
+                    return new Evidence(current.description(), current.element().getScreenshotAs(OutputType.BYTES));
+                }
+                WebDriver target = driver instanceof WrapsDriver wrapper ? wrapper.getWrappedDriver() : driver;
+                if (target instanceof HasCdp cdp) {
+                    return new Evidence(current.description(), captureRegion(cdp, current.region()));
+                }
+            } catch (WebDriverException e) {
+                // Typically a row or toast that is no longer on the page
+                logger.debug("Failed to capture {}, taking the full page instead: {}", current.description(), e.getMessage());
+            }
+        }
+        return new Evidence("Full page", ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES));
+    }
+
+    private static byte[] captureRegion(HasCdp cdp, Rectangle region) {
+        Map<String, Object> clip = Map.of(
+                "x", region.getX(),
+                "y", region.getY(),
+                "width", region.getWidth(),
+                "height", region.getHeight(),
+                "scale", 1);
+        Map<String, Object> result = cdp.executeCdpCommand("Page.captureScreenshot",
+                Map.of("format", "png", "clip", clip, "captureBeyondViewport", true));
+        return Base64.getDecoder().decode((String) result.get("data"));
+    }
+}
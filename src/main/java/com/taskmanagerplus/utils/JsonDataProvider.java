@@ -0,0 +1,104 @@
+package com.taskmanagerplus.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+
+/**
+ * Test data backend for JSON files in the Task Manager Plus application.
+ *
+ * <p>A file holding an array of objects is read as a single sheet named after the file without
+ * its extension. A file holding an object whose members are arrays of objects is read as one
+ * sheet per member. Every object is a row, and the header is made of the member names in the
+ * order they first appear. Strings, numbers and booleans keep their type, so numbers are
+ * formatted like numeric Excel cells; null and absent members leave the cell missing.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * // testdata/LoginCredentials.json: {"LoginCredentials": [{"Username": "luna.moon@maif.com", "Password": 123}]}
+ * ExcelUtils jsonUtils = ExcelUtils.shared("testdata/LoginCredentials.json");
+ * String password = jsonUtils.getCellDataByColumnName("LoginCredentials", 1, "Password");
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> Nested objects and arrays inside a row are rejected.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class JsonDataProvider implements TestDataProvider {
+
+    private static final Json JSON = new Json();
+
+    @Override
+    public List<String> getExtensions() {
+        return List.of("json");
+    }
+
+    @Override
+    public SheetRowSource load(String filePath) throws IOException {
+        Object document;
+        try (InputStream input = getClass().getClassLoader().getResourceAsStream(filePath)) {
+            if (input == null) {
+                throw new IllegalArgumentException("File not found: " + filePath);
+            }
+            document = JSON.toType(new String(input.readAllBytes(), StandardCharsets.UTF_8), Object.class);
+        } catch (JsonException e) {
+            throw new IOException("Malformed JSON in " + filePath, e);
+        }
+
+        Map<String, List<List<Object>>> tables = new LinkedHashMap<>();
+        if (document instanceof List<?> rows) {
+            String fileName = filePath.substring(filePath.lastIndexOf('/') + 1);
+            tables.put(CompiledWorkbook.basePath(fileName), toTable(rows, filePath));
+        } else if (document instanceof Map<?, ?> sheets) {
+            for (Map.Entry<?, ?> sheet : sheets.entrySet()) {
+                if (!(sheet.getValue() instanceof List<?> rows)) {
+                    throw new IOException("Sheet " + sheet.getKey() + " in " + filePath + " is not an array of objects");
+                }
+                tables.put(String.valueOf(sheet.getKey()), toTable(rows, filePath));
+            }
+        } else {
+            throw new IOException(filePath + " must hold an array of objects or an object of arrays");
+        }
+        return WorkbookSnapshot.ofTables(tables);
+    }
+
+    private static List<List<Object>> toTable(List<?> rows, String filePath) throws IOException {
+        Set<String> header = new LinkedHashSet<>();
+        for (Object row : rows) {
+            if (!(row instanceof Map<?, ?> members)) {
+                throw new IOException("Row " + row + " in " + filePath + " is not an object");
+            }
+            for (Map.Entry<?, ?> member : members.entrySet()) {
+                if (member.getValue() instanceof Map || member.getValue() instanceof List) {
+                    throw new IOException("Member " + member.getKey() + " in " + filePath + " holds a nested value");
+                }
+                header.add(String.valueOf(member.getKey()));
+            }
+        }
+
+        List<List<Object>> table = new ArrayList<>(rows.size() + 1);
+        table.add(new ArrayList<>(header));
+        for (Object row : rows) {
+            Map<?, ?> members = (Map<?, ?>) row;
+            List<Object> values = new ArrayList<>(header.size());
+            for (String column : header) {
+                values.add(members.get(column));
+            }
+            table.add(values);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,93 @@
+package com.taskmanagerplus.utils;
+
+import java.util.Map;
+
+import org.slf4j.MDC;
+
+/**
+ * Utility class managing the logging context of the current test in the Task Manager Plus application.
+ *
+ * <p>The context is kept in the SLF4J MDC of the thread running the test, under the keys
+ * {@value #TEST_ID}, {@value #WORKER} and {@value #DRIVER_SESSION}, so that every log line
+ * written by the test, its page objects and the framework carries them. The JSON log written by
+ * {@code logback.xml} includes them as fields, so the output of concurrent tests can be filtered
+ * per test even though the lines interleave.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * LoggingContext.startTest("com.taskmanagerplus.tests.LoginTest.testLogin()");
+ * LoggingContext.setDriverSession(driver.getSessionId().toString());
+ * // ... the test runs ...
+ * LoggingContext.clear();
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> The MDC is bound to a thread. Work handed to another thread, such as the report
+ * sinks, has to take a {@link #snapshot()} on the test thread and {@link #restore(Map)} it.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class LoggingContext {
+
+    /** MDC key of the test, as {@code TestClass.testMethod()}. */
+    public static final String TEST_ID = "testId";
+
+    /** MDC key of the thread running the test. */
+    public static final String WORKER = "worker";
+
+    /** MDC key of the WebDriver session of the test. */
+    public static final String DRIVER_SESSION = "driverSession";
+
+    private LoggingContext() {
+        // private constructor to prevent instantiation
+    }
+
+    /**
+     * Sets the context of a test starting on the current thread, replacing any previous one.
+     *
+     * @param testId the name of the test
+     */
+    public static void startTest(String testId) {
+        MDC.clear();
+        MDC.put(TEST_ID, testId);
+        MDC.put(WORKER, Thread.currentThread().getName());
+    }
+
+    /**
+     * Adds the WebDriver session of the current test to the context.
+     *
+     * @param sessionId the session ID
+     */
+    public static void setDriverSession(String sessionId) {
+        MDC.put(DRIVER_SESSION, sessionId);
+    }
+
+    /**
+     * Copies the context of the current thread.
+     *
+     * @return the context, empty outside a test
+     */
+    public static Map<String, String> snapshot() {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return context != null ? context : Map.of();
+    }
+
+    /**
+     * Replaces the context of the current thread with a copy taken on another thread.
+     *
+     * @param context the context returned by {@link #snapshot()}
+     */
+    public static void restore(Map<String, String> context) {
+        MDC.setContextMap(context);
+    }
+
+    /**
+     * Removes the context from the current thread.
+     */
+    public static void clear() {
+        MDC.clear();
+    }
+}
@@ -0,0 +1,86 @@
+package com.taskmanagerplus.utils;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.taskmanagerplus.utils.StreamingSheetReader.StreamedRow;
+
+/**
+ * Source of the rows of the sheets of a workbook, read without a POI DOM.
+ *
+ * <p>Implemented by {@link StreamingSheetReader}, which streams the rows from the file on every
+ * call, by {@link WorkbookSnapshot}, which holds all rows in memory, and by {@link CompiledWorkbook},
+ * which reads them from a memory-mapped compiled file. {@link ExcelUtils} reads through any of
+ * them the same way, either visiting the rows of a sheet or pulling them through a {@link RowCursor}.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public interface SheetRowSource {
+
+    /**
+     * Gets the names of the sheets, in workbook order.
+     *
+     * @return the names of the sheets
+     */
+    List<String> getSheetNames();
+
+    /**
+     * Checks if the workbook contains the given sheet.
+     *
+     * @param sheetName the name of the sheet
+     * @return true if the sheet exists, false otherwise
+     */
+    boolean hasSheet(String sheetName);
+
+    /**
+     * Visits the rows of a sheet in order until the visitor returns false or the sheet ends.
+     *
+     * @param sheetName the name of the sheet
+     * @param visitor called for every row present in the sheet; returns false to stop
+     * @throws IllegalArgumentException if the sheet does not exist
+     */
+    void forEachRow(String sheetName, Predicate<StreamedRow> visitor);
+
+    /**
+     * Gets a single row of a sheet.
+     *
+     * @param sheetName the name of the sheet
+     * @param rowNum the zero-based index of the row
+     * @return the row, or null if the sheet has no such row
+     * @throws IllegalArgumentException if the sheet does not exist
+     */
+    StreamedRow getRow(String sheetName, int rowNum);
+
+    /**
+     * Opens a cursor over the rows of a sheet, which reads one more row each time it is advanced,
+     * so a caller pulling the rows one at a time never reads a row twice.
+     *
+     * @param sheetName the name of the sheet
+     * @return the cursor, positioned before the first row; to be closed when no longer needed
+     * @throws IllegalArgumentException if the sheet does not exist
+     */
+    RowCursor openCursor(String sheetName);
+
+    /**
+     * Position in the rows of a sheet, resumed by every call to {@link #next()}.
+     */
+    @FunctionalInterface
+    interface RowCursor extends AutoCloseable {
+
+        /**
+         * Reads the next row present in the sheet.
+         *
+         * @return the row, or null when the sheet has no more rows
+         */
+        StreamedRow next();
+
+        /**
+         * Releases the resources held by the cursor; nothing for in-memory rows.
+         */
+        @Override
+        default void close() {
+        }
+    }
+}
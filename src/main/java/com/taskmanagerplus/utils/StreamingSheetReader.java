@@ -0,0 +1,512 @@
+package com.taskmanagerplus.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.LocaleUtil;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.SAXException;
+
+/**
+ * Streaming reader for the sheets of an .xlsx workbook in the Task Manager Plus application.
+ *
+ * <p>The workbook is opened through the XSSF event API: the shared strings table and the styles
+ * are parsed once when the reader is created, while the sheets themselves are never loaded as a
+ * DOM. Each call to {@link #forEachRow(String, Predicate)} pulls the rows of a sheet one at a time
+ * from its XML part and stops as soon as the visitor returns false, so memory use is bounded by a
+ * single row regardless of the size of the sheet. A cursor from {@link #openCursor(String)} keeps
+ * its place in the XML part instead, so rows pulled one by one are each parsed once.</p>
+ *
+ * <p>Cell values are rendered exactly as the DOM-based {@link ExcelUtils} renders them:
+ * {@link StreamedCell#toString()} matches {@code Cell.toString()} and
+ * {@link StreamedCell#getFormattedValue()} matches the formatting of
+ * {@link ExcelUtils#getCellDataByColumnName(String, int, String)}.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * try (StreamingSheetReader reader = new StreamingSheetReader(new File("LoginCredentials.xlsx"))) {
+ *     reader.forEachRow("LoginCredentials", row -> {
+ *         System.out.println(row.getCell(0));
+ *         return true;
+ *     });
+ * }
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> Cells that use a shared formula report the formula text of the master cell, as the
+ * event API does not shift shared formulas.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class StreamingSheetReader implements SheetRowSource, AutoCloseable {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLHelper.newXMLInputFactory();
+
+    private final OPCPackage opcPackage;
+    private final XSSFReader xssfReader;
+    private final ReadOnlySharedStringsTable sharedStrings;
+    private final StylesTable styles;
+    private final boolean date1904;
+    private final Map<String, String> sheetPartIds = new LinkedHashMap<>();
+
+    /**
+     * Opens the given workbook for streaming.
+     *
+     * @param file the .xlsx file
+     * @throws IOException if the file is not a readable .xlsx workbook
+     */
+    public StreamingSheetReader(File file) throws IOException {
+        try {
+            this.opcPackage = OPCPackage.open(file, PackageAccess.READ);
+        } catch (OpenXML4JException | RuntimeException e) {
+            throw new IOException("Not a valid .xlsx workbook: " + file, e);
+        }
+        try {
+            this.xssfReader = new XSSFReader(opcPackage);
+            this.sharedStrings = new ReadOnlySharedStringsTable(opcPackage);
+            this.styles = xssfReader.getStylesTable();
+            this.date1904 = readSheetIdsAndDateSystem();
+        } catch (OpenXML4JException | SAXException | XMLStreamException | RuntimeException e) {
+            opcPackage.revert();
+            throw new IOException("Not a valid .xlsx workbook: " + file, e);
+        }
+    }
+
+    @Override
+    public List<String> getSheetNames() {
+        return List.copyOf(sheetPartIds.keySet());
+    }
+
+    @Override
+    public boolean hasSheet(String sheetName) {
+        return sheetPartIds.containsKey(sheetName);
+    }
+
+    /**
+     * Streams the rows of a sheet in order until the visitor returns false or the sheet ends.
+     *
+     * @param sheetName the name of the sheet
+     * @param visitor called for every row present in the sheet; returns false to stop
+     * @throws IllegalArgumentException if the sheet does not exist
+     */
+    @Override
+    public void forEachRow(String sheetName, Predicate<StreamedRow> visitor) {
+        try (RowCursor cursor = openCursor(sheetName)) {
+            StreamedRow row;
+            while ((row = cursor.next()) != null && visitor.test(row)) {
+                // Keep streaming until the visitor stops or the sheet ends
+            }
+        }
+    }
+
+    /**
+     * Opens a cursor streaming the rows of a sheet, which keeps the XML part of the sheet open
+     * between calls and parses one more row each time it is advanced.
+     *
+     * @param sheetName the name of the sheet
+     * @return the cursor, positioned before the first row; to be closed to release the XML part
+     * @throws IllegalArgumentException if the sheet does not exist
+     */
+    @Override
+    public RowCursor openCursor(String sheetName) {
+        String partId = sheetPartIds.get(sheetName);
+        if (partId == null) {
+            throw new IllegalArgumentException("Sheet not found: " + sheetName);
+        }
+        InputStream input = null;
+        try {
+            input = xssfReader.getSheet(partId);
+            return new SheetCursor(sheetName, input, XML_INPUT_FACTORY.createXMLStreamReader(input));
+        } catch (IOException | OpenXML4JException | XMLStreamException e) {
+            closeQuietly(input);
+            throw new IllegalStateException("Failed to stream sheet " + sheetName, e);
+        }
+    }
+
+    /**
+     * Gets a single row of a sheet, streaming the sheet only up to that row.
+     *
+     * @param sheetName the name of the sheet
+     * @param rowNum the zero-based index of the row
+     * @return the row, or null if the sheet has no such row
+     */
+    @Override
+    public StreamedRow getRow(String sheetName, int rowNum) {
+        StreamedRow[] found = new StreamedRow[1];
+        forEachRow(sheetName, row -> {
+            if (row.getRowNum() == rowNum) {
+                found[0] = row;
+            }
+            return row.getRowNum() < rowNum;
+        });
+        return found[0];
+    }
+
+    @Override
+    public void close() {
+        // Opened read-only, so there is nothing to save
+        opcPackage.revert();
+    }
+
+    private boolean readSheetIdsAndDateSystem() throws IOException, OpenXML4JException, XMLStreamException {
+        try (InputStream input = xssfReader.getWorkbookData()) {
+            XMLStreamReader xml = XML_INPUT_FACTORY.createXMLStreamReader(input);
+            try {
+                boolean workbookDate1904 = false;
+                while (xml.hasNext()) {
+                    int event = xml.next();
+                    if (event == XMLStreamConstants.END_ELEMENT && "sheets".equals(xml.getLocalName())) {
+                        break;
+                    }
+                    if (event != XMLStreamConstants.START_ELEMENT) {
+                        continue;
+                    }
+                    if ("workbookPr".equals(xml.getLocalName())) {
+                        String value = xml.getAttributeValue(null, "date1904");
+                        workbookDate1904 = "1".equals(value) || "true".equalsIgnoreCase(value);
+                    } else if ("sheet".equals(xml.getLocalName())) {
+                        // The relationship id lives in the relationships namespace
+                        sheetPartIds.put(xml.getAttributeValue(null, "name"), attributeByLocalName(xml, "id"));
+                    }
+                }
+                return workbookDate1904;
+            } finally {
+                xml.close();
+            }
+        }
+    }
+
+    private static void closeQuietly(InputStream input) {
+        if (input != null) {
+            try {
+                input.close();
+            } catch (IOException e) {
+                // Read-only part, nothing is lost
+            }
+        }
+    }
+
+    /**
+     * Cursor pulling the rows of a sheet from its XML part.
+     */
+    private final class SheetCursor implements RowCursor {
+
+        private final String sheetName;
+        private final InputStream input;
+        private final XMLStreamReader xml;
+        private int nextRowNum;
+
+        SheetCursor(String sheetName, InputStream input, XMLStreamReader xml) {
+            this.sheetName = sheetName;
+            this.input = input;
+            this.xml = xml;
+        }
+
+        @Override
+        public StreamedRow next() {
+            try {
+                while (xml.hasNext()) {
+                    if (xml.next() == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+                        String r = xml.getAttributeValue(null, "r");
+                        int rowNum = r == null ? nextRowNum : Integer.parseInt(r) - 1;
+                        nextRowNum = rowNum + 1;
+                        return readRow(xml, rowNum);
+                    }
+                }
+                return null;
+            } catch (XMLStreamException e) {
+                throw new IllegalStateException("Failed to stream sheet " + sheetName, e);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                xml.close();
+            } catch (XMLStreamException e) {
+                // The part is closed below either way
+            }
+            closeQuietly(input);
+        }
+    }
+
+    private static String attributeByLocalName(XMLStreamReader xml, String localName) {
+        for (int i = 0; i < xml.getAttributeCount(); i++) {
+            if (localName.equals(xml.getAttributeLocalName(i))) {
+                return xml.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    private StreamedRow readRow(XMLStreamReader xml, int rowNum) throws XMLStreamException {
+        List<StreamedCell> cells = new ArrayList<>();
+        int nextColumn = 0;
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+                break;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT && "c".equals(xml.getLocalName())) {
+                StreamedCell cell = readCell(xml, nextColumn);
+                cells.add(cell);
+                nextColumn = cell.getColumnIndex() + 1;
+            }
+        }
+        return new StreamedRow(rowNum, cells);
+    }
+
+    private StreamedCell readCell(XMLStreamReader xml, int defaultColumn) throws XMLStreamException {
+        String reference = xml.getAttributeValue(null, "r");
+        int column = reference == null ? defaultColumn : new CellReference(reference).getCol();
+        String type = xml.getAttributeValue(null, "t");
+        String styleIndex = xml.getAttributeValue(null, "s");
+
+        String value = null;
+        String formula = null;
+        StringBuilder inlineText = null;
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "c".equals(xml.getLocalName())) {
+                break;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            switch (xml.getLocalName()) {
+                case "v":
+                    value = xml.getElementText();
+                    break;
+                case "f":
+                    formula = xml.getElementText();
+                    break;
+                case "t":
+                    // Text runs of an inline string
+                    if (inlineText == null) {
+                        inlineText = new StringBuilder();
+                    }
+                    inlineText.append(xml.getElementText());
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        XSSFCellStyle style = styles == null ? null : styles.getStyleAt(styleIndex == null ? 0 : Integer.parseInt(styleIndex));
+        int formatIndex = style == null ? 0 : style.getDataFormat();
+        String formatString = style == null ? null : style.getDataFormatString();
+
+        if (formula != null && !formula.isEmpty()) {
+            return new StreamedCell(column, CellType.FORMULA, formula, 0, formatIndex, formatString, date1904);
+        }
+        if ("inlineStr".equals(type)) {
+            return new StreamedCell(column, CellType.STRING, inlineText == null ? "" : inlineText.toString(), 0, formatIndex, formatString, date1904);
+        }
+        if (value == null) {
+            return new StreamedCell(column, CellType.BLANK, "", 0, formatIndex, formatString, date1904);
+        }
+        if (type == null || "n".equals(type)) {
+            return new StreamedCell(column, CellType.NUMERIC, value, Double.parseDouble(value), formatIndex, formatString, date1904);
+        }
+        switch (type) {
+            case "s":
+                String text = sharedStrings.getItemAt(Integer.parseInt(value)).getString();
+                return new StreamedCell(column, CellType.STRING, text, 0, formatIndex, formatString, date1904);
+            case "b":
+                return new StreamedCell(column, CellType.BOOLEAN, "1".equals(value) ? "TRUE" : "FALSE", 0, formatIndex, formatString, date1904);
+            case "e":
+                return new StreamedCell(column, CellType.ERROR, value, 0, formatIndex, formatString, date1904);
+            default:
+                return new StreamedCell(column, CellType.STRING, value, 0, formatIndex, formatString, date1904);
+        }
+    }
+
+    /**
+     * A row read from a sheet.
+     */
+    public static final class StreamedRow {
+
+        private final int rowNum;
+        private final List<StreamedCell> cells;
+
+        StreamedRow(int rowNum, List<StreamedCell> cells) {
+            this.rowNum = rowNum;
+            this.cells = Collections.unmodifiableList(cells);
+        }
+
+        /**
+         * Gets the zero-based index of the row.
+         *
+         * @return the index of the row
+         */
+        public int getRowNum() {
+            return rowNum;
+        }
+
+        /**
+         * Gets the cells present in the row, in column order.
+         *
+         * @return the cells of the row
+         */
+        public List<StreamedCell> getCells() {
+            return cells;
+        }
+
+        /**
+         * Gets the cell in the given column.
+         *
+         * @param columnIndex the zero-based index of the column
+         * @return the cell, or null if the row has no cell in that column
+         */
+        public StreamedCell getCell(int columnIndex) {
+            for (StreamedCell cell : cells) {
+                if (cell.getColumnIndex() == columnIndex) {
+                    return cell;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A cell read from a sheet.
+     */
+    public static final class StreamedCell {
+
+        private final int columnIndex;
+        private final CellType cellType;
+        private final String text;
+        private final double numericValue;
+        private final int formatIndex;
+        private final String formatString;
+        private final boolean date1904;
+
+        StreamedCell(int columnIndex, CellType cellType, String text, double numericValue, int formatIndex, String formatString, boolean date1904) {
+            this.columnIndex = columnIndex;
+            this.cellType = cellType;
+            this.text = text;
+            this.numericValue = numericValue;
+            this.formatIndex = formatIndex;
+            this.formatString = formatString;
+            this.date1904 = date1904;
+        }
+
+        public int getColumnIndex() {
+            return columnIndex;
+        }
+
+        public CellType getCellType() {
+            return cellType;
+        }
+
+        String getText() {
+            return text;
+        }
+
+        int getFormatIndex() {
+            return formatIndex;
+        }
+
+        String getFormatString() {
+            return formatString;
+        }
+
+        boolean isDate1904() {
+            return date1904;
+        }
+
+        /**
+         * Formats the value the way {@code ExcelUtils.getCellDataByColumnName} formats a DOM cell.
+         *
+         * @return the formatted value
+         */
+        public String getFormattedValue() {
+            if (cellType == CellType.NUMERIC) {
+                if (isDateFormatted()) {
+                    return DateUtil.getJavaDate(numericValue, date1904).toString();
+                }
+                if (numericValue == (long) numericValue) {
+                    return String.format("%d", (long) numericValue);
+                }
+                return String.valueOf(numericValue);
+            }
+            if (cellType == CellType.BOOLEAN) {
+                return String.valueOf("TRUE".equals(text));
+            }
+            return toString();
+        }
+
+        /**
+         * Renders the value the way {@code Cell.toString()} renders a DOM cell.
+         *
+         * @return the value of the cell
+         */
+        @Override
+        public String toString() {
+            if (cellType == CellType.NUMERIC) {
+                if (isDateFormatted()) {
+                    DateFormat format = new SimpleDateFormat("dd-MMM-yyyy", LocaleUtil.getUserLocale());
+                    format.setTimeZone(LocaleUtil.getUserTimeZone());
+                    return format.format(DateUtil.getJavaDate(numericValue, date1904));
+                }
+                return Double.toString(numericValue);
+            }
+            return text;
+        }
+
+        /**
+         * Gets the value of a numeric cell.
+         *
+         * @return the numeric value, or 0 for other cell types
+         */
+        public double getNumericValue() {
+            return numericValue;
+        }
+
+        /**
+         * Gets the value of a date-formatted numeric cell.
+         *
+         * @return the date and time of the cell
+         */
+        public LocalDateTime getLocalDateTimeValue() {
+            return DateUtil.getLocalDateTime(numericValue, date1904);
+        }
+
+        /**
+         * Checks if the cell holds a date, the way {@link DateUtil#isCellDateFormatted} checks a DOM cell.
+         *
+         * @return true if the cell is numeric and has a date format, false otherwise
+         */
+        public boolean isDateFormatted() {
+            return cellType == CellType.NUMERIC && DateUtil.isValidExcelDate(numericValue) && DateUtil.isADateFormat(formatIndex, formatString);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.taskmanagerplus.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.taskmanagerplus.utils.StreamingSheetReader.StreamedCell;
+import com.taskmanagerplus.utils.StreamingSheetReader.StreamedRow;
+
+/**
+ * Build step compiling the .xlsx test data workbooks of the Task Manager Plus application into the
+ * binary format read by {@link CompiledWorkbook}.
+ *
+ * <p>For every {@code *.xlsx} file of the source directory an index file ({@code .tdx}) and a
+ * columnar data file ({@code .tdb}) with the same base name are written to the output directory.
+ * Workbooks whose compiled files already carry the SHA-256 of the source are skipped, and files
+ * that are not valid workbooks are reported and left uncompiled, so that tests reading them fail
+ * the same way they do without this step.</p>
+ *
+ * <p>The compiler runs in the {@code process-classes} phase of the Maven build. It can also be run
+ * by hand:</p>
+ * <pre>
+ * {@code
+ * mvn compile exec:java -Dexec.mainClass=com.taskmanagerplus.utils.TestDataCompiler -Dexec.args="src/main/resources/testdata target/classes/testdata"
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> The index file is written last, so an interrupted run leaves the compiled
+ * workbook unreadable rather than inconsistent, and {@link CompiledWorkbook#open(String)} falls
+ * back to the .xlsx file.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class TestDataCompiler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TestDataCompiler.class);
+
+    private static final String SOURCE_EXTENSION = ".xlsx";
+
+    private TestDataCompiler() {
+        // private constructor to prevent instantiation
+    }
+
+    /**
+     * Compiles every workbook of a directory.
+     *
+     * @param sourceDir the directory holding the .xlsx files
+     * @param outputDir the directory receiving the compiled files
+     * @return the number of workbooks compiled, not counting the ones already up to date
+     * @throws IOException if the directories cannot be read or written
+     */
+    public static int compileDirectory(File sourceDir, File outputDir) throws IOException {
+        File[] sources = sourceDir.listFiles((dir, name) -> name.endsWith(SOURCE_EXTENSION));
+        if (sources == null) {
+            logger.info("No test data directory at {}", sourceDir);
+            return 0;
+        }
+        Arrays.sort(sources);
+        Files.createDirectories(outputDir.toPath());
+        int compiled = 0;
+        for (File source : sources) {
+            if (compile(source, outputDir)) {
+                compiled++;
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * Compiles a single workbook unless its compiled files are up to date.
+     *
+     * @param source the .xlsx file
+     * @param outputDir the directory receiving the compiled files
+     * @return true if the workbook was compiled
+     * @throws IOException if the compiled files cannot be written
+     */
+    public static boolean compile(File source, File outputDir) throws IOException {
+        String baseName = CompiledWorkbook.basePath(source.getName());
+        File index = new File(outputDir, baseName + CompiledWorkbook.INDEX_EXTENSION);
+        File dataFile = new File(outputDir, baseName + CompiledWorkbook.DATA_EXTENSION);
+        byte[] hash = CompiledWorkbook.sha256(source);
+        if (dataFile.isFile() && Arrays.equals(indexedHash(index), hash)) {
+            logger.debug("Compiled test data for {} is up to date", source.getName());
+            return false;
+        }
+
+        Files.deleteIfExists(index.toPath());
+        Files.deleteIfExists(dataFile.toPath());
+        WorkbookSnapshot snapshot;
+        try {
+            snapshot = WorkbookSnapshot.load(source);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Skipping {}: not a readable workbook ({})", source.getName(), e.getMessage());
+            return false;
+        }
+
+        long start = System.nanoTime();
+        Output output = write(snapshot, hash);
+        Files.write(dataFile.toPath(), output.data());
+        Files.write(index.toPath(), output.index());
+        logger.info("Compiled {} into {} bytes in {} ms", source.getName(), output.data().length, (System.nanoTime() - start) / 1_000_000);
+        return true;
+    }
+
+    private static byte[] indexedHash(File index) {
+        if (!index.isFile()) {
+            return null;
+        }
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(index.toPath()))) {
+            if (input.readInt() != CompiledWorkbook.INDEX_MAGIC || input.readInt() != CompiledWorkbook.FORMAT_VERSION) {
+                return null;
+            }
+            byte[] hash = new byte[32];
+            input.readFully(hash);
+            return hash;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static Output write(WorkbookSnapshot snapshot, byte[] hash) throws IOException {
+        StringPool strings = new StringPool();
+        boolean date1904 = false;
+        ByteArrayOutputStream dataBytes = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(dataBytes);
+        data.writeInt(CompiledWorkbook.DATA_MAGIC);
+        data.writeInt(CompiledWorkbook.FORMAT_VERSION);
+        data.write(hash);
+
+        ByteArrayOutputStream sheetIndexBytes = new ByteArrayOutputStream();
+        DataOutputStream sheetIndex = new DataOutputStream(sheetIndexBytes);
+        List<String> sheetNames = snapshot.getSheetNames();
+        for (String sheetName : sheetNames) {
+            List<StreamedRow> rows = snapshot.getRows(sheetName);
+            int rowCount = rows.isEmpty() ? 0 : rows.get(rows.size() - 1).getRowNum() + 1;
+            int columnCount = 0;
+            StreamedCell[][] grid = new StreamedCell[rowCount][];
+            for (StreamedRow row : rows) {
+                List<StreamedCell> cells = row.getCells();
+                int width = cells.isEmpty() ? 0 : cells.get(cells.size() - 1).getColumnIndex() + 1;
+                StreamedCell[] line = new StreamedCell[width];
+                for (StreamedCell cell : cells) {
+                    line[cell.getColumnIndex()] = cell;
+                    date1904 |= cell.isDate1904();
+                }
+                grid[row.getRowNum()] = line;
+                columnCount = Math.max(columnCount, width);
+            }
+
+            long rowsOffset = data.size();
+            for (StreamedCell[] line : grid) {
+                data.writeByte(line == null ? 0 : 1);
+            }
+            long[] columnOffsets = new long[columnCount];
+            for (int column = 0; column < columnCount; column++) {
+                columnOffsets[column] = writeColumn(data, grid, column, strings);
+            }
+
+            sheetIndex.writeUTF(sheetName);
+            sheetIndex.writeInt(rowCount);
+            sheetIndex.writeLong(rowsOffset);
+            sheetIndex.writeInt(columnCount);
+            for (long offset : columnOffsets) {
+                sheetIndex.writeLong(offset);
+            }
+        }
+
+        // String pool: one absolute offset per string, then length-prefixed UTF-8 entries
+        long stringsOffset = data.size();
+        List<byte[]> encoded = strings.encoded();
+        long entryOffset = stringsOffset + 4L * encoded.size();
+        for (byte[] bytes : encoded) {
+            data.writeInt(Math.toIntExact(entryOffset));
+            entryOffset += 4 + bytes.length;
+        }
+        for (byte[] bytes : encoded) {
+            data.writeInt(bytes.length);
+            data.write(bytes);
+        }
+        data.flush();
+
+        ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+        DataOutputStream index = new DataOutputStream(indexBytes);
+        index.writeInt(CompiledWorkbook.INDEX_MAGIC);
+        index.writeInt(CompiledWorkbook.FORMAT_VERSION);
+        index.write(hash);
+        index.writeBoolean(date1904);
+        index.writeLong(stringsOffset);
+        index.writeInt(encoded.size());
+        index.writeInt(sheetNames.size());
+        sheetIndex.flush();
+        index.write(sheetIndexBytes.toByteArray());
+        index.flush();
+        return new Output(indexBytes.toByteArray(), dataBytes.toByteArray());
+    }
+
+    private static long writeColumn(DataOutputStream data, StreamedCell[][] grid, int column, StringPool strings) throws IOException {
+        StreamedCell[] cells = new StreamedCell[grid.length];
+        boolean present = false;
+        for (int row = 0; row < grid.length; row++) {
+            StreamedCell[] line = grid[row];
+            cells[row] = line != null && column < line.length ? line[column] : null;
+            present |= cells[row] != null;
+        }
+        if (!present) {
+            return -1;
+        }
+
+        long offset = data.size();
+        for (StreamedCell cell : cells) {
+            data.writeByte(cell == null ? CompiledWorkbook.NO_CELL : CompiledWorkbook.typeCode(cell.getCellType()));
+        }
+        for (StreamedCell cell : cells) {
+            data.writeInt(cell == null ? CompiledWorkbook.NULL_STRING : strings.add(cell.getText()));
+        }
+        for (StreamedCell cell : cells) {
+            data.writeDouble(cell == null ? 0 : cell.getNumericValue());
+        }
+        for (StreamedCell cell : cells) {
+            data.writeShort(cell == null ? 0 : cell.getFormatIndex());
+        }
+        for (StreamedCell cell : cells) {
+            data.writeInt(cell == null ? CompiledWorkbook.NULL_STRING : strings.add(cell.getFormatString()));
+        }
+        return offset;
+    }
+
+    /**
+     * The compiled index and data files of a workbook.
+     */
+    private record Output(byte[] index, byte[] data) {
+    }
+
+    /**
+     * Deduplicating pool of the strings of a workbook.
+     */
+    private static final class StringPool {
+
+        private final Map<String, Integer> references = new LinkedHashMap<>();
+
+        int add(String value) {
+            return value == null ? CompiledWorkbook.NULL_STRING : references.computeIfAbsent(value, key -> references.size());
+        }
+
+        List<byte[]> encoded() {
+            List<byte[]> encoded = new ArrayList<>(references.size());
+            references.keySet().forEach(value -> encoded.add(value.getBytes(StandardCharsets.UTF_8)));
+            return encoded;
+        }
+    }
+
+    /**
+     * Compiles the workbooks of a directory.
+     *
+     * @param args the source directory and the output directory
+     * @throws IOException if the directories cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: TestDataCompiler <sourceDir> <outputDir>");
+        }
+        int compiled = compileDirectory(new File(args[0]), new File(args[1]));
+        logger.info("Compiled {} test data workbooks into {}", compiled, args[1]);
+    }
+}
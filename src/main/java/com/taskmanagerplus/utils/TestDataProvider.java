@@ -0,0 +1,83 @@
+package com.taskmanagerplus.utils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Backend reading a test data file of one format into sheets of rows in the Task Manager Plus application.
+ *
+ * <p>Implemented for .xlsx workbooks by {@link XlsxDataProvider}, for CSV files by
+ * {@link CsvDataProvider} and for JSON files by {@link JsonDataProvider}. {@link WorkbookRegistry}
+ * picks the backend by file extension with {@link #forFile(String)}, so {@link ExcelUtils#shared(String)}
+ * and {@code @ExcelSource} read every format the same way.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * SheetRowSource rows = TestDataProvider.forFile("testdata/LoginCredentials.csv").load("testdata/LoginCredentials.csv");
+ * }
+ * </pre>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public interface TestDataProvider {
+
+    /**
+     * Gets the file extensions this backend reads, in lower case and without the dot.
+     *
+     * @return the file extensions
+     */
+    List<String> getExtensions();
+
+    /**
+     * Reads the file at the given classpath location.
+     *
+     * @param filePath the classpath location of the file
+     * @return the immutable rows of the file
+     * @throws IllegalArgumentException if the file does not exist
+     * @throws IOException if the file cannot be read or is malformed
+     */
+    SheetRowSource load(String filePath) throws IOException;
+
+    /**
+     * Gets the backends of every supported format.
+     *
+     * @return the backends
+     */
+    static List<TestDataProvider> all() {
+        return List.of(new XlsxDataProvider(), new CsvDataProvider(), new JsonDataProvider());
+    }
+
+    /**
+     * Gets the backend reading the given file, by its extension.
+     *
+     * @param filePath the classpath location of the file
+     * @return the backend
+     * @throws IllegalArgumentException if no backend reads the extension of the file
+     */
+    static TestDataProvider forFile(String filePath) {
+        String extension = extensionOf(filePath);
+        return all().stream()
+                .filter(provider -> provider.getExtensions().contains(extension))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported test data file: " + filePath));
+    }
+
+    /**
+     * Checks if a backend reads the given file.
+     *
+     * @param filePath the classpath location or name of the file
+     * @return true if the extension of the file is supported
+     */
+    static boolean isSupported(String filePath) {
+        String extension = extensionOf(filePath);
+        return all().stream().anyMatch(provider -> provider.getExtensions().contains(extension));
+    }
+
+    private static String extensionOf(String filePath) {
+        return filePath.substring(filePath.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,242 @@
+package com.taskmanagerplus.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Process-wide registry of the test data workbooks in the Task Manager Plus application.
+ *
+ * <p>Each workbook is loaded the first time its classpath location is requested, and the same
+ * source is returned to every later caller on any thread. Concurrent first requests for the same
+ * location wait for a single load instead of parsing the file twice. The file is read by the
+ * {@link TestDataProvider} for its extension, so .xlsx, CSV and JSON test data are all served
+ * from here.</p>
+ *
+ * <p>{@link #preload(Collection)} and {@link #preloadDirectory(String)} load many files in
+ * parallel ahead of time; the suite listener preloads the test data directory when the test plan
+ * starts, so tests find their data in memory and never do file I/O themselves.</p>
+ *
+ * <p>By default the registry keeps every workbook until the JVM exits. When the
+ * {@code workbook.registry.maxEntries} system property (or {@link #setMaxEntries(int)}) sets a
+ * limit, the least recently requested workbooks are evicted once the limit is exceeded; snapshots
+ * already handed out stay valid, and an evicted workbook is loaded again on its next request.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * ExcelUtils excelUtils = ExcelUtils.shared("testdata/LoginCredentials.xlsx");
+ * SheetRowSource source = WorkbookRegistry.get("testdata/LoginCredentials.xlsx");
+ * }
+ * </pre>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class WorkbookRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkbookRegistry.class);
+
+    /** System property limiting the number of cached workbooks; 0 or less means unbounded. */
+    public static final String MAX_ENTRIES_PROPERTY = "workbook.registry.maxEntries";
+
+    private static final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private static final AtomicLong clock = new AtomicLong();
+    private static volatile int maxEntries = Integer.getInteger(MAX_ENTRIES_PROPERTY, 0);
+
+    private WorkbookRegistry() {
+        // private constructor to prevent instantiation
+    }
+
+    /**
+     * Gets the rows of the workbook at the given classpath location, loading them on first use.
+     *
+     * @param filePath the classpath location of the workbook
+     * @return the immutable rows of the workbook
+     * @throws IllegalArgumentException if the workbook does not exist
+     * @throws UncheckedIOException if the workbook cannot be read
+     */
+    public static SheetRowSource get(String filePath) {
+        Entry entry = entries.computeIfAbsent(filePath, Entry::new);
+        entry.lastAccess = clock.incrementAndGet();
+        SheetRowSource source = entry.getSource();
+        evictIfNeeded();
+        return source;
+    }
+
+    /**
+     * Loads the given files in parallel, so that later requests find them in the registry.
+     *
+     * <p>A file that cannot be loaded is logged and skipped; requesting it later fails the same
+     * way it does without preloading.</p>
+     *
+     * @param filePaths the classpath locations of the files
+     * @return the number of files loaded
+     */
+    public static int preload(Collection<String> filePaths) {
+        Set<String> distinct = new LinkedHashSet<>(filePaths);
+        if (distinct.isEmpty()) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        AtomicInteger loaded = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(distinct.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            List<CompletableFuture<Void>> loads = new ArrayList<>();
+            for (String filePath : distinct) {
+                loads.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        get(filePath);
+                        loaded.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        logger.warn("Failed to preload {}: {}", filePath, e.getMessage());
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(loads.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+        logger.info("Preloaded {} of {} test data files in {} ms", loaded.get(), distinct.size(), (System.nanoTime() - start) / 1_000_000);
+        return loaded.get();
+    }
+
+    /**
+     * Loads every supported file of a classpath directory in parallel.
+     *
+     * @param directory the classpath location of the directory, for example {@code testdata}
+     * @return the number of files loaded
+     * @see #preload(Collection)
+     */
+    public static int preloadDirectory(String directory) {
+        return preload(listDirectory(directory));
+    }
+
+    /**
+     * Lists the supported files of a classpath directory.
+     *
+     * @param directory the classpath location of the directory
+     * @return the classpath locations of the files, sorted; files inside jars are not listed
+     */
+    public static List<String> listDirectory(String directory) {
+        Set<String> filePaths = new TreeSet<>();
+        try {
+            // The directory can be on several classpath entries, such as the main and test resources
+            Enumeration<URL> resources = WorkbookRegistry.class.getClassLoader().getResources(directory);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                if (!"file".equals(resource.getProtocol())) {
+                    continue;
+                }
+                File[] files = new File(resource.toURI()).listFiles(file -> file.isFile() && TestDataProvider.isSupported(file.getName()));
+                if (files != null) {
+                    for (File file : files) {
+                        filePaths.add(directory + "/" + file.getName());
+                    }
+                }
+            }
+        } catch (IOException | URISyntaxException e) {
+            logger.warn("Cannot list test data directory {}", directory, e);
+        }
+        return new ArrayList<>(filePaths);
+    }
+
+    /**
+     * Limits the number of cached workbooks.
+     *
+     * @param limit the maximum number of workbooks to keep; 0 or less means unbounded
+     */
+    public static void setMaxEntries(int limit) {
+        maxEntries = limit;
+        evictIfNeeded();
+    }
+
+    /**
+     * Gets the number of cached workbooks.
+     *
+     * @return the number of cached workbooks
+     */
+    public static int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes every cached workbook.
+     */
+    public static void clear() {
+        entries.clear();
+    }
+
+    private static void evictIfNeeded() {
+        int limit = maxEntries;
+        while (limit > 0 && entries.size() > limit) {
+            entries.values().stream()
+                    .min(Comparator.comparingLong(entry -> entry.lastAccess))
+                    .ifPresent(eldest -> {
+                        if (entries.remove(eldest.filePath, eldest)) {
+                            logger.info("Evicted workbook {} from the registry", eldest.filePath);
+                        }
+                    });
+        }
+    }
+
+    /**
+     * A registry slot whose rows are loaded by the first caller while later callers wait.
+     */
+    private static final class Entry {
+
+        private final String filePath;
+        private volatile SheetRowSource source;
+        private volatile long lastAccess;
+
+        Entry(String filePath) {
+            this.filePath = filePath;
+        }
+
+        SheetRowSource getSource() {
+            SheetRowSource loaded = source;
+            if (loaded == null) {
+                synchronized (this) {
+                    loaded = source;
+                    if (loaded == null) {
+                        loaded = load();
+                        source = loaded;
+                    }
+                }
+            }
+            return loaded;
+        }
+
+        private SheetRowSource load() {
+            try {
+                long start = System.nanoTime();
+                SheetRowSource loaded = TestDataProvider.forFile(filePath).load(filePath);
+                logger.info("Loaded {} into the registry as {} in {} ms", filePath, loaded.getClass().getSimpleName(), (System.nanoTime() - start) / 1_000_000);
+                return loaded;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to load workbook " + filePath, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.taskmanagerplus.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.apache.poi.ss.usermodel.CellType;
+
+import com.taskmanagerplus.utils.StreamingSheetReader.StreamedCell;
+import com.taskmanagerplus.utils.StreamingSheetReader.StreamedRow;
+
+/**
+ * Immutable in-memory copy of all sheets of an .xlsx workbook in the Task Manager Plus application.
+ *
+ * <p>The workbook is read once through {@link StreamingSheetReader}, and its rows are kept as
+ * immutable {@link StreamedRow} values. A snapshot is never modified after it is created, so any
+ * number of threads can read it concurrently without locking.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * WorkbookSnapshot snapshot = WorkbookSnapshot.load(new File("LoginCredentials.xlsx"));
+ * ExcelUtils excelUtils = new ExcelUtils(snapshot);
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> Snapshots are usually obtained from {@link WorkbookRegistry}, which loads each
+ * workbook once per JVM.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public final class WorkbookSnapshot implements SheetRowSource {
+
+    private final Map<String, List<StreamedRow>> rowsBySheet;
+    private final Map<String, Map<Integer, StreamedRow>> rowIndexBySheet;
+
+    private WorkbookSnapshot(Map<String, List<StreamedRow>> rowsBySheet) {
+        Map<String, List<StreamedRow>> rows = new LinkedHashMap<>();
+        Map<String, Map<Integer, StreamedRow>> index = new LinkedHashMap<>();
+        rowsBySheet.forEach((sheetName, sheetRows) -> {
+            Map<Integer, StreamedRow> sheetIndex = new LinkedHashMap<>();
+            sheetRows.forEach(row -> sheetIndex.put(row.getRowNum(), row));
+            rows.put(sheetName, List.copyOf(sheetRows));
+            index.put(sheetName, Collections.unmodifiableMap(sheetIndex));
+        });
+        this.rowsBySheet = Collections.unmodifiableMap(rows);
+        this.rowIndexBySheet = Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * Reads all sheets of the given workbook into a snapshot.
+     *
+     * @param file the .xlsx file
+     * @return the snapshot
+     * @throws IOException if the file is not a readable .xlsx workbook
+     */
+    public static WorkbookSnapshot load(File file) throws IOException {
+        try (StreamingSheetReader reader = new StreamingSheetReader(file)) {
+            Map<String, List<StreamedRow>> rowsBySheet = new LinkedHashMap<>();
+            for (String sheetName : reader.getSheetNames()) {
+                List<StreamedRow> rows = new ArrayList<>();
+                reader.forEachRow(sheetName, rows::add);
+                rowsBySheet.put(sheetName, rows);
+            }
+            return new WorkbookSnapshot(rowsBySheet);
+        }
+    }
+
+    /**
+     * Builds a snapshot from tables of plain values, as read from a CSV or JSON file.
+     *
+     * <p>The first row of every table is its header. Strings become text cells (blank cells when
+     * empty), numbers become numeric cells in the General format and booleans become boolean
+     * cells, so lookups format them the way they format the same values read from an .xlsx file.
+     * Null values leave the cell missing.</p>
+     *
+     * @param tables the rows of every sheet, by sheet name
+     * @return the snapshot
+     * @throws IllegalArgumentException if a value is of another type
+     */
+    static WorkbookSnapshot ofTables(Map<String, List<List<Object>>> tables) {
+        Map<String, List<StreamedRow>> rowsBySheet = new LinkedHashMap<>();
+        tables.forEach((sheetName, table) -> {
+            List<StreamedRow> rows = new ArrayList<>(table.size());
+            for (int rowNum = 0; rowNum < table.size(); rowNum++) {
+                List<Object> values = table.get(rowNum);
+                List<StreamedCell> cells = new ArrayList<>(values.size());
+                for (int column = 0; column < values.size(); column++) {
+                    Object value = values.get(column);
+                    if (value != null) {
+                        cells.add(toCell(column, value));
+                    }
+                }
+                rows.add(new StreamedRow(rowNum, cells));
+            }
+            rowsBySheet.put(sheetName, rows);
+        });
+        return new WorkbookSnapshot(rowsBySheet);
+    }
+
+    private static StreamedCell toCell(int column, Object value) {
+        if (value instanceof String text) {
+            return new StreamedCell(column, text.isEmpty() ? CellType.BLANK : CellType.STRING, text, 0, 0, null, false);
+        }
+        if (value instanceof Number number) {
+            double numericValue = number.doubleValue();
+            return new StreamedCell(column, CellType.NUMERIC, Double.toString(numericValue), numericValue, 0, "General", false);
+        }
+        if (value instanceof Boolean bool) {
+            return new StreamedCell(column, CellType.BOOLEAN, bool ? "TRUE" : "FALSE", 0, 0, null, false);
+        }
+        throw new IllegalArgumentException("Unsupported value in column " + column + ": " + value);
+    }
+
+    @Override
+    public List<String> getSheetNames() {
+        return List.copyOf(rowsBySheet.keySet());
+    }
+
+    @Override
+    public boolean hasSheet(String sheetName) {
+        return rowsBySheet.containsKey(sheetName);
+    }
+
+    @Override
+    public void forEachRow(String sheetName, Predicate<StreamedRow> visitor) {
+        for (StreamedRow row : getRows(sheetName)) {
+            if (!visitor.test(row)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public StreamedRow getRow(String sheetName, int rowNum) {
+        Map<Integer, StreamedRow> index = rowIndexBySheet.get(sheetName);
+        if (index == null) {
+            throw new IllegalArgumentException("Sheet not found: " + sheetName);
+        }
+        return index.get(rowNum);
+    }
+
+    @Override
+    public RowCursor openCursor(String sheetName) {
+        Iterator<StreamedRow> rows = getRows(sheetName).iterator();
+        return () -> rows.hasNext() ? rows.next() : null;
+    }
+
+    /**
+     * Gets all rows of a sheet, in order.
+     *
+     * @param sheetName the name of the sheet
+     * @return the rows of the sheet
+     * @throws IllegalArgumentException if the sheet does not exist
+     */
+    public List<StreamedRow> getRows(String sheetName) {
+        List<StreamedRow> rows = rowsBySheet.get(sheetName);
+        if (rows == null) {
+            throw new IllegalArgumentException("Sheet not found: " + sheetName);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,37 @@
+package com.taskmanagerplus.utils;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Test data backend for .xlsx workbooks in the Task Manager Plus application.
+ *
+ * <p>The workbook is opened from the binary form written by {@link TestDataCompiler} when that
+ * form is up to date, and is otherwise parsed into a {@link WorkbookSnapshot}. Setting
+ * {@code -Dtestdata.compiled=false} always parses the .xlsx file.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class XlsxDataProvider implements TestDataProvider {
+
+    /** System property disabling the compiled test data when set to false. */
+    public static final String COMPILED_PROPERTY = "testdata.compiled";
+
+    @Override
+    public List<String> getExtensions() {
+        return List.of("xlsx");
+    }
+
+    @Override
+    public SheetRowSource load(String filePath) throws IOException {
+        if (!"false".equals(System.getProperty(COMPILED_PROPERTY))) {
+            CompiledWorkbook compiled = CompiledWorkbook.open(filePath);
+            if (compiled != null) {
+                return compiled;
+            }
+        }
+        return WorkbookSnapshot.load(ExcelUtils.resolveFile(filePath));
+    }
+}
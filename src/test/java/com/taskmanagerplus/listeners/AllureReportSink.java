@@ -0,0 +1,78 @@
+package com.taskmanagerplus.listeners;
+
+import java.io.ByteArrayInputStream;
+import java.util.UUID;
+
+import com.taskmanagerplus.reports.ReportEvent;
+import com.taskmanagerplus.reports.ReportSink;
+import com.taskmanagerplus.reports.ReportingEventBus;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+
+/**
+ * Report sink adding the events of the {@link ReportingEventBus} to the Allure results in the Task Manager Plus application.
+ *
+ * <p>Allure binds results to the thread running the test, so steps and log messages are recorded,
+ * and attachments are linked to the current test or step, on the publishing thread. These are
+ * cheap; the attachment content, which can be a screenshot or a whole page source, is written to
+ * the results directory on the sink's own thread.</p>
+ *
+ * <p><b>Note:</b> This sink is registered by {@link SuiteListener} when the test plan starts, since
+ * Allure is only on the test classpath.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class AllureReportSink implements ReportSink<String> {
+
+    @Override
+    public String getName() {
+        return "allure";
+    }
+
+    @Override
+    public String capture(ReportEvent event) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (lifecycle.getCurrentTestCaseOrStep().isEmpty()) {
+            return null;
+        }
+        if (event.type() != ReportEvent.Type.ATTACHMENT) {
+            String uuid = UUID.randomUUID().toString();
+            lifecycle.startStep(uuid, new StepResult().setName(event.message()).setStatus(statusOf(event)));
+            lifecycle.stopStep(uuid);
+            return null;
+        }
+        return lifecycle.prepareAttachment(event.message(), event.mimeType(), extensionOf(event.mimeType()));
+    }
+
+    @Override
+    public void accept(ReportEvent event, String source) {
+        Allure.getLifecycle().writeAttachment(source, new ByteArrayInputStream(event.content()));
+    }
+
+    private static Status statusOf(ReportEvent event) {
+        return switch (event.status()) {
+            case FAIL -> Status.FAILED;
+            case SKIP -> Status.SKIPPED;
+            case WARNING -> Status.BROKEN;
+            default -> Status.PASSED;
+        };
+    }
+
+    private static String extensionOf(String mimeType) {
+        if (mimeType == null) {
+            return ".bin";
+        }
+        return switch (mimeType) {
+            case "image/png" -> ".png";
+            case "image/jpeg" -> ".jpg";
+            case "text/html" -> ".html";
+            case "application/json" -> ".json";
+            default -> mimeType.startsWith("text/") ? ".txt" : ".bin";
+        };
+    }
+}
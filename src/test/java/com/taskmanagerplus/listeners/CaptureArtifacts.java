@@ -0,0 +1,51 @@
+package com.taskmanagerplus.listeners;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation choosing the {@link CapturePolicy} of a test class or method in the Task Manager Plus application.
+ *
+ * <p>An annotation on the test method takes precedence over one on its class, which takes
+ * precedence over the global {@code -Dcapture.policy}. Subclasses inherit the annotation of
+ * their test class.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * @CaptureArtifacts(value = CapturePolicy.SAMPLED, samplePercent = 25)
+ * public class TaskSearchTest extends BaseTest {
+ *     // test methods
+ * }
+ * }
+ * </pre>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+public @interface CaptureArtifacts {
+
+    /**
+     * The capture policy.
+     *
+     * @return the capture policy
+     */
+    CapturePolicy value();
+
+    /**
+     * The percentage of passing tests captured by {@link CapturePolicy#SAMPLED}; the global
+     * {@code -Dcapture.sample.percent} when negative.
+     *
+     * @return the percentage, between 0 and 100, or a negative value
+     */
+    int samplePercent() default -1;
+}
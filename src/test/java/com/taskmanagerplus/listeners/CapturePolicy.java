@@ -0,0 +1,97 @@
+package com.taskmanagerplus.listeners;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Policy deciding when the artifacts of a test are captured in the Task Manager Plus application.
+ *
+ * <p>The artifacts are a screenshot, the page source and the browser console of the test, added
+ * to the Extent and Allure reports by {@link TestListener} while the browser is still open. Each
+ * one costs a round trip to the browser and can hold megabytes in memory until the report is
+ * written, so by default they are only captured when a test fails.</p>
+ *
+ * <p>The global policy is set with {@code -Dcapture.policy} (default {@code ON_FAILURE}) and the
+ * sampling rate with {@code -Dcapture.sample.percent} (default {@value #DEFAULT_SAMPLE_PERCENT});
+ * a test class or method can choose its own with {@link CaptureArtifacts}.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * mvn test -Dcapture.policy=SAMPLED -Dcapture.sample.percent=5
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> A retry is a new execution of a test that already failed in the same JVM, such
+ * as the reruns of {@code -Dsurefire.rerunFailingTestsCount=1}.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public enum CapturePolicy {
+
+    /** Never capture. */
+    NEVER,
+
+    /** Capture when the test fails. */
+    ON_FAILURE,
+
+    /** Capture every retry of a failed test, whether it fails again or passes. */
+    ON_RETRY,
+
+    /** Capture when the test fails, and for a sample of the tests that pass. */
+    SAMPLED;
+
+    /** System property setting the global policy. */
+    public static final String POLICY_PROPERTY = "capture.policy";
+
+    /** System property setting the percentage of passing tests captured by {@link #SAMPLED}. */
+    public static final String SAMPLE_PERCENT_PROPERTY = "capture.sample.percent";
+
+    static final int DEFAULT_SAMPLE_PERCENT = 10;
+
+    /**
+     * Gets the global policy.
+     *
+     * @return the policy set by {@code -Dcapture.policy}, or {@link #ON_FAILURE}
+     * @throws IllegalArgumentException if the property names no policy
+     */
+    public static CapturePolicy getGlobal() {
+        String value = System.getProperty(POLICY_PROPERTY);
+        if (value == null || value.isBlank()) {
+            return ON_FAILURE;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + POLICY_PROPERTY + " '" + value + "', expected one of NEVER, ON_FAILURE, ON_RETRY or SAMPLED", e);
+        }
+    }
+
+    /**
+     * Gets the global percentage of passing tests captured by {@link #SAMPLED}.
+     *
+     * @return the percentage set by {@code -Dcapture.sample.percent}, between 0 and 100
+     */
+    public static int getGlobalSamplePercent() {
+        return Math.clamp(Integer.getInteger(SAMPLE_PERCENT_PROPERTY, DEFAULT_SAMPLE_PERCENT), 0, 100);
+    }
+
+    /**
+     * Decides if the artifacts of a test execution are captured.
+     *
+     * @param failed true if the execution failed
+     * @param retry true if the test already failed earlier in the run
+     * @param samplePercent the percentage of passing tests captured by {@link #SAMPLED}
+     * @return true if the artifacts are captured, false otherwise
+     */
+    public boolean shouldCapture(boolean failed, boolean retry, int samplePercent) {
+        return switch (this) {
+            case NEVER -> false;
+            case ON_FAILURE -> failed;
+            case ON_RETRY -> retry;
+            case SAMPLED -> failed || ThreadLocalRandom.current().nextInt(100) < samplePercent;
+        };
+    }
+}
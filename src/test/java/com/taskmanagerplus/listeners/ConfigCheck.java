@@ -0,0 +1,33 @@
+package com.taskmanagerplus.listeners;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import com.taskmanagerplus.config.ConfigReader;
+
+/**
+ * Discovery filter failing the test run at startup when the configuration of the Task Manager Plus application is invalid.
+ *
+ * <p>JUnit applies the filter to the discovered tests before any of them runs, and an exception
+ * thrown by it ends the run. Reading the configuration here turns a missing file or a malformed
+ * setting into a single error at startup, instead of one error per test from {@code BaseTest}
+ * and the {@link com.taskmanagerplus.drivers.DriverFactory}. Exceptions thrown by a test
+ * execution listener, such as {@link SuiteListener}, are only logged by JUnit, so the check
+ * cannot live there.</p>
+ *
+ * <p>The filter is registered through {@code META-INF/services} and never excludes a test.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class ConfigCheck implements PostDiscoveryFilter {
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        // Loaded once; later calls are a plain lookup, or rethrow the same failure
+        ConfigReader.getConfig();
+        return FilterResult.included("The configuration is valid");
+    }
+}
@@ -0,0 +1,257 @@
+package com.taskmanagerplus.listeners;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.taskmanagerplus.config.FixtureProvisioner;
+import com.taskmanagerplus.config.JdbcMetrics;
+import com.taskmanagerplus.config.ProvisionedFixtures;
+import com.taskmanagerplus.drivers.CommandMetrics;
+import com.taskmanagerplus.params.ExcelSource;
+import com.taskmanagerplus.reports.DurationHistory;
+import com.taskmanagerplus.reports.ExtentReportManager;
+import com.taskmanagerplus.reports.ReportingEventBus;
+import com.taskmanagerplus.utils.ExcelResultWriter;
+import com.taskmanagerplus.utils.WorkbookRegistry;
+
+/**
+ * Listener for the whole JUnit test plan in the Task Manager Plus application.
+ * 
+ * <p>This class implements the {@link org.junit.platform.launcher.TestExecutionListener} interface
+ * to look ahead at the scheduled tests before they run. Every test that declares
+ * {@link ProvisionedFixtures} gets its fixture set scheduled with {@link FixtureProvisioner}
+ * in execution order, and the provisioner is shut down when the test plan finishes. The
+ * configuration is loaded when the test plan starts, so that malformed settings are reported
+ * before any test runs.</p>
+ * 
+ * <p>The test data files of the {@code testdata} directory, and any file named by an
+ * {@link ExcelSource} in the plan, are preloaded in parallel into {@link WorkbookRegistry} when
+ * the test plan starts, so tests read their data from memory.</p>
+ * 
+ * <p>The outcome, duration and parameters of every test and parameterized invocation are
+ * streamed into an .xlsx workbook through {@link ExcelResultWriter}, by default
+ * {@code test-output/TestResults.xlsx}. The {@code results.xlsx} system property sets another
+ * file, or disables the workbook when empty.</p>
+ * 
+ * <p>The {@link AllureReportSink} is registered with the {@link ReportingEventBus} when the test
+ * plan starts, and the bus delivers its remaining events when the test plan finishes.</p>
+ * 
+ * <p>When the test plan finishes, the database statistics collected by {@link JdbcMetrics} are
+ * logged and published to the Extent report as a summary table, along with the WebDriver command
+ * latencies and the slowest commands collected by {@link CommandMetrics}. The test durations
+ * are stored in {@link DurationHistory}, and those significantly slower than in earlier runs are
+ * published as well. Then the results workbook is written and the report is closed.</p>
+ * 
+ * <p><b>Note:</b> This listener is registered through
+ * {@code META-INF/services/org.junit.platform.launcher.TestExecutionListener}.</p>
+ * 
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class SuiteListener implements TestExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SuiteListener.class);
+
+    private static final String TEST_DATA_DIRECTORY = "testdata";
+
+    /** System property setting the results workbook; empty disables it. */
+    public static final String RESULTS_FILE_PROPERTY = "results.xlsx";
+
+    private static final String DEFAULT_RESULTS_FILE = "test-output/TestResults.xlsx";
+    private static final String INVOCATION_SEGMENT = "test-template-invocation";
+    private static final int ALLURE_QUEUE_CAPACITY = 256;
+
+    private final Map<String, Start> startedTests = new ConcurrentHashMap<>();
+    private ExcelResultWriter resultWriter;
+
+    /**
+     * When a test started, on the monotonic and on the wall clock.
+     */
+    private record Start(long nanos, Instant instant) {
+    }
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        List<String> testDataFiles = new ArrayList<>(WorkbookRegistry.listDirectory(TEST_DATA_DIRECTORY));
+        for (TestIdentifier root : testPlan.getRoots()) {
+            scheduleFixtures(testPlan, root);
+            collectTestDataFiles(testPlan, root, testDataFiles);
+        }
+        WorkbookRegistry.preload(testDataFiles);
+        ReportingEventBus.register(new AllureReportSink(), ALLURE_QUEUE_CAPACITY, ReportingEventBus.OverflowPolicy.BLOCK);
+
+        String resultsFile = System.getProperty(RESULTS_FILE_PROPERTY, DEFAULT_RESULTS_FILE);
+        if (!resultsFile.isBlank()) {
+            resultWriter = new ExcelResultWriter(new File(resultsFile));
+        }
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (testIdentifier.isTest()) {
+            startedTests.put(testIdentifier.getUniqueId(), new Start(System.nanoTime(), Instant.now()));
+        }
+        if (getProvisionedFixtures(testIdentifier).isPresent()) {
+            FixtureProvisioner.testStarted();
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        Start start = startedTests.remove(testIdentifier.getUniqueId());
+        if (!testIdentifier.isTest() || start == null) {
+            return;
+        }
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start.nanos());
+        DurationHistory.recordTest(getTestName(testIdentifier), durationMillis);
+        if (resultWriter == null) {
+            return;
+        }
+        String error = testExecutionResult.getThrowable().map(Throwable::toString).orElse(null);
+        writeResult(testIdentifier, testExecutionResult.getStatus().name(), durationMillis, start.instant(), error);
+    }
+
+    @Override
+    public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+        if (resultWriter != null && testIdentifier.isTest()) {
+            writeResult(testIdentifier, "SKIPPED", 0, Instant.now(), reason);
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        FixtureProvisioner.shutdown();
+        publishDatabaseStatistics();
+        publishCommandStatistics();
+        publishDurationRegressions();
+        closeResultWriter();
+        ReportingEventBus.shutdown();
+        ExtentReportManager.close();
+    }
+
+    private void writeResult(TestIdentifier testIdentifier, String status, long durationMillis, Instant started, String error) {
+        Optional<MethodSource> source = testIdentifier.getSource().filter(MethodSource.class::isInstance).map(MethodSource.class::cast);
+        String displayName = testIdentifier.getDisplayName();
+        // Invocations of parameterized tests are named "[index] arguments" by default
+        String parameters = "";
+        if (INVOCATION_SEGMENT.equals(testIdentifier.getUniqueIdObject().getLastSegment().getType())) {
+            parameters = displayName.startsWith("[") && displayName.contains("] ") ? displayName.substring(displayName.indexOf("] ") + 2) : displayName;
+        }
+        resultWriter.write(new ExcelResultWriter.TestResult(
+                source.map(MethodSource::getClassName).orElse(""),
+                source.map(MethodSource::getMethodName).orElse(displayName),
+                displayName, parameters, status, durationMillis, started, error));
+    }
+
+    private void closeResultWriter() {
+        if (resultWriter == null) {
+            return;
+        }
+        try {
+            resultWriter.close();
+        } catch (IOException e) {
+            logger.error("Failed to write the test results workbook", e);
+        }
+        resultWriter = null;
+    }
+
+    private void publishDatabaseStatistics() {
+        if (JdbcMetrics.isEmpty()) {
+            return;
+        }
+        String[][] table = JdbcMetrics.getSummaryTable();
+        StringBuilder summary = new StringBuilder("Database statistics:");
+        for (String[] row : table) {
+            summary.append(System.lineSeparator()).append(String.join(" | ", row));
+        }
+        logger.info(summary.toString());
+        ExtentReportManager.addSummaryTable("Database Statistics", table);
+    }
+
+    private void publishCommandStatistics() {
+        if (CommandMetrics.isEmpty()) {
+            return;
+        }
+        String[][] table = CommandMetrics.getSummaryTable();
+        StringBuilder summary = new StringBuilder("WebDriver command statistics:");
+        for (String[] row : table) {
+            summary.append(System.lineSeparator()).append(String.join(" | ", row));
+        }
+        logger.info(summary.toString());
+        ExtentReportManager.addSummaryTable("WebDriver Commands", table);
+        ExtentReportManager.addSummaryTable("Slowest WebDriver Commands", CommandMetrics.getSlowestCommandsTable());
+    }
+
+    private void publishDurationRegressions() {
+        List<DurationHistory.Regression> regressions = DurationHistory.finishRun();
+        if (regressions.isEmpty()) {
+            return;
+        }
+        String[][] table = DurationHistory.toTable(regressions);
+        StringBuilder summary = new StringBuilder("Performance regressions against earlier runs:");
+        for (String[] row : table) {
+            summary.append(System.lineSeparator()).append(String.join(" | ", row));
+        }
+        logger.warn(summary.toString());
+        ExtentReportManager.addSummaryTable("Performance Regressions", table);
+    }
+
+    /**
+     * Gets the name a test is stored under in the duration history, matching {@link TestListener}.
+     */
+    private static String getTestName(TestIdentifier testIdentifier) {
+        return TestKeys.of(testIdentifier.getUniqueId());
+    }
+
+    private void scheduleFixtures(TestPlan testPlan, TestIdentifier identifier) {
+        getProvisionedFixtures(identifier).ifPresent(fixtures -> FixtureProvisioner.schedule(fixtures.value()));
+        // Children are returned in execution order
+        for (TestIdentifier child : testPlan.getChildren(identifier)) {
+            scheduleFixtures(testPlan, child);
+        }
+    }
+
+    private void collectTestDataFiles(TestPlan testPlan, TestIdentifier identifier, List<String> testDataFiles) {
+        // Parameterized tests are containers until their invocations are provided, so every method is checked
+        identifier.getSource()
+                .filter(MethodSource.class::isInstance)
+                .flatMap(source -> AnnotationSupport.findAnnotation(((MethodSource) source).getJavaMethod(), ExcelSource.class))
+                .ifPresent(excelSource -> testDataFiles.add(excelSource.file()));
+        for (TestIdentifier child : testPlan.getChildren(identifier)) {
+            collectTestDataFiles(testPlan, child, testDataFiles);
+        }
+    }
+
+    private Optional<ProvisionedFixtures> getProvisionedFixtures(TestIdentifier identifier) {
+        if (!identifier.isTest()) {
+            return Optional.empty();
+        }
+        Optional<TestSource> source = identifier.getSource();
+        if (source.isEmpty() || !(source.get() instanceof MethodSource)) {
+            return Optional.empty();
+        }
+        MethodSource methodSource = (MethodSource) source.get();
+        Method method = methodSource.getJavaMethod();
+        Optional<ProvisionedFixtures> annotation = AnnotationSupport.findAnnotation(method, ProvisionedFixtures.class);
+        return annotation.isPresent() ? annotation : AnnotationSupport.findAnnotation(methodSource.getJavaClass(), ProvisionedFixtures.class);
+    }
+}
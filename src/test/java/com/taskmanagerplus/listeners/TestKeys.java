@@ -0,0 +1,53 @@
+package com.taskmanagerplus.listeners;
+
+import org.junit.platform.engine.UniqueId;
+
+/**
+ * Builds the key a test invocation is recorded under by the listeners in the Task Manager Plus application.
+ *
+ * <p>The key is derived from the JUnit unique id, which both {@link TestListener} and
+ * {@link SuiteListener} see, so the duration history, the command metrics, the logging context and
+ * the flight recorder all agree on it. It names the fully qualified class, any nested classes, the
+ * method with its parameter types and, for parameterized and repeated tests, the invocation index.
+ * Unlike a display name such as {@code [2] luna.moon@maif.com}, it is unique per invocation and per
+ * package.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * // com.taskmanagerplus.tests.ExcelSourceTest.testLogin(java.lang.String, java.lang.String)[2]
+ * String key = TestKeys.of(context.getUniqueId());
+ * }
+ * </pre>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+final class TestKeys {
+
+    private TestKeys() {
+        // private constructor to prevent instantiation
+    }
+
+    /**
+     * Gets the key of a test.
+     *
+     * @param uniqueId the JUnit unique id of the test
+     * @return the key of the test
+     */
+    static String of(String uniqueId) {
+        StringBuilder key = new StringBuilder();
+        for (UniqueId.Segment segment : UniqueId.parse(uniqueId).getSegments()) {
+            switch (segment.getType()) {
+                case "engine" -> {
+                    // The same for every test of the suite
+                }
+                case "test-template-invocation", "dynamic-test", "dynamic-container" ->
+                        key.append('[').append(segment.getValue().replace("#", "")).append(']');
+                default -> key.append(key.isEmpty() ? "" : ".").append(segment.getValue());
+            }
+        }
+        return key.toString();
+    }
+}
@@ -3,8 +3,8 @@
  * 
  * <p>This class implements the {@link org.testng.ITestListener} interface to 
  * provide custom behavior for test start, success, failure, and skip events.
- * It uses {@link com.taskmanagerplus.reports.ExtentReportManager} to log these 
- * events to ExtentReports.</p>
+ * It publishes these events to the {@link com.taskmanagerplus.reports.ReportingEventBus}, which
+ * delivers them to ExtentReports in order with the failure artifacts.</p>
  * 
  * <p>Example usage:</p>
  * <pre>
@@ -26,70 +26,135 @@
 package com.taskmanagerplus.listeners;
 
 import com.aventstack.extentreports.Status;
-import com.taskmanagerplus.reports.ExtentReportManager;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import com.taskmanagerplus.drivers.CommandMetrics;
+import com.taskmanagerplus.drivers.FlightRecorder;
+import com.taskmanagerplus.reports.DurationHistory;
+import com.taskmanagerplus.reports.ReportingEventBus;
 import com.taskmanagerplus.tests.BaseTest;
 import com.taskmanagerplus.utils.BrowserUtils;
-import com.taskmanagerplus.utils.ScreenshotUtils;
+import com.taskmanagerplus.utils.FailureEvidence;
+import com.taskmanagerplus.utils.LoggingContext;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.TestWatcher;
+import org.junit.platform.commons.support.AnnotationSupport;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
-public class TestListener implements TestWatcher {
+public class TestListener implements TestWatcher, BeforeEachCallback, AfterTestExecutionCallback, AfterEachCallback {
+
+    // Tests that failed earlier in this JVM, so that their reruns can be recognized as retries
+    private static final Set<String> failedTests = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        LoggingContext.startTest(getTestName(context));
+        CommandMetrics.startTest(getTestName(context));
+        FlightRecorder.start(getTestName(context));
+        FailureEvidence.clear();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        // Runs before the @AfterEach methods, while the browser of the test is still open
+        boolean failed = context.getExecutionException().isPresent();
+        boolean retry = failedTests.contains(context.getUniqueId());
+        if (failed) {
+            failedTests.add(context.getUniqueId());
+        }
+        WebDriver driver = getWebDriver(context);
+        if (driver != null && shouldCaptureArtifacts(context, failed, retry)) {
+            captureArtifacts(driver);
+        }
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        // Stores the command time of the test, and adds its breakdown to the report
+        DurationHistory.recordSteps(getTestName(context), CommandMetrics.getTestCommandNanos());
+        String[][] breakdown = CommandMetrics.finishTest();
+        if (breakdown != null) {
+            ReportingEventBus.log(Status.INFO, "WebDriver commands: " + MarkupHelper.createTable(breakdown).getMarkup());
+        }
+        LoggingContext.clear();
+    }
 
     @Override
     public void testSuccessful(ExtensionContext context) {
         String methodName = context.getTestMethod().map(method -> method.getName()).orElse("Unknown");
-        ExtentReportManager.getTest().log(Status.PASS, "Test passed: " + methodName);
+        ReportingEventBus.log(Status.PASS, "Test passed: " + methodName);
+        FlightRecorder.finish();
     }
 
     @Override
     public void testFailed(ExtensionContext context, Throwable cause) {
         String methodName = context.getTestMethod().map(method -> method.getName()).orElse("Unknown");
-        ExtentReportManager.getTest().log(Status.FAIL, "Test failed: " + methodName);
-        ExtentReportManager.getTest().log(Status.FAIL, cause);
-
-        // Obtain the WebDriver instance from the test class
-        WebDriver driver = getWebDriver(context);
+        ReportingEventBus.log(Status.FAIL, "Test failed: " + methodName);
+        ReportingEventBus.log(Status.FAIL, cause);
 
-        if (driver != null) {
-            // Capture console logs
-            ExtentReportManager.getTest().log(Status.INFO, "Console Logs: ");
-            BrowserUtils.captureConsoleLogs(driver);
-
-            // Capture screenshot
-            String screenshotPath = ScreenshotUtils.takeScreenshot(driver, methodName);
-            ExtentReportManager.getTest().addScreenCaptureFromPath(screenshotPath, "Test Failure Screenshot");
-
-            // Adds the page source to the report
-            try {
-                String pageSourcePath = "test-output/pagesource-" + methodName + ".html";
-                Files.write(new File(pageSourcePath).toPath(), driver.getPageSource().getBytes());
-                ExtentReportManager.getTest().log(Status.INFO, "Page Source at failure: ").addScreenCaptureFromPath(pageSourcePath);
-            } catch (IOException e) {
-                ExtentReportManager.getTest().log(Status.WARNING, "Failed to save page source: " + e.getMessage());
-            }
+        // The recorded commands and log lines are only formatted for a failing test
+        FlightRecorder recorder = FlightRecorder.finish();
+        if (recorder != null && recorder.getRecorded() > 0) {
+            ReportingEventBus.log(Status.INFO, MarkupHelper.createCodeBlock(recorder.dump()).getMarkup());
         }
     }
 
     public void testSkipped(ExtensionContext context, Optional<String> reason) {
         String methodName = context.getTestMethod().map(method -> method.getName()).orElse("Unknown");
-        ExtentReportManager.getTest().log(Status.SKIP, "Test skipped: " + methodName);
-        reason.ifPresent(r -> ExtentReportManager.getTest().log(Status.SKIP, r));
+        ReportingEventBus.log(Status.SKIP, "Test skipped: " + methodName);
+        reason.ifPresent(r -> ReportingEventBus.log(Status.SKIP, r));
+        FlightRecorder.finish();
     }
 
     @Override
     public void testAborted(ExtensionContext context, Throwable cause) {
         String methodName = context.getTestMethod().map(method -> method.getName()).orElse("Unknown");
-        ExtentReportManager.getTest().log(Status.SKIP, "Test aborted: " + methodName);
-        ExtentReportManager.getTest().log(Status.SKIP, cause);
+        ReportingEventBus.log(Status.SKIP, "Test aborted: " + methodName);
+        ReportingEventBus.log(Status.SKIP, cause);
+        FlightRecorder.finish();
+    }
+
+    private static String getTestName(ExtensionContext context) {
+        return TestKeys.of(context.getUniqueId());
+    }
+
+    /**
+     * Resolves the capture policy of the test method, its class or the run, and applies it.
+     */
+    private static boolean shouldCaptureArtifacts(ExtensionContext context, boolean failed, boolean retry) {
+        Optional<CaptureArtifacts> annotation = AnnotationSupport.findAnnotation(context.getTestMethod(), CaptureArtifacts.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getTestClass(), CaptureArtifacts.class));
+        CapturePolicy policy = annotation.map(CaptureArtifacts::value).orElseGet(CapturePolicy::getGlobal);
+        int samplePercent = annotation.map(CaptureArtifacts::samplePercent).filter(percent -> percent >= 0)
+                .orElseGet(CapturePolicy::getGlobalSamplePercent);
+        return policy.shouldCapture(failed, retry, samplePercent);
+    }
+
+    /**
+     * Adds the browser console, a screenshot of the {@link FailureEvidence} and the page source to the Extent and Allure reports.
+     */
+    private static void captureArtifacts(WebDriver driver) {
+        try {
+            ReportingEventBus.log(Status.INFO, "Console Logs: ");
+            BrowserUtils.captureConsoleLogs(driver);
+            FailureEvidence.Evidence evidence = FailureEvidence.capture(driver);
+            ReportingEventBus.attach("Screenshot: " + evidence.description(), "image/png", evidence.png());
+            ReportingEventBus.attach("Page source", "text/html", driver.getPageSource().getBytes(StandardCharsets.UTF_8));
+        } catch (WebDriverException e) {
+            // A browser that crashed must not turn the outcome of the test into an error
+            ReportingEventBus.log(Status.WARNING, "Failed to capture the test artifacts: " + e.getMessage());
+        }
     }
 
-    private WebDriver getWebDriver(ExtensionContext context) {
+    private static WebDriver getWebDriver(ExtensionContext context) {
         Object testInstance = context.getRequiredTestInstance();
         if (testInstance instanceof BaseTest) {
             return ((BaseTest) testInstance).driver;
@@ -0,0 +1,83 @@
+package com.taskmanagerplus.params;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.support.AnnotationConsumer;
+
+import com.taskmanagerplus.utils.ExcelUtils;
+
+/**
+ * Arguments provider behind {@link ExcelSource} in the Task Manager Plus application.
+ *
+ * <p>The rows are streamed from {@link ExcelUtils#shared(String)} as JUnit requests the next
+ * invocation, filtered by the conditions of the annotation, and assigned to a shard by their row
+ * number: with {@code -Dexcel.shard.count=N -Dexcel.shard.index=I} a run only receives the rows
+ * whose zero-based row number modulo N equals I, so N parallel runs together cover every row
+ * exactly once.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * mvn test -Dtest=LoginTest -Dexcel.shard.count=4 -Dexcel.shard.index=0
+ * }
+ * </pre>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class ExcelArgumentsProvider implements ArgumentsProvider, AnnotationConsumer<ExcelSource> {
+
+    /** System property setting the number of shards the rows are split into. */
+    public static final String SHARD_COUNT_PROPERTY = "excel.shard.count";
+
+    /** System property setting the zero-based shard this run receives. */
+    public static final String SHARD_INDEX_PROPERTY = "excel.shard.index";
+
+    private ExcelSource source;
+
+    @Override
+    public void accept(ExcelSource source) {
+        this.source = source;
+    }
+
+    @Override
+    public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
+        int shardCount = Integer.getInteger(SHARD_COUNT_PROPERTY, 1);
+        int shardIndex = Integer.getInteger(SHARD_INDEX_PROPERTY, 0);
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("Invalid shard " + shardIndex + " of " + shardCount);
+        }
+        Map<String, String> conditions = parseFilter(source.filter());
+        String[] columns = source.columns();
+
+        return ExcelUtils.shared(source.file()).streamRows(source.sheet())
+                .filter(row -> row.rowNum() % shardCount == shardIndex)
+                .filter(row -> conditions.entrySet().stream()
+                        .allMatch(condition -> Objects.equals(Objects.toString(row.get(condition.getKey()), ""), condition.getValue())))
+                .map(row -> {
+                    Object[] values = columns.length == 0
+                            ? row.values().values().toArray()
+                            : Stream.of(columns).map(row::get).toArray();
+                    return Arguments.of(values);
+                });
+    }
+
+    private static Map<String, String> parseFilter(String[] filter) {
+        Map<String, String> conditions = new LinkedHashMap<>();
+        for (String condition : filter) {
+            int separator = condition.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid filter, expected Column=value: " + condition);
+            }
+            conditions.put(condition.substring(0, separator).trim(), condition.substring(separator + 1));
+        }
+        return conditions;
+    }
+}
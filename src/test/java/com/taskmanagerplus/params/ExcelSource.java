@@ -0,0 +1,76 @@
+package com.taskmanagerplus.params;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+/**
+ * Annotation supplying the arguments of a parameterized test from the rows of an Excel sheet in the
+ * Task Manager Plus application.
+ *
+ * <p>Every row below the header that has at least one value becomes one invocation of the test,
+ * with the values of the selected columns as arguments, in the order the columns are listed. The
+ * values are the formatted cell values (empty cells are null) and are converted to the parameter
+ * types by JUnit's implicit conversion. Rows are read through {@link ExcelArgumentsProvider} from
+ * the shared copy of the workbook: row by row from the compiled test data when it is up to date,
+ * otherwise from the workbook loaded into memory once for all tests.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * @ParameterizedTest
+ * @ExcelSource(file = "testdata/LoginCredentials.xlsx", sheet = "LoginCredentials",
+ *         columns = {"Username", "Password"}, filter = "Username=luna.moon@maif.com")
+ * public void testLogin(String username, String password) {
+ *     // ...
+ * }
+ * }
+ * </pre>
+ *
+ * <p><b>Note:</b> The rows can be split across several runs with the {@code excel.shard.count} and
+ * {@code excel.shard.index} system properties; see {@link ExcelArgumentsProvider}.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+@Target({ElementType.ANNOTATION_TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ArgumentsSource(ExcelArgumentsProvider.class)
+public @interface ExcelSource {
+
+    /**
+     * The classpath location of the workbook.
+     *
+     * @return the classpath location of the workbook
+     */
+    String file();
+
+    /**
+     * The name of the sheet.
+     *
+     * @return the name of the sheet
+     */
+    String sheet();
+
+    /**
+     * The header names of the columns passed as arguments, ignoring case; all columns in sheet
+     * order when empty.
+     *
+     * @return the header names of the columns
+     */
+    String[] columns() default {};
+
+    /**
+     * Conditions of the form {@code Column=value} that a row has to satisfy to be used; an empty
+     * value matches an empty cell.
+     *
+     * @return the conditions, all of which have to match
+     */
+    String[] filter() default {};
+}
@@ -45,6 +45,24 @@ import com.taskmanagerplus.reports.ExtentReportManager;
 //Use @ExtendWith for JUnit 5 extensions
 @ExtendWith(com.taskmanagerplus.listeners.TestListener.class)
 public class BaseTest {
+
+    /** Title prefix shared by the task fixtures of all test classes. */
+    protected static final String TEST_DATA_NAMESPACE = "Test Task";
+
+    /**
+     * Gets the namespace the data cleanups of this test class are ordered in. Each class has its
+     * own, so a test waits only for the cleanup of the previous test of its class, not for the
+     * unrelated rows of other classes.
+     *
+     * @return the cleanup namespace of the test class
+     */
+    protected String getCleanupNamespace() {
+        return getClass().getName();
+    }
+
+    /** How long a write triggered through the UI may take to become visible in the database. */
+    protected static final Duration PERSISTENCE_TIMEOUT = Duration.ofSeconds(10);
+
     public WebDriver driver;
     protected WebDriverWait wait;
 
@@ -0,0 +1,49 @@
+package com.taskmanagerplus.tests;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.devtools.events.ConsoleEvent;
+import org.openqa.selenium.devtools.idealized.runtime.model.RemoteObject;
+
+import com.taskmanagerplus.drivers.BrowserConsoleRecorder;
+
+/**
+ * Test class for verifying the browser console recorder in the Task Manager Plus application.
+ *
+ * <p>This class feeds console events and exceptions to a recorder, as the DevTools listeners do,
+ * and verifies the ring buffer and the batch it drains.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class BrowserConsoleRecorderTest {
+
+    /**
+     * Test to verify that the newest entries are kept and drained in order.
+     *
+     * <p>Scenario: Record more console messages than the buffer holds, then an exception, and drain.</p>
+     * <p>Expected Result: The batch should count the overwritten entries and list the newest ones,
+     * oldest first, and the buffer should be empty afterwards.</p>
+     */
+    @Test
+    public void testRingBufferKeepsNewestEntries() {
+        BrowserConsoleRecorder recorder = new BrowserConsoleRecorder(4);
+        for (int i = 0; i < 10; i++) {
+            recorder.record(new ConsoleEvent("log", Instant.parse("2026-10-19T10:15:30Z"), List.of(new RemoteObject("string", "message " + i)), "message " + i));
+        }
+        recorder.record(new JavascriptException("Uncaught TypeError: x is undefined"));
+        Assertions.assertEquals(11, recorder.getRecorded(), "Every entry should be counted.");
+
+        List<String> lines = recorder.drain();
+        Assertions.assertEquals(5, lines.size(), "The batch should hold the overwritten count and the kept entries.");
+        Assertions.assertEquals("... 7 earlier entries were overwritten", lines.get(0));
+        Assertions.assertEquals("2026-10-19T10:15:30Z LOG message 7", lines.get(1));
+        Assertions.assertTrue(lines.get(4).contains("EXCEPTION Uncaught TypeError: x is undefined"), "The exception should be last.");
+        Assertions.assertTrue(recorder.drain().isEmpty(), "The buffer should be empty after draining.");
+    }
+}
@@ -0,0 +1,71 @@
+package com.taskmanagerplus.tests;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.taskmanagerplus.listeners.CapturePolicy;
+
+/**
+ * Test class for verifying the artifact capture policies in the Task Manager Plus application.
+ *
+ * <p>This class verifies the decision of every policy for passing, failing and retried tests,
+ * and the parsing of the global policy from the system properties.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class CapturePolicyTest {
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty(CapturePolicy.POLICY_PROPERTY);
+        System.clearProperty(CapturePolicy.SAMPLE_PERCENT_PROPERTY);
+    }
+
+    /**
+     * Test to verify the decision of every policy.
+     *
+     * <p>Scenario: Ask every policy about a passing test, a failing test and a retried test.</p>
+     * <p>Expected Result: Only the failures, the retries or the sample should be captured, as the
+     * policy says.</p>
+     */
+    @Test
+    public void testPolicyDecisions() {
+        Assertions.assertFalse(CapturePolicy.NEVER.shouldCapture(true, true, 100), "NEVER should never capture.");
+
+        Assertions.assertTrue(CapturePolicy.ON_FAILURE.shouldCapture(true, false, 0), "ON_FAILURE should capture a failure.");
+        Assertions.assertFalse(CapturePolicy.ON_FAILURE.shouldCapture(false, true, 100), "ON_FAILURE should skip a passing test.");
+
+        Assertions.assertFalse(CapturePolicy.ON_RETRY.shouldCapture(true, false, 100), "ON_RETRY should skip a first failure.");
+        Assertions.assertTrue(CapturePolicy.ON_RETRY.shouldCapture(true, true, 0), "ON_RETRY should capture a retry that fails.");
+        Assertions.assertTrue(CapturePolicy.ON_RETRY.shouldCapture(false, true, 0), "ON_RETRY should capture a retry that passes.");
+
+        Assertions.assertTrue(CapturePolicy.SAMPLED.shouldCapture(true, false, 0), "SAMPLED should always capture a failure.");
+        Assertions.assertFalse(CapturePolicy.SAMPLED.shouldCapture(false, false, 0), "SAMPLED at 0% should skip passing tests.");
+        Assertions.assertTrue(CapturePolicy.SAMPLED.shouldCapture(false, false, 100), "SAMPLED at 100% should capture passing tests.");
+    }
+
+    /**
+     * Test to verify the global policy set through the system properties.
+     *
+     * <p>Scenario: Read the global policy without the properties, with valid ones and with an
+     * unknown policy.</p>
+     * <p>Expected Result: The defaults should be ON_FAILURE at 10%, the properties should be used
+     * when set, and an unknown policy should be rejected.</p>
+     */
+    @Test
+    public void testGlobalPolicy() {
+        Assertions.assertEquals(CapturePolicy.ON_FAILURE, CapturePolicy.getGlobal(), "The default policy should be ON_FAILURE.");
+        Assertions.assertEquals(10, CapturePolicy.getGlobalSamplePercent(), "The default sample should be 10%.");
+
+        System.setProperty(CapturePolicy.POLICY_PROPERTY, "sampled");
+        System.setProperty(CapturePolicy.SAMPLE_PERCENT_PROPERTY, "250");
+        Assertions.assertEquals(CapturePolicy.SAMPLED, CapturePolicy.getGlobal(), "The policy should ignore case.");
+        Assertions.assertEquals(100, CapturePolicy.getGlobalSamplePercent(), "The sample should be capped at 100%.");
+
+        System.setProperty(CapturePolicy.POLICY_PROPERTY, "sometimes");
+        Assertions.assertThrows(IllegalArgumentException.class, CapturePolicy::getGlobal, "An unknown policy should be rejected.");
+    }
+}
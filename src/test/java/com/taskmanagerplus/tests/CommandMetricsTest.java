@@ -0,0 +1,89 @@
+package com.taskmanagerplus.tests;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+
+import com.taskmanagerplus.drivers.CommandLatencyListener;
+import com.taskmanagerplus.drivers.CommandMetrics;
+import com.taskmanagerplus.pages.LoginPage;
+
+/**
+ * Test class for verifying the WebDriver command latency instrumentation in the Task Manager Plus application.
+ *
+ * <p>This class decorates a stub driver, which answers every command without a browser, the
+ * same way {@link com.taskmanagerplus.drivers.DriverFactory} decorates Chrome, and verifies the
+ * per-test breakdown and the suite-wide tables.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class CommandMetricsTest {
+
+    @AfterEach
+    public void tearDown() {
+        CommandMetrics.reset();
+    }
+
+    /**
+     * Test to verify that commands are recorded with their test and page-object method.
+     *
+     * <p>Scenario: Navigate, fill in the login form through the page object, run a script and look
+     * up a missing element, all through the decorated driver.</p>
+     * <p>Expected Result: The breakdown should tag the form commands with the page-object method and
+     * the others with the test method, and the suite tables should list every command.</p>
+     */
+    @Test
+    public void testCommandsAreTaggedWithPageObjectMethod() {
+        WebDriver driver = new EventFiringDecorator<WebDriver>(new CommandLatencyListener()).decorate(stubDriver());
+        CommandMetrics.startTest("CommandMetricsTest.testCommandsAreTaggedWithPageObjectMethod()");
+
+        driver.get("http://localhost/login");
+        LoginPage loginPage = new LoginPage(driver);
+        loginPage.enterLogin("john.doe@example.com");
+        loginPage.enterPassword("pass123");
+        ((JavascriptExecutor) driver).executeScript("return document.title");
+        Assertions.assertThrows(NoSuchElementException.class, () -> driver.findElement(By.id("missing")));
+
+        String[][] breakdown = CommandMetrics.finishTest();
+        Assertions.assertNotNull(breakdown, "The test should have a breakdown.");
+        List<String> rows = Arrays.stream(breakdown).map(row -> row[0] + " " + row[1] + " " + row[2]).toList();
+        Assertions.assertTrue(rows.contains("findElement LoginPage.enterLogin 1"), "The lookup should be tagged with the page object: " + rows);
+        Assertions.assertTrue(rows.contains("sendKeys LoginPage.enterPassword 1"), "Typing should be tagged with the page object: " + rows);
+        Assertions.assertTrue(rows.contains("get CommandMetricsTest.testCommandsAreTaggedWithPageObjectMethod 1"), "Navigation should be tagged with the test: " + rows);
+        Assertions.assertTrue(rows.stream().anyMatch(row -> row.startsWith("executeScript ")), "Scripts should be recorded: " + rows);
+        Assertions.assertTrue(rows.stream().anyMatch(row -> row.startsWith("findElement (failed) ")), "Failed lookups should be recorded: " + rows);
+        Assertions.assertNull(CommandMetrics.finishTest(), "The breakdown should be returned once.");
+
+        String[][] summary = CommandMetrics.getSummaryTable();
+        Assertions.assertEquals("Command", summary[0][0], "The summary should have a header.");
+        Assertions.assertEquals(6, summary.length, "The summary should have one row per command.");
+        String[][] slowest = CommandMetrics.getSlowestCommandsTable();
+        Assertions.assertEquals(8, slowest.length, "Every command should be among the slowest of so short a run.");
+        Assertions.assertTrue(slowest[1][0].startsWith("CommandMetricsTest."), "The slowest commands should name their test.");
+    }
+
+    private static WebDriver stubDriver() {
+        WebElement element = WebDriverStubs.element((method, args) -> null);
+        return WebDriverStubs.driver((method, args) -> switch (method) {
+            case "findElement" -> {
+                if (args[0].toString().contains("missing")) {
+                    throw new NoSuchElementException("No element " + args[0]);
+                }
+                yield element;
+            }
+            case "findElements" -> List.of(element);
+            default -> null;
+        }, JavascriptExecutor.class);
+    }
+}
@@ -0,0 +1,92 @@
+package com.taskmanagerplus.tests;
+
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.taskmanagerplus.config.ConfigReader;
+import com.taskmanagerplus.config.ConfigSnapshot;
+
+/**
+ * Test class for verifying the configuration snapshot in the Task Manager Plus application.
+ *
+ * <p>This class verifies that the configuration is read from the classpath, that environment
+ * variables and system properties override the file in that order, and that malformed settings
+ * are rejected when the snapshot is built.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class ConfigReaderTest {
+
+    /**
+     * Test to verify that the configuration is read from the classpath into an immutable snapshot.
+     *
+     * <p>Scenario: Read a URL through the generic and the typed accessors.</p>
+     * <p>Expected Result: Both accessors should return the same value, and the snapshot should not be modifiable.</p>
+     */
+    @Test
+    public void testConfigurationIsReadFromClasspath() {
+        ConfigSnapshot config = ConfigReader.getConfig();
+        Assertions.assertSame(config, ConfigReader.getConfig(), "The configuration should be loaded once.");
+        Assertions.assertEquals(config.urlPublicLogin().toString(), ConfigReader.getProperty("urlPublicLogin"), "The accessors should agree.");
+        Assertions.assertNull(ConfigReader.getProperty("missingKey"), "A missing key should return null.");
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> config.properties().put("urlPublicHome", "http://example.com"),
+                "The snapshot should be immutable.");
+    }
+
+    /**
+     * Test to verify the order of the configuration layers.
+     *
+     * <p>Scenario: Override one key through the environment and another through both the environment and a system property.</p>
+     * <p>Expected Result: System properties should win over environment variables, which should win over the file.</p>
+     */
+    @Test
+    public void testOverridesAreLayered() {
+        Properties system = new Properties();
+        system.setProperty("urlApplicationTask", "https://staging.example.com/#/app/task");
+        Map<String, String> environment = Map.of(
+                "URL_PUBLIC_HOME", "https://staging.example.com",
+                "URL_APPLICATION_TASK", "https://ignored.example.com");
+
+        ConfigSnapshot config = ConfigSnapshot.load(configFile(), environment, system);
+
+        Assertions.assertEquals("https://staging.example.com", config.urlPublicHome().toString(), "The environment should override the file.");
+        Assertions.assertEquals("https://staging.example.com/#/app/task", config.urlApplicationTask().toString(), "System properties should override the environment.");
+        Assertions.assertEquals("http://localhost:4200/#/app", config.urlApplicationHome().toString(), "The file should apply without overrides.");
+        Assertions.assertEquals("URL_APPLICATION_HOME", ConfigSnapshot.environmentName("urlApplicationHome"), "The variable should be in upper snake case.");
+    }
+
+    /**
+     * Test to verify that malformed settings are rejected.
+     *
+     * <p>Scenario: Build snapshots with a relative URL, an unparsable URL and a missing setting.</p>
+     * <p>Expected Result: Every snapshot should be rejected with the name of the offending key.</p>
+     */
+    @Test
+    public void testMalformedConfigurationIsRejected() {
+        for (String[] setting : new String[][] {{"urlPublicHome", "localhost:4200"}, {"urlPublicLogin", "http://local host/"}}) {
+            Properties file = configFile();
+            file.setProperty(setting[0], setting[1]);
+            IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> ConfigSnapshot.load(file, Map.of(), new Properties()));
+            Assertions.assertTrue(exception.getMessage().contains(setting[0]), "The offending key should be reported.");
+        }
+        Properties file = configFile();
+        file.remove("urlApplicationTask");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ConfigSnapshot.load(file, Map.of(), new Properties()));
+    }
+
+    private static Properties configFile() {
+        Properties file = new Properties();
+        file.setProperty("chromeDriverPath", "drivers/chromedriver.exe");
+        file.setProperty("urlPublicHome", "http://localhost:4200");
+        file.setProperty("urlPublicLogin", "http://localhost:4200/#/login");
+        file.setProperty("urlApplicationHome", "http://localhost:4200/#/app");
+        file.setProperty("urlApplicationTask", "http://localhost:4200/#/app/task");
+        return file;
+    }
+}
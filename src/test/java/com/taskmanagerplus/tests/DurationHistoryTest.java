@@ -0,0 +1,129 @@
+package com.taskmanagerplus.tests;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.taskmanagerplus.reports.DurationHistory;
+import com.taskmanagerplus.reports.DurationHistory.Regression;
+import com.taskmanagerplus.reports.DurationHistory.Sample;
+
+/**
+ * Test class for verifying the duration history in the Task Manager Plus application.
+ *
+ * <p>This class stores the durations of several runs and verifies that only significant
+ * slowdowns against runs of other commits are flagged, and that the history is pruned.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class DurationHistoryTest {
+
+    private static final String TEST = "com.taskmanagerplus.tests.LoginTest.testLogin()";
+    private static final String STEP = "LoginPage.clickLoginButton click";
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Test to verify that significant slowdowns are flagged.
+     *
+     * <p>Scenario: Store ten runs with slightly varying durations, then compare a run in which one
+     * step is much slower, the harness slightly slower, and the whole test as slow as before.</p>
+     * <p>Expected Result: Only the much slower step should be flagged, with its baseline.</p>
+     */
+    @Test
+    public void testSignificantSlowdownsAreFlagged() throws IOException {
+        Path history = tempDir.resolve("durations.jsonl");
+        for (int run = 0; run < 10; run++) {
+            DurationHistory.append(history, List.of(
+                    sample("run-" + run, "", 2000 + run * 10),
+                    sample("run-" + run, STEP, 300 + run % 3 * 5),
+                    sample("run-" + run, DurationHistory.HARNESS_STEP, 400 + run % 2 * 10)));
+        }
+        Assertions.assertEquals(30, Files.readAllLines(history).size(), "Every duration should be stored.");
+
+        List<Regression> regressions = DurationHistory.compare(history, List.of(
+                sample("current", "", 2060),
+                sample("current", STEP, 900),
+                sample("current", DurationHistory.HARNESS_STEP, 430),
+                sample("current", "NewPage.open get", 5000)));
+
+        Assertions.assertEquals(1, regressions.size(), "Only the slow step should be flagged: " + regressions);
+        Regression regression = regressions.get(0);
+        Assertions.assertEquals(STEP, regression.step());
+        Assertions.assertEquals(10, regression.baselineRuns(), "Every earlier run should be in the baseline.");
+        Assertions.assertEquals(305.0, regression.baselineMean(), 5.0, "The baseline mean should be reported.");
+        Assertions.assertEquals(2, DurationHistory.toTable(regressions).length, "The table should have a header and one row.");
+    }
+
+    /**
+     * Test to verify that too short a history flags nothing.
+     *
+     * <p>Scenario: Store fewer runs than the baseline needs, then compare a much slower run.</p>
+     * <p>Expected Result: Nothing should be flagged.</p>
+     */
+    @Test
+    public void testShortHistoryFlagsNothing() throws IOException {
+        Path history = tempDir.resolve("short.jsonl");
+        List<Sample> runs = new ArrayList<>();
+        for (int run = 0; run < 3; run++) {
+            runs.add(sample("run-" + run, "", 1000));
+        }
+        DurationHistory.append(history, runs);
+        Assertions.assertTrue(DurationHistory.compare(history, List.of(sample("current", "", 9000))).isEmpty(),
+                "A short history should flag nothing.");
+    }
+
+    /**
+     * Test to verify that earlier runs of the same commit are left out of the baseline.
+     *
+     * <p>Scenario: Store ten fast runs of earlier commits and ten slow runs of the current commit,
+     * then compare another slow run of the current commit.</p>
+     * <p>Expected Result: The run should still be flagged against the earlier commits only.</p>
+     */
+    @Test
+    public void testSameCommitIsLeftOutOfBaseline() throws IOException {
+        Path history = tempDir.resolve("same-commit.jsonl");
+        for (int run = 0; run < 10; run++) {
+            DurationHistory.append(history, List.of(sample("run-" + run, "", 1000 + run % 2 * 10)));
+        }
+        for (int run = 0; run < 10; run++) {
+            DurationHistory.append(history, List.of(new Sample("rerun-" + run, "current", "1.0.0", 0, TEST, "", 3000)));
+        }
+
+        List<Regression> regressions = DurationHistory.compare(history, List.of(new Sample("rerun-10", "current", "1.0.0", 0, TEST, "", 3000)));
+        Assertions.assertEquals(1, regressions.size(), "The slow commit should still be flagged: " + regressions);
+        Assertions.assertEquals(1005.0, regressions.get(0).baselineMean(), 5.0, "Only the earlier commits should be in the baseline.");
+    }
+
+    /**
+     * Test to verify that the history keeps only its last runs.
+     *
+     * <p>Scenario: Store thirty runs and prune the history to twenty.</p>
+     * <p>Expected Result: The ten oldest runs should be removed.</p>
+     */
+    @Test
+    public void testHistoryIsPruned() throws IOException {
+        Path history = tempDir.resolve("pruned.jsonl");
+        for (int run = 0; run < 30; run++) {
+            DurationHistory.append(history, List.of(sample("run-" + run, "", 1000), sample("run-" + run, STEP, 300)));
+        }
+
+        DurationHistory.prune(history, 20);
+        List<String> lines = Files.readAllLines(history);
+        Assertions.assertEquals(40, lines.size(), "Two durations of each of the last twenty runs should be kept.");
+        Assertions.assertTrue(lines.get(0).contains("\"run-10\""), "The oldest kept run should come first: " + lines.get(0));
+    }
+
+    private static Sample sample(String run, String step, long millis) {
+        return new Sample(run, "sha-" + run, "1.0.0", 0, TEST, step, millis);
+    }
+}
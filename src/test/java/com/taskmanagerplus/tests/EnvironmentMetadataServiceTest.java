@@ -0,0 +1,82 @@
+package com.taskmanagerplus.tests;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+
+import com.taskmanagerplus.drivers.FlightRecorder;
+import com.taskmanagerplus.drivers.FlightRecorderListener;
+import com.taskmanagerplus.utils.EnvironmentMetadataService;
+import com.taskmanagerplus.utils.EnvironmentMetadataService.EnvironmentMetadata;
+
+/**
+ * Test class for verifying the environment metadata service in the Task Manager Plus application.
+ *
+ * <p>This class uses stub drivers reporting the capabilities of a ChromeDriver session, and
+ * verifies that the metadata is collected once per browser configuration.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class EnvironmentMetadataServiceTest {
+
+    @AfterEach
+    public void tearDown() {
+        EnvironmentMetadataService.reset();
+        FlightRecorder.finish();
+    }
+
+    /**
+     * Test to verify that the metadata is cached per browser configuration.
+     *
+     * <p>Scenario: Get the metadata of two decorated drivers of the same browser, then of a driver
+     * of another browser version.</p>
+     * <p>Expected Result: The first two should share the metadata, with the versions read from the
+     * capabilities, and the third should get its own.</p>
+     */
+    @Test
+    public void testMetadataIsCachedPerBrowserConfiguration() {
+        FlightRecorder.start("EnvironmentMetadataServiceTest.testMetadataIsCachedPerBrowserConfiguration()");
+        AtomicInteger lookups = new AtomicInteger();
+        WebDriver first = new EventFiringDecorator<WebDriver>(new FlightRecorderListener()).decorate(stubDriver("126.0.6478.126", lookups));
+        WebDriver second = new EventFiringDecorator<WebDriver>(new FlightRecorderListener()).decorate(stubDriver("126.0.6478.126", lookups));
+
+        EnvironmentMetadata metadata = EnvironmentMetadataService.get(first);
+        Assertions.assertSame(metadata, EnvironmentMetadataService.get(second), "The same configuration should share the metadata.");
+        Assertions.assertEquals("chrome", metadata.browserName(), "The browser should be read from the capabilities.");
+        Assertions.assertEquals("126.0.6478.126", metadata.browserVersion(), "The browser version should be read from the capabilities.");
+        Assertions.assertEquals("126.0.6478.55", metadata.driverVersion(), "The driver version should be stripped of its build.");
+        Assertions.assertEquals(System.getProperty("java.version"), metadata.getHostInfo().get("Java"), "The host should be described.");
+        Assertions.assertEquals(Map.of("Browser", "chrome", "Browser Version", "126.0.6478.126", "Platform", "linux", "Driver Version", "126.0.6478.55"),
+                metadata.getBrowserInfo(), "The browser should be described.");
+        Assertions.assertEquals(0, FlightRecorder.current().getRecorded(), "Reading the capabilities should not be recorded as a test command.");
+
+        EnvironmentMetadata other = EnvironmentMetadataService.get(stubDriver("127.0.6533.72", lookups));
+        Assertions.assertNotEquals(metadata, other, "Another browser version should get its own metadata.");
+        Assertions.assertEquals(3, lookups.get(), "The capabilities should be read once per driver.");
+    }
+
+    private static WebDriver stubDriver(String browserVersion, AtomicInteger lookups) {
+        Capabilities capabilities = new ImmutableCapabilities(Map.of(
+                "browserName", "chrome",
+                "browserVersion", browserVersion,
+                "platformName", "linux",
+                "chrome", Map.of("chromedriverVersion", "126.0.6478.55 (3b2c7f1e8a1c-refs/branch-heads/6478@{#1180})")));
+        return WebDriverStubs.driver((method, args) -> switch (method) {
+            case "getCapabilities" -> {
+                lookups.incrementAndGet();
+                yield capabilities;
+            }
+            default -> null;
+        }, HasCapabilities.class);
+    }
+}
@@ -0,0 +1,137 @@
+package com.taskmanagerplus.tests;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.MediaEntityBuilder;
+import com.aventstack.extentreports.Status;
+import com.taskmanagerplus.reports.EventLogRenderer;
+import com.taskmanagerplus.reports.EventLogReporter;
+
+/**
+ * Test class for verifying the event-log report backend in the Task Manager Plus application.
+ *
+ * <p>This class records tests through {@link EventLogReporter}, removing each finished test from
+ * the report as the event-log backend does, and renders the log into HTML.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class EventLogReporterTest {
+
+    private static final int TESTS = 50;
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Test to verify that removed tests are recorded and rendered.
+     *
+     * <p>Scenario: Record passing and failing tests, removing each one from the report once finished,
+     * then close the log and render it.</p>
+     * <p>Expected Result: The report should hold only the unfinished test, the log should hold every event, and the
+     * HTML should list every test with its status and escaped name.</p>
+     */
+    @Test
+    public void testEventsAreLoggedAndRendered() throws IOException {
+        Path log = tempDir.resolve("ExtentReport.jsonl");
+        Path html = tempDir.resolve("ExtentReport.html");
+        EventLogReporter reporter = new EventLogReporter(log);
+        ExtentReports extent = new ExtentReports();
+        extent.attachReporter(reporter);
+        for (int i = 0; i < TESTS; i++) {
+            ExtentTest test = extent.createTest("Login <" + i + ">");
+            test.log(Status.INFO, "Opened the login page");
+            if (i % 5 == 0) {
+                test.fail(new AssertionError("Login failed for user " + i));
+            } else {
+                test.pass("Logged in");
+            }
+            extent.removeTest(test);
+        }
+        ExtentTest unfinished = extent.createTest("Unfinished");
+        unfinished.info("Still running");
+        reporter.flush();
+        reporter.close();
+
+        Assertions.assertTrue(extent.getReport().getTestList().size() <= 1, "Removed tests should not be held in memory.");
+        List<String> lines = Files.readAllLines(log);
+        Assertions.assertEquals(TESTS * 4 + 3, lines.size(), "Every test should be logged as four events.");
+        Assertions.assertTrue(lines.get(0).replace(" ", "").startsWith("{\"event\":\"test\""), "The first event should open a test.");
+
+        Assertions.assertEquals(TESTS + 1, EventLogRenderer.render(log, html), "Every test should be rendered.");
+        String report = Files.readString(html);
+        Assertions.assertTrue(report.contains("Login &lt;49&gt;"), "Test names should be escaped.");
+        Assertions.assertTrue(report.contains("fail: " + TESTS / 5), "Failures should be counted.");
+        // The unfinished test is ended with its current status when the log is closed
+        Assertions.assertTrue(report.contains("pass: " + (TESTS - TESTS / 5 + 1)), "Passes should be counted.");
+        Assertions.assertTrue(report.contains("Login failed for user 45"), "Exceptions should be rendered.");
+    }
+
+    /**
+     * Test to verify that the log entries of a test are capped.
+     *
+     * <p>Scenario: Log more entries than the cap in one test.</p>
+     * <p>Expected Result: Only the capped number of entries should be logged, and the others counted.</p>
+     */
+    @Test
+    public void testLogEntriesAreCapped() throws IOException {
+        Path log = tempDir.resolve("Capped.jsonl");
+        System.setProperty(EventLogReporter.MAX_LOGS_PROPERTY, "10");
+        EventLogReporter reporter;
+        try {
+            reporter = new EventLogReporter(log);
+        } finally {
+            System.clearProperty(EventLogReporter.MAX_LOGS_PROPERTY);
+        }
+        ExtentReports extent = new ExtentReports();
+        extent.attachReporter(reporter);
+        ExtentTest test = extent.createTest("Chatty test");
+        for (int i = 0; i < 100; i++) {
+            test.info("Step " + i);
+        }
+        extent.removeTest(test);
+        reporter.close();
+
+        List<String> lines = Files.readAllLines(log);
+        Assertions.assertEquals(12, lines.size(), "Only the capped entries should be logged.");
+        Assertions.assertTrue(lines.get(11).contains("\"droppedLogs\"") && lines.get(11).contains("90"), "The dropped entries should be counted.");
+    }
+
+    /**
+     * Test to verify that Base64 screenshots are embedded in the rendered report.
+     *
+     * <p>Scenario: Record a failure with a Base64 screenshot and a Base64 screenshot added to the test,
+     * then close the log and render it.</p>
+     * <p>Expected Result: Both screenshots should be embedded as images in the HTML.</p>
+     */
+    @Test
+    public void testBase64ScreenshotsAreEmbedded() throws IOException {
+        Path log = tempDir.resolve("Screenshots.jsonl");
+        Path html = tempDir.resolve("Screenshots.html");
+        EventLogReporter reporter = new EventLogReporter(log);
+        ExtentReports extent = new ExtentReports();
+        extent.attachReporter(reporter);
+        ExtentTest test = extent.createTest("Failing test");
+        test.fail("Failed", MediaEntityBuilder.createScreenCaptureFromBase64String("iVBORw0KGgoAAAA", "Failure screenshot").build());
+        test.addScreenCaptureFromBase64String("iVBORw0KGgoBBBB");
+        extent.removeTest(test);
+        reporter.close();
+
+        EventLogRenderer.render(log, html);
+        String report = Files.readString(html);
+        Assertions.assertTrue(report.contains("<img src=\"data:image/png;base64,iVBORw0KGgoAAAA\" alt=\"Failure screenshot\">"),
+                "The screenshot of the log entry should be embedded.");
+        Assertions.assertTrue(report.contains("<img src=\"data:image/png;base64,iVBORw0KGgoBBBB\""),
+                "The screenshot added to the test should be embedded.");
+    }
+}
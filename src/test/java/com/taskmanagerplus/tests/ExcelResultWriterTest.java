@@ -0,0 +1,113 @@
+package com.taskmanagerplus.tests;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.taskmanagerplus.utils.ExcelResultWriter;
+import com.taskmanagerplus.utils.StreamingSheetReader.StreamedRow;
+import com.taskmanagerplus.utils.WorkbookSnapshot;
+
+/**
+ * Test class for verifying the streaming result workbook in the Task Manager Plus application.
+ *
+ * <p>This class writes a large number of results from several threads and reads the workbook
+ * back to verify that every result was written once, with its values.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class ExcelResultWriterTest {
+
+    private static final int THREADS = 4;
+    private static final int RESULTS_PER_THREAD = 5_000;
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Test to verify that results queued from several threads are all written.
+     *
+     * <p>Scenario: Queue 20,000 parameterized results from four threads and close the writer.</p>
+     * <p>Expected Result: The workbook should hold a header and one row per result, and the closed
+     * writer should reject further results.</p>
+     */
+    @Test
+    public void testResultsAreStreamedToWorkbook() throws IOException {
+        File file = tempDir.resolve("TestResults.xlsx").toFile();
+        ExcelResultWriter writer = new ExcelResultWriter(file);
+        Instant started = Instant.parse("2026-10-19T10:15:30Z");
+        List<CompletableFuture<Void>> producers = IntStream.range(0, THREADS)
+                .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < RESULTS_PER_THREAD; i++) {
+                        writer.write(new ExcelResultWriter.TestResult("com.taskmanagerplus.tests.LoginTest", "testLogin",
+                                "[" + i + "] user" + i + ", pwd" + i, "user" + i + ", pwd" + i,
+                                i % 10 == 0 ? "FAILED" : "SUCCESSFUL", i, started, i % 10 == 0 ? "AssertionFailedError: " + i : null));
+                    }
+                }))
+                .toList();
+        producers.forEach(CompletableFuture::join);
+        writer.close();
+
+        Assertions.assertEquals(THREADS * RESULTS_PER_THREAD, writer.getRowsWritten(), "Every result should be written.");
+        Assertions.assertThrows(IllegalStateException.class, () -> writer.write(null), "A closed writer should reject results.");
+
+        List<StreamedRow> rows = WorkbookSnapshot.load(file).getRows("Results");
+        Assertions.assertEquals(THREADS * RESULTS_PER_THREAD + 1, rows.size(), "The workbook should hold one row per result.");
+        Assertions.assertEquals("Parameters", rows.get(0).getCell(3).toString(), "The header should be written.");
+        StreamedRow first = rows.get(1);
+        Assertions.assertEquals("testLogin", first.getCell(1).toString(), "The method should be written.");
+        Assertions.assertEquals("user0, pwd0", first.getCell(3).toString(), "The parameters should be written.");
+        Assertions.assertEquals("FAILED", first.getCell(4).toString(), "The status should be written.");
+        Assertions.assertTrue(first.getCell(6).isDateFormatted(), "The start time should be a date.");
+        long failures = rows.stream().skip(1).filter(row -> "FAILED".equals(row.getCell(4).toString())).count();
+        Assertions.assertEquals(THREADS * RESULTS_PER_THREAD / 10, failures, "Every failure should be written.");
+    }
+
+    /**
+     * Test to verify that closing the writer while results are queued loses none of them.
+     *
+     * <p>Scenario: Queue results from four threads until the writer rejects them, and close the
+     * writer while they are running.</p>
+     * <p>Expected Result: Every result accepted before the close should be written, and no
+     * producer should be left waiting on the queue.</p>
+     */
+    @Test
+    public void testResultsQueuedDuringCloseAreNotLost() throws IOException {
+        ExcelResultWriter writer = new ExcelResultWriter(tempDir.resolve("TestResults.xlsx").toFile());
+        Instant started = Instant.parse("2026-10-19T10:15:30Z");
+        AtomicLong accepted = new AtomicLong();
+        List<CompletableFuture<Void>> producers = IntStream.range(0, THREADS)
+                .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                    try {
+                        while (true) {
+                            writer.write(new ExcelResultWriter.TestResult("com.taskmanagerplus.tests.LoginTest", "testLogin",
+                                    "testLogin()", "", "SUCCESSFUL", 1, started, null));
+                            accepted.incrementAndGet();
+                        }
+                    } catch (IllegalStateException e) {
+                        // Closed
+                    }
+                }))
+                .toList();
+        while (accepted.get() < 1_000) {
+            Thread.onSpinWait();
+        }
+        writer.close();
+
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), () -> producers.forEach(CompletableFuture::join),
+                "No producer should be left waiting on the queue.");
+        Assertions.assertEquals(accepted.get(), writer.getRowsWritten(), "Every accepted result should be written.");
+    }
+}
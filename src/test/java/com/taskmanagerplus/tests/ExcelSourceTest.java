@@ -0,0 +1,91 @@
+package com.taskmanagerplus.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+
+import com.taskmanagerplus.params.ExcelArgumentsProvider;
+import com.taskmanagerplus.params.ExcelSource;
+import com.taskmanagerplus.utils.ExcelUtils;
+
+/**
+ * Test class for verifying the Excel-backed arguments of parameterized tests in the Task Manager Plus application.
+ *
+ * <p>This class runs parameterized tests from the credentials workbook and verifies that the rows
+ * are supplied, filtered and sharded as described by {@link ExcelSource}.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class ExcelSourceTest {
+
+    private static final String FILE = "testdata/LoginCredentials.xlsx";
+    private static final String SHEET = "LoginCredentials";
+
+    /**
+     * Test to verify that every populated row is supplied as arguments.
+     *
+     * <p>Scenario: Run once per credentials row with the username and password columns.</p>
+     * <p>Expected Result: Every invocation should receive the values read by column name.</p>
+     */
+    @ParameterizedTest
+    @ExcelSource(file = FILE, sheet = SHEET, columns = {"Username", "Password"})
+    public void testRowsAreSuppliedAsArguments(String username, String password) {
+        List<String> usernames = ExcelUtils.shared(FILE).streamRows(SHEET).map(row -> row.get("Username")).toList();
+        Assertions.assertTrue(usernames.contains(username), "The username should come from the sheet.");
+        Assertions.assertNotNull(password, "The password should be supplied.");
+    }
+
+    /**
+     * Test to verify that rows are filtered and converted to the parameter types.
+     *
+     * <p>Scenario: Run for the row of one username, with the numeric password as a long.</p>
+     * <p>Expected Result: The single matching row should be supplied with the converted password.</p>
+     */
+    @ParameterizedTest
+    @ExcelSource(file = FILE, sheet = SHEET, columns = {"password", "username"}, filter = "Username=luna.moon@maif.com")
+    public void testRowsAreFilteredAndConverted(long password, String username) {
+        Assertions.assertEquals("luna.moon@maif.com", username, "Only the matching row should be supplied.");
+        Assertions.assertEquals(123L, password, "The password should be converted to a long.");
+    }
+
+    /**
+     * Test to verify that the shards together cover every row exactly once.
+     *
+     * <p>Scenario: Collect the rows of each of two shards set through the system properties.</p>
+     * <p>Expected Result: The shards should be disjoint, and together match the unsharded rows in order.</p>
+     */
+    @Test
+    @ExcelSource(file = FILE, sheet = SHEET, columns = "Username")
+    public void testShardsCoverEveryRowOnce() throws NoSuchMethodException {
+        ExcelSource source = getClass().getMethod("testShardsCoverEveryRowOnce").getAnnotation(ExcelSource.class);
+        List<Object> all = usernames(source);
+        List<Object> shards = new ArrayList<>();
+        try {
+            System.setProperty(ExcelArgumentsProvider.SHARD_COUNT_PROPERTY, "2");
+            for (int shard = 0; shard < 2; shard++) {
+                System.setProperty(ExcelArgumentsProvider.SHARD_INDEX_PROPERTY, String.valueOf(shard));
+                List<Object> rows = usernames(source);
+                Assertions.assertFalse(rows.isEmpty(), "Every shard should receive rows.");
+                shards.addAll(rows);
+            }
+        } finally {
+            System.clearProperty(ExcelArgumentsProvider.SHARD_COUNT_PROPERTY);
+            System.clearProperty(ExcelArgumentsProvider.SHARD_INDEX_PROPERTY);
+        }
+        Assertions.assertEquals(3, all.size(), "Every populated row should be supplied.");
+        Assertions.assertEquals(all.size(), shards.size(), "Every row should be in exactly one shard.");
+        Assertions.assertTrue(shards.containsAll(all), "The shards should cover every row.");
+    }
+
+    private static List<Object> usernames(ExcelSource source) {
+        ExcelArgumentsProvider provider = new ExcelArgumentsProvider();
+        provider.accept(source);
+        return provider.provideArguments(null).map(Arguments::get).map(values -> values[0]).toList();
+    }
+}
@@ -0,0 +1,193 @@
+package com.taskmanagerplus.tests;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.taskmanagerplus.utils.CompiledWorkbook;
+import com.taskmanagerplus.utils.ExcelColumn;
+import com.taskmanagerplus.utils.ExcelUtils;
+import com.taskmanagerplus.utils.SheetRowSource;
+import com.taskmanagerplus.utils.WorkbookRegistry;
+
+/**
+ * Test class for verifying the streaming mode of ExcelUtils in the Task Manager Plus application.
+ * 
+ * <p>This class reads the same workbook in DOM mode, in streaming mode, from the shared rows of
+ * the workbook registry and from its compiled form, and verifies that every lookup returns the
+ * same value, or fails the same way.</p>
+ * 
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class ExcelUtilsTest {
+
+    private static final String SHEET = "LoginCredentials";
+    private static final int ROWS_TO_COMPARE = 8;
+    private static final int COLUMNS_TO_COMPARE = 3;
+
+    public record Credentials(@ExcelColumn("Username") String email, String password) {
+    }
+
+    public record NumericCredentials(String username, long password) {
+    }
+
+    private static ExcelUtils domUtils;
+    private static ExcelUtils streamingUtils;
+    private static ExcelUtils sharedUtils;
+
+    @BeforeAll
+    public static void setUpClass() {
+        domUtils = new ExcelUtils("testdata/LoginCredentials.xlsx", false);
+        streamingUtils = new ExcelUtils("testdata/LoginCredentials.xlsx", true);
+        sharedUtils = ExcelUtils.shared("testdata/LoginCredentials.xlsx");
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+        domUtils.close();
+        streamingUtils.close();
+    }
+
+    /**
+     * Test to verify that streaming mode reads the credentials used by the tests.
+     * 
+     * <p>Scenario: Read the first credentials row by column name in streaming mode.</p>
+     * <p>Expected Result: The numeric password should be formatted as an integer.</p>
+     */
+    @Test
+    public void testStreamingModeReadsCredentials() {
+        Assertions.assertTrue(streamingUtils.isStreaming(), "The workbook should be opened in streaming mode.");
+        Assertions.assertEquals("luna.moon@maif.com", streamingUtils.getCellDataByColumnName(SHEET, 1, "Username"), "The username should match.");
+        Assertions.assertEquals("123", streamingUtils.getCellDataByColumnName(SHEET, 1, "Password"), "The password should match.");
+    }
+
+    /**
+     * Test to verify that streaming mode, the shared snapshot and DOM mode return the same values.
+     * 
+     * <p>Scenario: Compare every cell, row and column lookup of the first rows of the sheet in both modes.</p>
+     * <p>Expected Result: Both modes should return the same value or throw the same exception.</p>
+     */
+    @Test
+    public void testStreamingModeMatchesDomMode() {
+        for (int row = 0; row < ROWS_TO_COMPARE; row++) {
+            final int rowNum = row;
+            assertSameOutcome(() -> domUtils.getRowData(SHEET, rowNum), () -> streamingUtils.getRowData(SHEET, rowNum),
+                    () -> sharedUtils.getRowData(SHEET, rowNum), "row " + rowNum);
+            for (String column : new String[] {"Username", "Password", "Missing"}) {
+                assertSameOutcome(() -> domUtils.getCellDataByColumnName(SHEET, rowNum, column),
+                        () -> streamingUtils.getCellDataByColumnName(SHEET, rowNum, column),
+                        () -> sharedUtils.getCellDataByColumnName(SHEET, rowNum, column), "row " + rowNum + ", column " + column);
+            }
+            for (int col = 0; col < COLUMNS_TO_COMPARE; col++) {
+                final int colNum = col;
+                assertSameOutcome(() -> domUtils.getCellData(SHEET, rowNum, colNum),
+                        () -> streamingUtils.getCellData(SHEET, rowNum, colNum),
+                        () -> sharedUtils.getCellData(SHEET, rowNum, colNum), "row " + rowNum + ", cell " + colNum);
+            }
+        }
+        assertSameOutcome(() -> domUtils.getCellData("Missing", 0, 0), () -> streamingUtils.getCellData("Missing", 0, 0),
+                () -> sharedUtils.getCellData("Missing", 0, 0), "missing sheet");
+    }
+
+    /**
+     * Test to verify that rows are mapped onto records by column name in both modes.
+     * 
+     * <p>Scenario: Map the credentials rows onto a record with a renamed component, and a row with a
+     * text password onto a record with a numeric password.</p>
+     * <p>Expected Result: The populated rows should be mapped with their values converted, blank rows
+     * should be skipped, and an unconvertible value should be rejected with the column name.</p>
+     */
+    @Test
+    public void testRowsAreMappedOntoRecords() {
+        for (ExcelUtils excelUtils : new ExcelUtils[] {domUtils, streamingUtils, sharedUtils}) {
+            Credentials credentials = excelUtils.getRowAs(SHEET, 1, Credentials.class);
+            Assertions.assertEquals(new Credentials("luna.moon@maif.com", "123"), credentials, "The first row should be mapped.");
+            Assertions.assertEquals(123L, excelUtils.getRowAs(SHEET, 1, NumericCredentials.class).password(), "The numeric password should be converted.");
+
+            List<Credentials> rows = excelUtils.getRowsAs(SHEET, Credentials.class);
+            Assertions.assertEquals(3, rows.size(), "Only the populated rows should be mapped.");
+            Assertions.assertEquals("jane.smith@example.com", rows.get(2).email(), "The rows should be mapped in sheet order.");
+
+            IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> excelUtils.getRowAs(SHEET, 2, NumericCredentials.class));
+            Assertions.assertTrue(exception.getMessage().contains("password"), "The failing column should be reported.");
+
+            Assertions.assertEquals(rows.stream().map(Credentials::email).toList(),
+                    excelUtils.streamRows(SHEET).map(row -> row.get("Username")).toList(), "The streamed rows should match the records.");
+            Assertions.assertEquals("123", excelUtils.streamRows(SHEET).findFirst().orElseThrow().get("password"), "The first streamed row should be read on demand.");
+        }
+    }
+
+    /**
+     * Test to verify that the workbook registry parses a workbook once for all readers.
+     * 
+     * <p>Scenario: Request the same workbook from several threads at once.</p>
+     * <p>Expected Result: Every thread should receive the same instance.</p>
+     */
+    @Test
+    public void testRegistryReturnsOneSnapshotPerWorkbook() {
+        SheetRowSource snapshot = WorkbookRegistry.get("testdata/LoginCredentials.xlsx");
+        List<CompletableFuture<SheetRowSource>> requests = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> WorkbookRegistry.get("testdata/LoginCredentials.xlsx")))
+                .toList();
+        for (CompletableFuture<SheetRowSource> request : requests) {
+            Assertions.assertSame(snapshot, request.join(), "Every reader should get the same snapshot.");
+        }
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> snapshot.getRow(SHEET, 1).getCells().clear(), "The snapshot should be immutable.");
+    }
+
+    /**
+     * Test to verify that the compiled test data reads like the workbook it was compiled from.
+     * 
+     * <p>Scenario: Open the compiled form of the credentials workbook written by the build, and of
+     * the invalid workbook the build skips.</p>
+     * <p>Expected Result: The compiled form should return the same values as DOM mode, and the
+     * invalid workbook should have no compiled form.</p>
+     */
+    @Test
+    public void testCompiledWorkbookMatchesDomMode() {
+        CompiledWorkbook compiled = CompiledWorkbook.open("testdata/LoginCredentials.xlsx");
+        Assertions.assertNotNull(compiled, "The build should compile the credentials workbook.");
+        Assertions.assertEquals(List.of(SHEET), compiled.getSheetNames(), "The sheets should be compiled.");
+        Assertions.assertNull(CompiledWorkbook.open("testdata/TestData.xlsx"), "An invalid workbook should not be compiled.");
+
+        ExcelUtils compiledUtils = new ExcelUtils(compiled);
+        for (int row = 0; row < ROWS_TO_COMPARE; row++) {
+            final int rowNum = row;
+            assertSameOutcome(() -> domUtils.getRowData(SHEET, rowNum), () -> compiledUtils.getRowData(SHEET, rowNum), "row " + rowNum);
+            assertSameOutcome(() -> domUtils.getCellDataByColumnName(SHEET, rowNum, "Password"),
+                    () -> compiledUtils.getCellDataByColumnName(SHEET, rowNum, "Password"), "row " + rowNum + ", password");
+            for (int col = 0; col < COLUMNS_TO_COMPARE; col++) {
+                final int colNum = col;
+                assertSameOutcome(() -> domUtils.getCellData(SHEET, rowNum, colNum),
+                        () -> compiledUtils.getCellData(SHEET, rowNum, colNum), "row " + rowNum + ", cell " + colNum);
+            }
+        }
+        Assertions.assertEquals(domUtils.getRowsAs(SHEET, Credentials.class), compiledUtils.getRowsAs(SHEET, Credentials.class), "The records should match.");
+    }
+
+    private static void assertSameOutcome(Supplier<Object> dom, Supplier<Object> streaming, String lookup) {
+        Assertions.assertEquals(outcome(dom), outcome(streaming), "Streaming mode should match DOM mode for " + lookup);
+    }
+
+    private static void assertSameOutcome(Supplier<Object> dom, Supplier<Object> streaming, Supplier<Object> shared, String lookup) {
+        assertSameOutcome(dom, streaming, lookup);
+        Assertions.assertEquals(outcome(dom), outcome(shared), "The shared snapshot should match DOM mode for " + lookup);
+    }
+
+    private static String outcome(Supplier<Object> lookup) {
+        try {
+            return String.valueOf(lookup.get());
+        } catch (IllegalArgumentException e) {
+            return e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+    }
+}
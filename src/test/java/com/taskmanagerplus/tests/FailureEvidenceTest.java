@@ -0,0 +1,119 @@
+package com.taskmanagerplus.tests;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chromium.HasCdp;
+
+import com.taskmanagerplus.pages.TaskSearchPage;
+import com.taskmanagerplus.utils.FailureEvidence;
+import com.taskmanagerplus.utils.FailureEvidence.Evidence;
+
+/**
+ * Test class for verifying the failure evidence screenshots in the Task Manager Plus application.
+ *
+ * <p>This class uses a stub driver and stub elements, each returning a distinct one-byte
+ * "screenshot", and verifies which one the evidence is taken from.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class FailureEvidenceTest {
+
+    private static final byte[] FULL_PAGE = {1};
+    private static final byte[] ELEMENT = {2};
+    private static final byte[] REGION = {3};
+
+    private final Map<String, Object> cdpParameters = new HashMap<>();
+
+    @AfterEach
+    public void tearDown() {
+        FailureEvidence.clear();
+    }
+
+    /**
+     * Test to verify that the evidence is taken from the focus, and from the full page otherwise.
+     *
+     * <p>Scenario: Capture without focus, with an element in focus, with a region in focus, and
+     * with an element that is no longer on the page.</p>
+     * <p>Expected Result: The element should be photographed alone, the region should be clipped
+     * through DevTools, and the full page should only be taken without a usable focus.</p>
+     */
+    @Test
+    public void testEvidenceFollowsFocus() {
+        WebDriver driver = stubDriver();
+
+        Assertions.assertArrayEquals(FULL_PAGE, FailureEvidence.capture(driver).png(), "Without focus, the full page should be taken.");
+
+        FailureEvidence.focusOn(stubElement(false), "Task row 'Test Task A'");
+        Evidence element = FailureEvidence.capture(driver);
+        Assertions.assertArrayEquals(ELEMENT, element.png(), "Only the element in focus should be taken.");
+        Assertions.assertEquals("Task row 'Test Task A'", element.description(), "The evidence should be described.");
+
+        FailureEvidence.focusOnRegion(new Rectangle(10, 20, 40, 300), "Toast area");
+        Assertions.assertArrayEquals(REGION, FailureEvidence.capture(driver).png(), "The region should be clipped by the browser.");
+        Assertions.assertEquals(Map.of("x", 10, "y", 20, "width", 300, "height", 40, "scale", 1), cdpParameters.get("clip"),
+                "The clip should match the region.");
+
+        FailureEvidence.focusOn(stubElement(true), "Toast message");
+        Evidence fallback = FailureEvidence.capture(driver);
+        Assertions.assertArrayEquals(FULL_PAGE, fallback.png(), "A vanished element should fall back to the full page.");
+        Assertions.assertEquals("Full page", fallback.description(), "The fallback should be described.");
+    }
+
+    /**
+     * Test to verify that a failed lookup in a page object does not leave the focus of an earlier lookup.
+     *
+     * <p>Scenario: Focus on a task row, then look up a row that is not on the page and capture.</p>
+     * <p>Expected Result: The full page should be taken instead of the earlier row.</p>
+     */
+    @Test
+    public void testMissingRowClearsFocus() {
+        WebDriver driver = stubDriver();
+        FailureEvidence.focusOn(stubElement(false), "Task row 'Test Task A'");
+
+        TaskSearchPage taskSearchPage = new TaskSearchPage(driver);
+        Assertions.assertThrows(NoSuchElementException.class, () -> taskSearchPage.getTaskRow("Test Task B"));
+
+        Evidence evidence = FailureEvidence.capture(driver);
+        Assertions.assertArrayEquals(FULL_PAGE, evidence.png(), "The earlier row should not be taken.");
+        Assertions.assertEquals("Full page", evidence.description(), "The full page should be described.");
+    }
+
+    private WebDriver stubDriver() {
+        return WebDriverStubs.driver((method, args) -> switch (method) {
+            case "getScreenshotAs" -> FULL_PAGE;
+            case "findElement" -> throw new NoSuchElementException("No element " + args[0]);
+            case "executeCdpCommand" -> {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> parameters = (Map<String, Object>) args[1];
+                cdpParameters.putAll(parameters);
+                yield Map.of("data", Base64.getEncoder().encodeToString(REGION));
+            }
+            default -> null;
+        }, TakesScreenshot.class, HasCdp.class);
+    }
+
+    private static WebElement stubElement(boolean stale) {
+        return WebDriverStubs.element((method, args) -> {
+            if ("getScreenshotAs".equals(method)) {
+                if (stale) {
+                    throw new StaleElementReferenceException("The element is no longer attached to the page");
+                }
+                return ELEMENT;
+            }
+            return null;
+        });
+    }
+}
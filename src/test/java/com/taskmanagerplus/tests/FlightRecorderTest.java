@@ -0,0 +1,106 @@
+package com.taskmanagerplus.tests;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.taskmanagerplus.drivers.FlightRecorder;
+import com.taskmanagerplus.drivers.FlightRecorderListener;
+import com.taskmanagerplus.pages.LoginPage;
+
+/**
+ * Test class for verifying the flight recorder of driver commands and log lines in the Task Manager Plus application.
+ *
+ * <p>This class decorates a stub driver, which answers every command without a browser, with the
+ * {@link FlightRecorderListener}, and verifies what a failing test would add to the report.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class FlightRecorderTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecorderTest.class);
+
+    private static final String PAGE_SOURCE = "<html>" + "<div class=\"task-row\"></div>".repeat(50_000) + "</html>";
+
+    @AfterEach
+    public void tearDown() {
+        FlightRecorder.finish();
+    }
+
+    /**
+     * Test to verify that commands and log lines are recorded in order, with the typed keys masked.
+     *
+     * <p>Scenario: Fill in the login form through the page object, log a line and read the page
+     * source, then dump the recorder.</p>
+     * <p>Expected Result: The dump should list the commands and the log line, should not contain
+     * the password, and should only keep the start of the page source.</p>
+     */
+    @Test
+    public void testCommandsAndLogsAreRecorded() {
+        FlightRecorder.start("FlightRecorderTest.testCommandsAndLogsAreRecorded()");
+        WebDriver driver = new EventFiringDecorator<WebDriver>(new FlightRecorderListener()).decorate(stubDriver());
+
+        driver.get("http://localhost/login");
+        LoginPage loginPage = new LoginPage(driver);
+        loginPage.enterLogin("john.doe@example.com");
+        loginPage.enterPassword("pass123");
+        logger.debug("Login form filled in");
+        driver.getPageSource();
+
+        FlightRecorder recorder = FlightRecorder.finish();
+        Assertions.assertNotNull(recorder, "The recorder should have been started.");
+        Assertions.assertNull(FlightRecorder.current(), "The recorder should be finished.");
+        String dump = recorder.dump();
+        Assertions.assertTrue(dump.contains("CMD get(http://localhost/login)"), "Navigation should be recorded: " + dump);
+        Assertions.assertTrue(dump.contains("CMD sendKeys(***)"), "Typing should be recorded masked: " + dump);
+        Assertions.assertFalse(dump.contains("pass123"), "The password should never be recorded: " + dump);
+        Assertions.assertTrue(dump.contains("LOG DEBUG FlightRecorderTest - Login form filled in"), "Debug lines should be recorded: " + dump);
+        Assertions.assertTrue(dump.indexOf("CMD get(") < dump.indexOf("LOG DEBUG"), "Entries should be in order: " + dump);
+        Assertions.assertTrue(dump.contains("CMD getPageSource() -> <html>"), "The page source should be recorded: " + dump);
+        Assertions.assertTrue(dump.contains("... (" + PAGE_SOURCE.length() + " chars)"), "The page source should be truncated: " + dump);
+    }
+
+    /**
+     * Test to verify that the recorder keeps only its most recent entries.
+     *
+     * <p>Scenario: Record ten log lines in a recorder of four entries.</p>
+     * <p>Expected Result: The dump should count the six overwritten entries and list the last four.</p>
+     */
+    @Test
+    public void testOldestEntriesAreOverwritten() {
+        System.setProperty(FlightRecorder.CAPACITY_PROPERTY, "4");
+        try {
+            FlightRecorder.start("FlightRecorderTest.testOldestEntriesAreOverwritten()");
+        } finally {
+            System.clearProperty(FlightRecorder.CAPACITY_PROPERTY);
+        }
+        for (int i = 0; i < 10; i++) {
+            logger.info("Line {}", i);
+        }
+
+        List<String> lines = FlightRecorder.finish().dump().lines().toList();
+        Assertions.assertEquals(6, lines.size(), "The dump should have a title, an overflow line and four entries: " + lines);
+        Assertions.assertEquals("... 6 earlier entries were overwritten", lines.get(1), "The overwritten entries should be counted.");
+        Assertions.assertTrue(lines.get(2).endsWith("Line 6"), "The oldest kept entry should come first: " + lines);
+        Assertions.assertTrue(lines.get(5).endsWith("Line 9"), "The newest entry should come last: " + lines);
+    }
+
+    private static WebDriver stubDriver() {
+        WebElement element = WebDriverStubs.element((method, args) -> null);
+        return WebDriverStubs.driver((method, args) -> switch (method) {
+            case "findElement" -> element;
+            case "findElements" -> List.of(element);
+            case "getPageSource" -> PAGE_SOURCE;
+            default -> null;
+        });
+    }
+}
@@ -1,5 +1,7 @@
 package com.taskmanagerplus.tests;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -8,7 +10,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import com.taskmanagerplus.config.JdbcMetrics;
 import com.taskmanagerplus.config.JdbcTemplateSingleton;
+import com.taskmanagerplus.config.TaskPersistenceVerifier;
+import com.taskmanagerplus.config.TestDataRegistry;
 
 /**
  * Test class for verifying the functionality of the JdbcTemplateSingleton in the Task Manager Plus application.
@@ -33,7 +38,7 @@ public class JdbcTemplateSingletonTest {
     
     @AfterEach
     public void tearDown() {
-    	JdbcTemplateSingleton.cleanupTestDataTask("Test Task");
+    	JdbcTemplateSingleton.cleanupTrackedTestData();
         logger.info("Test data cleaned up");
     }
 
@@ -66,19 +71,93 @@ public class JdbcTemplateSingletonTest {
     @Test
     public void testInsertAndCleanupTaskData() {
         // Insert test data
-        JdbcTemplateSingleton.insertTaskData("Test Task Insert", "Test Description Insert", "2024-07-17", false);
+        long id = JdbcTemplateSingleton.insertTaskData("Test Task Insert", "Test Description Insert", "2024-07-17", false);
+        Assertions.assertTrue(id > 0, "The generated key of the test task should be returned.");
 
         // Verify the data insertion
-        int count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task WHERE title = 'Test Task Insert'", Integer.class);
+        int count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task WHERE id = ?", Integer.class, id);
         Assertions.assertEquals(count, 1, "One test task should be inserted.");
         logger.info("Test data insertion verified");
 
         // Cleanup test data
-        JdbcTemplateSingleton.cleanupTestDataTask("Test Task Insert");
+        JdbcTemplateSingleton.cleanupTrackedTestData();
 
         // Verify the data cleanup
-        count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task WHERE title = 'Test Task Insert'", Integer.class);
+        count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task WHERE id = ?", Integer.class, id);
         Assertions.assertEquals(count, 0, "Test task should be cleaned up.");
         logger.info("Test data cleanup verified");
     }
+
+    /**
+     * Test to verify that rows registered by title are cleaned up without touching rows that only share the prefix.
+     * 
+     * <p>Scenario: Insert a row the way the UI would (untracked) and a second row sharing its title prefix,
+     * register only the first title and clean up the tracked data.</p>
+     * <p>Expected Result: The registered row should be removed and the other row should be kept.</p>
+     */
+    @Test
+    public void testRegisteredTitleCleanupKeepsRowsSharingThePrefix() {
+        // Insert rows without tracking them, as the UI would
+        long uiTaskId = JdbcTemplateSingleton.insertTaskRow("Test Task Registered", "Test Description Registered", "2024-07-17", false);
+        long otherTaskId = JdbcTemplateSingleton.insertTaskRow("Test Task Registered Other", "Test Description Other", "2024-07-17", true);
+
+        // Track only the first row by its title
+        JdbcTemplateSingleton.registerTaskTitle("Test Task Registered");
+        JdbcTemplateSingleton.cleanupTrackedTestData();
+
+        int count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task WHERE id = ?", Integer.class, uiTaskId);
+        Assertions.assertEquals(count, 0, "The registered task should be cleaned up.");
+        count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task WHERE id = ?", Integer.class, otherTaskId);
+        Assertions.assertEquals(count, 1, "A task that only shares the title prefix should be kept.");
+        logger.info("Registered title cleanup verified");
+
+        // Track the remaining row so that it is removed on teardown
+        TestDataRegistry.current().trackTaskId(otherTaskId);
+    }
+
+    /**
+     * Test to verify that statements executed through the JdbcTemplate are recorded in the database statistics.
+     * 
+     * <p>Scenario: Insert a task and read it back through the JdbcTemplate.</p>
+     * <p>Expected Result: The summary table should contain the insert statement with one written row.</p>
+     */
+    @Test
+    public void testStatementsAreRecordedInDatabaseStatistics() {
+        long id = JdbcTemplateSingleton.insertTaskData("Test Task Metrics", "Test Description Metrics", "2024-07-17", false);
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task WHERE id = ?", Integer.class, id);
+
+        Assertions.assertFalse(JdbcMetrics.isEmpty(), "Database statistics should be recorded.");
+        String[][] table = JdbcMetrics.getSummaryTable();
+        boolean insertRecorded = false;
+        for (String[] row : table) {
+            if (row[0].startsWith("INSERT INTO task") && Long.parseLong(row[2]) >= 1) {
+                insertRecorded = true;
+            }
+        }
+        Assertions.assertTrue(insertRecorded, "The insert statement should be recorded with its written rows.");
+        logger.info("Database statistics verified");
+    }
+
+    /**
+     * Test to verify that the persistence verifier observes the expected row state and gives up at the deadline.
+     * 
+     * <p>Scenario: Insert a task, wait for it in its inserted state and then for a state it never reaches.</p>
+     * <p>Expected Result: The first wait should return the row with its propagation latency,
+     * and the second wait should return null once the deadline has passed.</p>
+     */
+    @Test
+    public void testPersistenceVerifierObservesRowState() {
+        long writeStart = System.nanoTime();
+        long id = JdbcTemplateSingleton.insertTaskData("Test Task Persisted", "Test Description Persisted", "2024-07-17", false);
+
+        TaskPersistenceVerifier.Observation observation = TaskPersistenceVerifier.awaitTask("Test Task Persisted",
+                row -> "2024-07-17".equals(row.dueDate()) && !row.completed(), writeStart, Duration.ofSeconds(5));
+        Assertions.assertNotNull(observation, "The inserted task should be observed.");
+        Assertions.assertEquals(id, observation.row().id(), "The observed task should be the inserted one.");
+        Assertions.assertTrue(observation.propagationNanos() > 0, "The propagation latency should be measured.");
+
+        observation = TaskPersistenceVerifier.awaitTask("Test Task Persisted", row -> row.completed(), System.nanoTime(), Duration.ofMillis(200));
+        Assertions.assertNull(observation, "A state that is never reached should not be observed.");
+        logger.info("Persistence verifier verified");
+    }
 }
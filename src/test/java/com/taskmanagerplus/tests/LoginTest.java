@@ -9,7 +9,7 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import com.taskmanagerplus.pages.InitialPage;
 import com.taskmanagerplus.pages.LoginPage;
 import com.taskmanagerplus.pages.DashboardPage;
-import com.taskmanagerplus.reports.ExtentReportManager;
+import com.taskmanagerplus.reports.ReportingEventBus;
 import com.taskmanagerplus.utils.ExcelUtils;
 import com.aventstack.extentreports.Status;
 import com.taskmanagerplus.config.ConfigReader;
@@ -48,24 +48,24 @@ public class LoginTest extends BaseTest {
 
     @BeforeAll
     public static void setUpClass() {
-        // Initialize ExcelUtils with the path to the LoginCredentials.xlsx file
-        excelUtils = new ExcelUtils("testdata/LoginCredentials.xlsx");
+        // Get the shared ExcelUtils for the LoginCredentials.xlsx file, parsed once per JVM
+        excelUtils = ExcelUtils.shared("testdata/LoginCredentials.xlsx");
         System.out.println("ExcelUtils initialized with file: testdata/LoginCredentials.xlsx");
     }
     
     
     private LoginPage navigateToLoginPage() {
-        ExtentReportManager.getTest().log(Status.INFO, "Navigating to the initial page");
+        ReportingEventBus.log(Status.INFO, "Navigating to the initial page");
         driver.get(ConfigReader.getProperty("urlPublicHome"));
 
         InitialPage initialPage = new InitialPage(driver);
-        ExtentReportManager.getTest().log(Status.INFO, "Initial page loaded successfully");
+        ReportingEventBus.log(Status.INFO, "Initial page loaded successfully");
 
-        ExtentReportManager.getTest().log(Status.INFO, "Clicking the login link");
+        ReportingEventBus.log(Status.INFO, "Clicking the login link");
         initialPage.clickLogin();
 
         LoginPage loginPage = new LoginPage(driver);
-        ExtentReportManager.getTest().log(Status.INFO, "Login page loaded successfully");
+        ReportingEventBus.log(Status.INFO, "Login page loaded successfully");
         
         return loginPage;
     }
@@ -95,31 +95,31 @@ public class LoginTest extends BaseTest {
         String username = excelUtils.getCellDataByColumnName("LoginCredentials", 1, "Username");
         String password = excelUtils.getCellDataByColumnName("LoginCredentials", 1, "Password");
 
-        ExtentReportManager.getTest().log(Status.INFO, "Entering login credentials");
+        ReportingEventBus.log(Status.INFO, "Entering login credentials");
         loginPage.enterLogin(username);
         loginPage.enterPassword(password);
 
-        ExtentReportManager.getTest().log(Status.INFO, "Clicking the login button");
+        ReportingEventBus.log(Status.INFO, "Clicking the login button");
         loginPage.clickLoginButton();
 
         // Explicit wait to ensure the URL has changed to the expected one
         WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        ExtentReportManager.getTest().log(Status.INFO, "Waiting for URL to change to the application page");
+        ReportingEventBus.log(Status.INFO, "Waiting for URL to change to the application page");
         wait.until(ExpectedConditions.urlToBe(ConfigReader.getProperty("urlApplicationHome")));
 
         // Getting the expected URL from the config file
         String expectedUrl = ConfigReader.getProperty("urlApplicationHome");
         String actualUrl = driver.getCurrentUrl();
 
-        ExtentReportManager.getTest().log(Status.INFO, "Verifying the login was successful");
+        ReportingEventBus.log(Status.INFO, "Verifying the login was successful");
         Assertions.assertEquals(expectedUrl, actualUrl, "The login was not successful.");
 
         // Additional check: Verify if the specific elements unique to the dashboard are present
         DashboardPage dashboardPage = new DashboardPage(driver);
-        ExtentReportManager.getTest().log(Status.INFO, "Verifying presence of user link on the dashboard");
+        ReportingEventBus.log(Status.INFO, "Verifying presence of user link on the dashboard");
         Assertions.assertTrue(dashboardPage.isUserLinkPresent(), "The user link on the dashboard was not found.");
 
-        ExtentReportManager.getTest().log(Status.INFO, "Verifying presence of logout button on the dashboard");
+        ReportingEventBus.log(Status.INFO, "Verifying presence of logout button on the dashboard");
         Assertions.assertTrue(dashboardPage.isLogoutButtonPresent(), "The logout button on the dashboard was not found.");
     }
     
@@ -143,20 +143,20 @@ public class LoginTest extends BaseTest {
     	LoginPage loginPage = navigateToLoginPage();
 
         // Enter invalid credentials
-        ExtentReportManager.getTest().log(Status.INFO, "Entering invalid login credentials");
+        ReportingEventBus.log(Status.INFO, "Entering invalid login credentials");
         loginPage.enterLogin("invalidUser");
         loginPage.enterPassword("invalidPass");
 
-        ExtentReportManager.getTest().log(Status.INFO, "Clicking the login button");
+        ReportingEventBus.log(Status.INFO, "Clicking the login button");
         loginPage.clickLoginButton();
 
         // Explicit wait to ensure the error message is displayed
         WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        ExtentReportManager.getTest().log(Status.INFO, "Waiting for error message to be visible");
+        ReportingEventBus.log(Status.INFO, "Waiting for error message to be visible");
         wait.until(ExpectedConditions.visibilityOf(loginPage.getErrorMessage()));
 
         // Verify the error message is displayed
-        ExtentReportManager.getTest().log(Status.INFO, "Verifying error message is displayed");
+        ReportingEventBus.log(Status.INFO, "Verifying error message is displayed");
         Assertions.assertTrue(loginPage.isErrorMessageDisplayed(), "The error message was not displayed for invalid credentials.");
     }
     
@@ -184,26 +184,26 @@ public class LoginTest extends BaseTest {
         String longPassword = "b".repeat(33);
 
         // Enter long strings in login and password fields
-        ExtentReportManager.getTest().log(Status.INFO, "Entering long login and password strings");
+        ReportingEventBus.log(Status.INFO, "Entering long login and password strings");
         loginPage.enterLogin(longLogin);
         loginPage.enterPassword(longPassword);
 
         // Verify the login button is disabled
-        ExtentReportManager.getTest().log(Status.INFO, "Verifying the login button is disabled");
+        ReportingEventBus.log(Status.INFO, "Verifying the login button is disabled");
         Assertions.assertFalse(loginPage.isLoginButtonEnabled(), "The login button should be disabled for invalid credentials.");
 
 
         // Explicit wait to ensure the error messages are displayed
         WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        ExtentReportManager.getTest().log(Status.INFO, "Waiting for error messages to be visible");
+        ReportingEventBus.log(Status.INFO, "Waiting for error messages to be visible");
         wait.until(ExpectedConditions.visibilityOf(loginPage.getLoginErrorMessage()));
         wait.until(ExpectedConditions.visibilityOf(loginPage.getPasswordErrorMessage()));
 
         // Verify the error messages are displayed
-        ExtentReportManager.getTest().log(Status.INFO, "Verifying login error message is displayed");
+        ReportingEventBus.log(Status.INFO, "Verifying login error message is displayed");
         Assertions.assertTrue(loginPage.isLoginErrorMessageDisplayed(), "The login error message was not displayed.");
 
-        ExtentReportManager.getTest().log(Status.INFO, "Verifying password error message is displayed");
+        ReportingEventBus.log(Status.INFO, "Verifying password error message is displayed");
         Assertions.assertTrue(loginPage.isPasswordErrorMessageDisplayed(), "The password error message was not displayed.");
     }
     
@@ -229,25 +229,25 @@ public class LoginTest extends BaseTest {
         String shortLogin = "1";
         String shortPassword = ".";
 
-        ExtentReportManager.getTest().log(Status.INFO, "Entering short login and password");
+        ReportingEventBus.log(Status.INFO, "Entering short login and password");
         loginPage.enterLogin(shortLogin);
         loginPage.enterPassword(shortPassword);
 
         // Verify the login button is disabled
-        ExtentReportManager.getTest().log(Status.INFO, "Verifying the login button is disabled");
+        ReportingEventBus.log(Status.INFO, "Verifying the login button is disabled");
         Assertions.assertFalse(loginPage.isLoginButtonEnabled(), "The login button should be disabled for short credentials.");
 
         // Explicit wait to ensure the error messages are displayed
         WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        ExtentReportManager.getTest().log(Status.INFO, "Waiting for error messages to be visible");
+        ReportingEventBus.log(Status.INFO, "Waiting for error messages to be visible");
         wait.until(ExpectedConditions.visibilityOf(loginPage.getLoginErrorMessage()));
         wait.until(ExpectedConditions.visibilityOf(loginPage.getPasswordErrorMessage()));
 
         // Verify the error messages are displayed
-        ExtentReportManager.getTest().log(Status.INFO, "Verifying login error message is displayed");
+        ReportingEventBus.log(Status.INFO, "Verifying login error message is displayed");
         Assertions.assertTrue(loginPage.isLoginErrorMessageDisplayed(), "The login error message was not displayed.");
 
-        ExtentReportManager.getTest().log(Status.INFO, "Verifying password error message is displayed");
+        ReportingEventBus.log(Status.INFO, "Verifying password error message is displayed");
         Assertions.assertTrue(loginPage.isPasswordErrorMessageDisplayed(), "The password error message was not displayed.");
     }
     
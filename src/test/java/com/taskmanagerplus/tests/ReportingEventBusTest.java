@@ -0,0 +1,126 @@
+package com.taskmanagerplus.tests;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.aventstack.extentreports.Status;
+import com.taskmanagerplus.reports.ReportEvent;
+import com.taskmanagerplus.reports.ReportSink;
+import com.taskmanagerplus.reports.ReportingEventBus;
+
+/**
+ * Test class for verifying the reporting event bus in the Task Manager Plus application.
+ *
+ * <p>This class registers recording sinks with different overflow policies and verifies that
+ * events are delivered in order on the sinks' own threads, and that a full queue drops events
+ * only when its policy allows it.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class ReportingEventBusTest {
+
+    /**
+     * Sink recording the messages it receives, optionally waiting for a latch before each one.
+     */
+    private static final class RecordingSink implements ReportSink<String> {
+
+        private final String name;
+        private final CountDownLatch gate;
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+
+        RecordingSink(String name, CountDownLatch gate) {
+            this.name = name;
+            this.gate = gate;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String capture(ReportEvent event) {
+            return Thread.currentThread().getName();
+        }
+
+        @Override
+        public void accept(ReportEvent event, String publisher) {
+            try {
+                gate.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(event.message());
+            threads.add(Thread.currentThread().getName());
+        }
+    }
+
+    /**
+     * Test to verify that every event reaches a blocking sink, in order and off the test thread.
+     *
+     * <p>Scenario: Publish more steps, messages and attachments than the sink's queue holds, then flush.</p>
+     * <p>Expected Result: The sink should have received every event in order, on its own thread.</p>
+     */
+    @Test
+    public void testEventsAreDeliveredInOrder() {
+        RecordingSink sink = new RecordingSink("recording", new CountDownLatch(0));
+        ReportingEventBus.register(sink, 8, ReportingEventBus.OverflowPolicy.BLOCK);
+        try {
+            for (int i = 0; i < 100; i++) {
+                ReportingEventBus.step("Step " + i);
+                ReportingEventBus.log(Status.INFO, "Message " + i);
+            }
+            ReportingEventBus.attach("Page source", "text/html", "<html></html>".getBytes());
+            Assertions.assertTrue(ReportingEventBus.flush(), "The sinks should catch up.");
+
+            Assertions.assertEquals(201, sink.messages.size(), "Every event should be delivered.");
+            Assertions.assertEquals("Step 0", sink.messages.get(0));
+            Assertions.assertEquals("Message 99", sink.messages.get(199));
+            Assertions.assertEquals("Page source", sink.messages.get(200));
+            Assertions.assertTrue(sink.threads.stream().allMatch("report-sink-recording"::equals), "Events should be consumed on the sink's thread.");
+            Assertions.assertEquals(0, ReportingEventBus.getDroppedEvents("recording"), "A blocking sink should drop nothing.");
+        } finally {
+            ReportingEventBus.unregister(sink);
+        }
+    }
+
+    /**
+     * Test to verify that a full queue drops events according to its policy.
+     *
+     * <p>Scenario: Hold up two sinks with small queues, one dropping the newest and one the oldest
+     * events, publish more events than they hold, then release them.</p>
+     * <p>Expected Result: The dropped events should be counted, and each sink should keep the events its policy favors.</p>
+     */
+    @Test
+    public void testFullQueuesDropEvents() {
+        CountDownLatch gate = new CountDownLatch(1);
+        RecordingSink newest = new RecordingSink("drop-newest", gate);
+        RecordingSink oldest = new RecordingSink("drop-oldest", gate);
+        ReportingEventBus.register(newest, 4, ReportingEventBus.OverflowPolicy.DROP_NEWEST);
+        ReportingEventBus.register(oldest, 4, ReportingEventBus.OverflowPolicy.DROP_OLDEST);
+        try {
+            for (int i = 0; i < 50; i++) {
+                ReportingEventBus.log(Status.INFO, "Message " + i);
+            }
+            gate.countDown();
+            Assertions.assertTrue(ReportingEventBus.flush(), "The sinks should catch up.");
+
+            Assertions.assertEquals(50, newest.messages.size() + ReportingEventBus.getDroppedEvents("drop-newest"), "Every event should be delivered or dropped.");
+            Assertions.assertEquals(50, oldest.messages.size() + ReportingEventBus.getDroppedEvents("drop-oldest"), "Every event should be delivered or dropped.");
+            Assertions.assertTrue(newest.messages.size() <= 5, "Only the queued events should be delivered.");
+            Assertions.assertEquals("Message 0", newest.messages.get(0), "The oldest events should be kept.");
+            Assertions.assertEquals("Message 49", oldest.messages.get(oldest.messages.size() - 1), "The newest events should be kept.");
+        } finally {
+            ReportingEventBus.unregister(newest);
+            ReportingEventBus.unregister(oldest);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.taskmanagerplus.tests;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.taskmanagerplus.config.JdbcTemplateSingleton;
+import com.taskmanagerplus.config.TaskDataSeeder;
+import com.taskmanagerplus.config.TaskSeedSpec;
+
+/**
+ * Test class for verifying the TaskDataSeeder in the Task Manager Plus application.
+ * 
+ * <p>This class seeds a small volume of rows, so that it runs quickly against the embedded database,
+ * and verifies that the configured distribution is honored and that the rows are removed again.</p>
+ * 
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class TaskDataSeederTest {
+
+    private static JdbcTemplate jdbcTemplate;
+    private static final Logger logger = LoggerFactory.getLogger(TaskDataSeederTest.class);
+
+    private TaskDataSeeder.Result result;
+
+    @BeforeAll
+    public static void setUpClass() {
+        jdbcTemplate = JdbcTemplateSingleton.getInstance();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (result != null) {
+            TaskDataSeeder.deleteSeededRows(result.namespace());
+        }
+    }
+
+    /**
+     * Test to verify that the seeded rows follow the spec and are removed by namespace.
+     * 
+     * <p>Scenario: Seed 2,500 rows in batches of 1,000, so that the last statement is a partial batch,
+     * with due dates in a 10-day window and every row completed.</p>
+     * <p>Expected Result: All rows should be inserted within the namespace and the date window,
+     * and deleting the namespace should remove exactly those rows.</p>
+     */
+    @Test
+    public void testSeedAndDeleteSeededRows() {
+        LocalDate from = LocalDate.of(2024, 7, 1);
+        TaskSeedSpec spec = new TaskSeedSpec(2500, 1000, TaskSeedSpec.DEFAULT_VOCABULARY, 3, 1.0, from, 10, 1.0, 7L);
+
+        result = TaskDataSeeder.seed(spec);
+        Assertions.assertEquals(2500, result.rows(), "All rows should be reported as inserted.");
+        Assertions.assertTrue(result.rowsPerSecond() > 0, "The throughput should be reported.");
+
+        String pattern = result.namespace() + " %";
+        int count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task WHERE title LIKE ?", Integer.class, pattern);
+        Assertions.assertEquals(2500, count, "All rows should be in the namespace.");
+        int outsideWindow = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task WHERE title LIKE ? AND (due_date < ? OR due_date > ? OR completed = FALSE)",
+                Integer.class, pattern, from.toString(), from.plusDays(9).toString());
+        Assertions.assertEquals(0, outsideWindow, "All rows should follow the configured dates and completion.");
+        logger.info("Seeded rows verified");
+
+        Assertions.assertEquals(2500, TaskDataSeeder.deleteSeededRows(result.namespace()), "All seeded rows should be deleted.");
+        result = null;
+    }
+}
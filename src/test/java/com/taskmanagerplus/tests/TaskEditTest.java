@@ -1,5 +1,8 @@
 package com.taskmanagerplus.tests;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,11 +14,17 @@ import org.junit.jupiter.api.Test;
 
 
 import com.aventstack.extentreports.Status;
-import com.taskmanagerplus.config.JdbcTemplateSingleton;
+import com.taskmanagerplus.config.FixtureProvisioner;
+import com.taskmanagerplus.config.FixtureTemplate;
+import com.taskmanagerplus.config.ProvisionedFixtures;
+import com.taskmanagerplus.config.TaskFixture;
+import com.taskmanagerplus.config.TaskPersistenceVerifier;
+import com.taskmanagerplus.config.TestDataRegistry;
 import com.taskmanagerplus.pages.NotificationPage;
 import com.taskmanagerplus.pages.TaskRegisterPage;
 import com.taskmanagerplus.pages.TaskSearchPage;
-import com.taskmanagerplus.reports.ExtentReportManager;
+import com.taskmanagerplus.reports.ReportingEventBus;
+import com.taskmanagerplus.utils.AsyncCleanupManager;
 import com.taskmanagerplus.utils.ExcelUtils;
 
 /**
@@ -28,17 +37,19 @@ import com.taskmanagerplus.utils.ExcelUtils;
  * Date: 2024-07-17
  * Version: 1.0
  */
+@ProvisionedFixtures(TaskEditTest.Fixtures.class)
 public class TaskEditTest extends BaseTest {
 
     private TaskRegisterPage taskRegisterPage;
+    private TaskFixture taskA;
     private TaskSearchPage taskSearchPage;
     private static ExcelUtils excelUtils;
     private static final Logger logger = LoggerFactory.getLogger(TaskEditTest.class);
 
     @BeforeAll
     public static void setUpClass() {
-        // Initialize ExcelUtils with the path to the LoginCredentials.xlsx file
-        excelUtils = new ExcelUtils("testdata/LoginCredentials.xlsx");
+        // Get the shared ExcelUtils for the LoginCredentials.xlsx file, parsed once per JVM
+        excelUtils = ExcelUtils.shared("testdata/LoginCredentials.xlsx");
     }
 
     @BeforeEach
@@ -54,21 +65,24 @@ public class TaskEditTest extends BaseTest {
 
         // Navigate to the Task Search Page after login
         taskSearchPage = navigateToTaskPage();
-        ExtentReportManager.getTest().log(Status.INFO, "Navigated to Task Search Page");
+        ReportingEventBus.log(Status.INFO, "Navigated to Task Search Page");
         logger.info("Performed login and navigated to Task Search Page");
 
-        // Insert value of task 
-        insertTestData();
+        // Make sure the rows of the previous test are gone before this test edits its own
+        AsyncCleanupManager.awaitDataCleanup(getCleanupNamespace());
+
+        // Take the task inserted ahead of time in its own namespace
+        taskA = FixtureProvisioner.take(Fixtures.class).get("A");
         
         // Search for an existing task to edit
-        taskSearchPage.enterTitle("Test Task A");
+        taskSearchPage.enterTitle(taskA.title());
         taskSearchPage.clickSearchButton();
-        WebElement taskRow = taskSearchPage.waitForTaskRow("Test Task A", wait);
+        WebElement taskRow = taskSearchPage.waitForTaskRow(taskA.title(), wait);
         Assertions.assertNotNull(taskRow, "The task to edit should be present in the search results.");
 
         // Click the edit icon for the task
-        taskSearchPage.clickEditButtonForTask("Test Task A");
-        ExtentReportManager.getTest().log(Status.INFO, "Clicked on 'Edit' icon for 'Test Task A'");
+        taskSearchPage.clickEditButtonForTask(taskA.title());
+        ReportingEventBus.log(Status.INFO, "Clicked on 'Edit' icon for 'Test Task A'");
         logger.info("Clicked on 'Edit' icon for 'Test Task A'");
 
         // Initialize the TaskRegisterPage
@@ -78,19 +92,30 @@ public class TaskEditTest extends BaseTest {
     @AfterEach
     public void tearDown() {
         cleanupTestData();
-        logger.info("Test data cleaned up and browser closed");
+        logger.info("Test data cleanup and browser shutdown submitted");
     }
 
-    
-    private void insertTestData() {
-        JdbcTemplateSingleton.insertTaskData("Test Task A", "Test Description A", "2024-07-15", false);       
+
+    /**
+     * Fixture template with the task to edit.
+     */
+    public static class Fixtures implements FixtureTemplate {
+
+        @Override
+        public String getNamespacePrefix() {
+            return TEST_DATA_NAMESPACE;
+        }
+
+        @Override
+        public List<TaskFixture> create(String token) {
+            return List.of(new TaskFixture("A", TEST_DATA_NAMESPACE + " " + token + " A", "Test Description " + token + " A", "2024-07-15", false));
+        }
     }
     
     private void cleanupTestData() {
-        JdbcTemplateSingleton.cleanupTestDataTask("Test Task");
-        if (driver != null) {
-            driver.quit();
-        }
+        // Remove the tracked rows and quit the browser in the background, overlapping the next test's setup
+        AsyncCleanupManager.submitDataCleanup(getCleanupNamespace(), TestDataRegistry.detach());
+        AsyncCleanupManager.submitDriverQuit(driver);
     }
 
     /**
@@ -116,10 +141,10 @@ public class TaskEditTest extends BaseTest {
      */
     @Test
     public void editAndVerifyTask_shouldSucceed() {
-        ExtentReportManager.getTest().log(Status.INFO, "Starting test: editAndVerifyTask_shouldSucceed");
+        ReportingEventBus.log(Status.INFO, "Starting test: editAndVerifyTask_shouldSucceed");
 
-        String newTaskTitle = "Test Task A Edited";
-        String newTaskDescription = "Test Description A Edited";
+        String newTaskTitle = taskA.title() + " Edited";
+        String newTaskDescription = taskA.description() + " Edited";
         String newTaskDueDate = "2024-07-20";
 
         taskRegisterPage.enterTitle(newTaskTitle);
@@ -132,16 +157,26 @@ public class TaskEditTest extends BaseTest {
         taskRegisterPage.setCompleted(true);
 
         // Click the save button
+        long saveClicked = System.nanoTime();
         taskRegisterPage.clickSaveButton();
 
+        // Poll the database while the toast is checked, so the propagation does not include the toast wait
+        CompletableFuture<TaskPersistenceVerifier.Observation> persisted = TaskPersistenceVerifier.awaitTaskAsync(newTaskTitle,
+                row -> newTaskDescription.equals(row.description()) && newTaskDueDate.equals(row.dueDate()) && row.completed(), saveClicked, PERSISTENCE_TIMEOUT);
+
         NotificationPage notificationPage = new NotificationPage(driver);
         WebElement successMessage = notificationPage.getConfirmRemoveMessage();
         Assertions.assertNotNull(successMessage, "The success message should be displayed after task update.");
         Assertions.assertEquals(successMessage.getText().replace("×", "").trim(), "Successfully Updated", "The success message should indicate that the task was updated.");
 
-        ExtentReportManager.getTest().log(Status.PASS, "Task update test passed");
+        ReportingEventBus.log(Status.PASS, "Task update test passed");
         logger.info("Task update test passed");
 
+        // Verify the updated task in the database
+        TaskPersistenceVerifier.Observation observation = persisted.join();
+        Assertions.assertNotNull(observation, "The updated task should be persisted in the database.");
+        ReportingEventBus.log(Status.INFO, "UI-to-DB propagation: " + observation.propagationMillis() + " ms");
+
         // Navigate back to the task search page and verify the updated task
         taskSearchPage = navigateToTaskPage();
         taskSearchPage.enterTitle(newTaskTitle);
@@ -162,7 +197,7 @@ public class TaskEditTest extends BaseTest {
         Assertions.assertTrue(taskSearchPage.hasEditButton(taskRow), "The edit button should be present.");
         Assertions.assertTrue(taskSearchPage.hasDeleteButton(taskRow), "The delete button should be present.");
 
-        ExtentReportManager.getTest().log(Status.PASS, "Task verification test passed");
+        ReportingEventBus.log(Status.PASS, "Task verification test passed");
         logger.info("Task verification test passed");
     }
 }
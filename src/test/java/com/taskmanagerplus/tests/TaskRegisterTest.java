@@ -1,5 +1,7 @@
 package com.taskmanagerplus.tests;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,10 +14,13 @@ import org.junit.jupiter.api.Test;
 
 import com.aventstack.extentreports.Status;
 import com.taskmanagerplus.config.JdbcTemplateSingleton;
+import com.taskmanagerplus.config.TaskPersistenceVerifier;
+import com.taskmanagerplus.config.TestDataRegistry;
 import com.taskmanagerplus.pages.NotificationPage;
 import com.taskmanagerplus.pages.TaskRegisterPage;
 import com.taskmanagerplus.pages.TaskSearchPage;
-import com.taskmanagerplus.reports.ExtentReportManager;
+import com.taskmanagerplus.reports.ReportingEventBus;
+import com.taskmanagerplus.utils.AsyncCleanupManager;
 import com.taskmanagerplus.utils.ExcelUtils;
 
 /**
@@ -41,8 +46,8 @@ public class TaskRegisterTest extends BaseTest {
 
     @BeforeAll
     public static void setUpClass() {
-        // Initialize ExcelUtils with the path to the LoginCredentials.xlsx file
-        excelUtils = new ExcelUtils("testdata/LoginCredentials.xlsx");
+        // Get the shared ExcelUtils for the LoginCredentials.xlsx file, parsed once per JVM
+        excelUtils = ExcelUtils.shared("testdata/LoginCredentials.xlsx");
 
     }
 
@@ -59,12 +64,15 @@ public class TaskRegisterTest extends BaseTest {
 
         // Navigate to the Task Search Page after login
         taskSearchPage = navigateToTaskPage();
-        ExtentReportManager.getTest().log(Status.INFO, "Navigated to Task Search Page");
+        ReportingEventBus.log(Status.INFO, "Navigated to Task Search Page");
         logger.info("Performed login and navigated to Task Search Page");
 
+        // Make sure the rows of the previous test are gone before this test creates its own
+        AsyncCleanupManager.awaitDataCleanup(getCleanupNamespace());
+
         // Click on the "Create Record" button to navigate to the Task Register Page
         taskSearchPage.clickCreateTaskButton();
-        ExtentReportManager.getTest().log(Status.INFO, "Clicked on 'Create Record' button to navigate to Task Register Page");
+        ReportingEventBus.log(Status.INFO, "Clicked on 'Create Record' button to navigate to Task Register Page");
         logger.info("Clicked on 'Create Record' button to navigate to Task Register Page");
 
         // Initialize the TaskRegisterPage
@@ -74,14 +82,13 @@ public class TaskRegisterTest extends BaseTest {
     @AfterEach
     public void tearDown() {
         cleanupTestData();
-        logger.info("Test data cleaned up and browser closed");
+        logger.info("Test data cleanup and browser shutdown submitted");
     }
     
     private void cleanupTestData() {
-        JdbcTemplateSingleton.cleanupTestDataTask("Test Task");
-        if (driver != null) {
-            driver.quit();
-        }
+        // Remove the tracked rows and quit the browser in the background, overlapping the next test's setup
+        AsyncCleanupManager.submitDataCleanup(getCleanupNamespace(), TestDataRegistry.detach());
+        AsyncCleanupManager.submitDriverQuit(driver);
     }
 
     /**
@@ -100,7 +107,10 @@ public class TaskRegisterTest extends BaseTest {
      */
     @Test
     public void createTask_withAllFieldsFilled_shouldSucceed() {
-        ExtentReportManager.getTest().log(Status.INFO, "Starting test: createTask_withAllFieldsFilled_shouldSucceed");
+        ReportingEventBus.log(Status.INFO, "Starting test: createTask_withAllFieldsFilled_shouldSucceed");
+
+        // Track the task created through the UI so that it is removed on teardown
+        JdbcTemplateSingleton.registerTaskTitle("Test Task title create withAllFieldsFilled");
 
         taskRegisterPage.enterTitle("Test Task title create withAllFieldsFilled");
         taskRegisterPage.enterDescription("Test Task description create withAllFieldsFilled");
@@ -114,7 +124,7 @@ public class TaskRegisterTest extends BaseTest {
         Assertions.assertNotNull(successMessage, "The success message should be displayed after deletion.");
         Assertions.assertEquals(successMessage.getText().replace("×", "").trim(), "Successfully Created", "The success message should indicate that the task was created.");
         
-        ExtentReportManager.getTest().log(Status.PASS, "Task creation with all fields filled test passed");
+        ReportingEventBus.log(Status.PASS, "Task creation with all fields filled test passed");
         logger.info("Task creation with all fields filled test passed");
     }
     
@@ -134,7 +144,10 @@ public class TaskRegisterTest extends BaseTest {
      */
     @Test
     public void createTask_withMandatoryFieldsOnly_shouldSucceed() {
-        ExtentReportManager.getTest().log(Status.INFO, "Starting test: createTask_withMandatoryFieldsOnly_shouldSucceed");
+        ReportingEventBus.log(Status.INFO, "Starting test: createTask_withMandatoryFieldsOnly_shouldSucceed");
+
+        // Track the task created through the UI so that it is removed on teardown
+        JdbcTemplateSingleton.registerTaskTitle("Test Task title create withMandatoryFieldsOnly");
 
         taskRegisterPage.enterTitle("Test Task title create withMandatoryFieldsOnly");
         taskRegisterPage.enterDescription("Test Task description create withMandatoryFieldsOnly");
@@ -152,7 +165,7 @@ public class TaskRegisterTest extends BaseTest {
         Assertions.assertNotNull(successMessage, "The success message should be displayed after deletion.");
         Assertions.assertEquals(successMessage.getText().replace("×", "").trim(), "Successfully Created", "The success message should indicate that the task was created.");
 
-        ExtentReportManager.getTest().log(Status.PASS, "Task creation with mandatory fields only test passed");
+        ReportingEventBus.log(Status.PASS, "Task creation with mandatory fields only test passed");
     }
     
     /**
@@ -168,12 +181,12 @@ public class TaskRegisterTest extends BaseTest {
      */
     @Test
     public void backButton_shouldNavigateToSearchPage() {
-        ExtentReportManager.getTest().log(Status.INFO, "Starting test: backButton_shouldNavigateToSearchPage");
+        ReportingEventBus.log(Status.INFO, "Starting test: backButton_shouldNavigateToSearchPage");
 
         taskRegisterPage.clickBackButton();
 
         Assertions.assertTrue(driver.getCurrentUrl().contains("/task"), "The current URL should contain '/task/search'.");
-        ExtentReportManager.getTest().log(Status.PASS, "Back button navigation test passed");
+        ReportingEventBus.log(Status.PASS, "Back button navigation test passed");
     }
     
     
@@ -192,7 +205,7 @@ public class TaskRegisterTest extends BaseTest {
      */
     @Test
     public void completedCheckbox_shouldToggleCorrectly() {
-        ExtentReportManager.getTest().log(Status.INFO, "Starting test: completedCheckbox_shouldToggleCorrectly");
+        ReportingEventBus.log(Status.INFO, "Starting test: completedCheckbox_shouldToggleCorrectly");
 
         // Set the completed checkbox to true
         taskRegisterPage.setCompleted(true);
@@ -204,7 +217,7 @@ public class TaskRegisterTest extends BaseTest {
         // Verify that the completed checkbox is unchecked
         Assertions.assertFalse(taskRegisterPage.isCompletedChecked(), "The completed checkbox should be unchecked.");
 
-        ExtentReportManager.getTest().log(Status.PASS, "Completed checkbox toggle test passed");
+        ReportingEventBus.log(Status.PASS, "Completed checkbox toggle test passed");
     }
 
 	
@@ -234,12 +247,15 @@ public class TaskRegisterTest extends BaseTest {
      */
     @Test
     public void createAndVerifyTask_shouldSucceed() {
-        ExtentReportManager.getTest().log(Status.INFO, "Starting test: createAndVerifyTask_shouldSucceed");
+        ReportingEventBus.log(Status.INFO, "Starting test: createAndVerifyTask_shouldSucceed");
 
         String taskTitle = "Test Task Verification";
         String taskDescription = "Test Task Description Verification";
         String taskDueDate = "2024-07-17";
         
+        // Track the task created through the UI so that it is removed on teardown
+        JdbcTemplateSingleton.registerTaskTitle(taskTitle);
+
         taskRegisterPage.enterTitle(taskTitle);
         taskRegisterPage.enterDescription(taskDescription);
         taskRegisterPage.enterDueDate(taskDueDate);
@@ -249,16 +265,26 @@ public class TaskRegisterTest extends BaseTest {
         taskRegisterPage.clickTitleInput();
         
         // Click the save button
+        long saveClicked = System.nanoTime();
         taskRegisterPage.clickSaveButton();
-        
+
+        // Poll the database while the toast is checked, so the propagation does not include the toast wait
+        CompletableFuture<TaskPersistenceVerifier.Observation> persisted = TaskPersistenceVerifier.awaitTaskAsync(taskTitle,
+                row -> taskDescription.equals(row.description()) && taskDueDate.equals(row.dueDate()) && !row.completed(), saveClicked, PERSISTENCE_TIMEOUT);
+
         NotificationPage notificationPage = new NotificationPage(driver);
         WebElement successMessage = notificationPage.getConfirmRemoveMessage();
         Assertions.assertNotNull(successMessage, "The success message should be displayed after task creation.");
         Assertions.assertEquals(successMessage.getText().replace("×", "").trim(), "Successfully Created", "The success message should indicate that the task was created.");
 
-        ExtentReportManager.getTest().log(Status.PASS, "Task creation test passed");
+        ReportingEventBus.log(Status.PASS, "Task creation test passed");
         logger.info("Task creation test passed");
 
+        // Verify the created task in the database
+        TaskPersistenceVerifier.Observation observation = persisted.join();
+        Assertions.assertNotNull(observation, "The created task should be persisted in the database.");
+        ReportingEventBus.log(Status.INFO, "UI-to-DB propagation: " + observation.propagationMillis() + " ms");
+
         // Navigate back to the task search page and verify the created task
         taskSearchPage = navigateToTaskPage();
         taskSearchPage.enterTitle(taskTitle);
@@ -279,7 +305,7 @@ public class TaskRegisterTest extends BaseTest {
         Assertions.assertTrue(taskSearchPage.hasEditButton(taskRow), "The edit button should be present.");
         Assertions.assertTrue(taskSearchPage.hasDeleteButton(taskRow), "The delete button should be present.");
 
-        ExtentReportManager.getTest().log(Status.PASS, "Task verification test passed");
+        ReportingEventBus.log(Status.PASS, "Task verification test passed");
         logger.info("Task verification test passed");
     }
 
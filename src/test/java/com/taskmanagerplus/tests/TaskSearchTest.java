@@ -2,9 +2,6 @@ package com.taskmanagerplus.tests;
 
 import java.util.List;
 
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
-import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,14 +13,19 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import com.aventstack.extentreports.Status;
+import com.taskmanagerplus.config.FixtureProvisioner;
+import com.taskmanagerplus.config.FixtureSet;
+import com.taskmanagerplus.config.FixtureTemplate;
 import com.taskmanagerplus.config.JdbcTemplateSingleton;
+import com.taskmanagerplus.config.ProvisionedFixtures;
+import com.taskmanagerplus.config.TaskFixture;
+import com.taskmanagerplus.config.TestDataRegistry;
 import com.taskmanagerplus.pages.DeleteConfirmationPage;
 import com.taskmanagerplus.pages.TaskSearchPage;
-import com.taskmanagerplus.reports.ExtentReportManager;
+import com.taskmanagerplus.reports.ReportingEventBus;
+import com.taskmanagerplus.utils.AsyncCleanupManager;
 import com.taskmanagerplus.utils.ExcelUtils;
 
-import io.qameta.allure.Attachment;
-
 /**
  * Test class for the task search functionality in the Task Manager Plus application.
  * 
@@ -46,8 +48,8 @@ public class TaskSearchTest extends BaseTest {
 
     @BeforeAll
     public static void setUpClass() {
-        // Initialize ExcelUtils with the path to the LoginCredentials.xlsx file
-        excelUtils = new ExcelUtils("testdata/LoginCredentials.xlsx");
+        // Get the shared ExcelUtils for the LoginCredentials.xlsx file, parsed once per JVM
+        excelUtils = ExcelUtils.shared("testdata/LoginCredentials.xlsx");
         
     }
 
@@ -62,70 +64,78 @@ public class TaskSearchTest extends BaseTest {
         // Perform login before navigating to the Task Search Page
         performLogin(username, password);
         taskSearchPage = navigateToTaskPage();
-        ExtentReportManager.getTest().log(Status.INFO, "Navigated to Task Search Page");
+        ReportingEventBus.log(Status.INFO, "Navigated to Task Search Page");
         logger.info("Performed login and navigated to Task Search Page");
+
+        // Make sure the rows of the previous test are gone before this test inserts its own
+        AsyncCleanupManager.awaitDataCleanup(getCleanupNamespace());
     }
 
     @AfterEach
     public void tearDown() {
-        if (driver != null) {
-            saveScreenshotPNG(driver);
-            savePageSource(driver);
-        }
+        // The screenshot and page source are captured by TestListener, as its capture policy decides
         cleanupTestData();
-        logger.info("Test data cleaned up and browser closed");
+        logger.info("Test data cleanup and browser shutdown submitted");
     }
 
-    @Attachment(value = "Page screenshot", type = "image/png")
-    public byte[] saveScreenshotPNG(WebDriver driver) {
-        return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+    private void cleanupTestData() {
+        // Remove the tracked rows and quit the browser in the background, overlapping the next test's setup
+        AsyncCleanupManager.submitDataCleanup(getCleanupNamespace(), TestDataRegistry.detach());
+        AsyncCleanupManager.submitDriverQuit(driver);
     }
 
-    @Attachment(value = "Page source", type = "text/html")
-    public String savePageSource(WebDriver driver) {
-        return driver.getPageSource();
-    }
-    
-    private void cleanupTestData() {
-        JdbcTemplateSingleton.cleanupTestDataTask("Test Task");
-        if (driver != null) {
-            driver.quit();
+    /**
+     * Fixture template with thirteen tasks, A to M, enough to fill more than one page of results.
+     */
+    public static class Fixtures implements FixtureTemplate {
+
+        @Override
+        public String getNamespacePrefix() {
+            return TEST_DATA_NAMESPACE;
         }
-    }
 
-    private void insertTestData() {
-        JdbcTemplateSingleton.insertTaskData("Test Task A", "Test Description A", "2024-07-15", false);
-        JdbcTemplateSingleton.insertTaskData("Test Task B", "Test Description B", "2024-07-16", true);
-        JdbcTemplateSingleton.insertTaskData("Test Task C", "Test Description C", "2023-12-31", true);
-        JdbcTemplateSingleton.insertTaskData("Test Task D", "Test Description D", "2024-01-01", false);
-        JdbcTemplateSingleton.insertTaskData("Test Task E", "Test Description E", "2024-01-15", true);
-        JdbcTemplateSingleton.insertTaskData("Test Task F", "Test Description F", "2024-02-01", false);
-        JdbcTemplateSingleton.insertTaskData("Test Task G", "Test Description G", "2024-02-15", true);
-        JdbcTemplateSingleton.insertTaskData("Test Task H", "Test Description H", "2024-03-01", false);
-        JdbcTemplateSingleton.insertTaskData("Test Task I", "Test Description I", "2024-03-15", true);
-        JdbcTemplateSingleton.insertTaskData("Test Task J", "Test Description J", "2024-04-01", false);
-        JdbcTemplateSingleton.insertTaskData("Test Task K", "Test Description K", "2024-04-15", true);
-        JdbcTemplateSingleton.insertTaskData("Test Task L", "Test Description L", "2024-05-01", false);
-        JdbcTemplateSingleton.insertTaskData("Test Task M", "Test Description M", "2024-05-15", true);
+        @Override
+        public List<TaskFixture> create(String token) {
+            return List.of(
+                    task(token, "A", "2024-07-15", false),
+                    task(token, "B", "2024-07-16", true),
+                    task(token, "C", "2023-12-31", true),
+                    task(token, "D", "2024-01-01", false),
+                    task(token, "E", "2024-01-15", true),
+                    task(token, "F", "2024-02-01", false),
+                    task(token, "G", "2024-02-15", true),
+                    task(token, "H", "2024-03-01", false),
+                    task(token, "I", "2024-03-15", true),
+                    task(token, "J", "2024-04-01", false),
+                    task(token, "K", "2024-04-15", true),
+                    task(token, "L", "2024-05-01", false),
+                    task(token, "M", "2024-05-15", true));
+        }
+
+        private static TaskFixture task(String token, String key, String dueDate, boolean completed) {
+            return new TaskFixture(key, TEST_DATA_NAMESPACE + " " + token + " " + key, "Test Description " + token + " " + key, dueDate, completed);
+        }
     }
 
 
     @Test
+    @ProvisionedFixtures(Fixtures.class)
     public void searchTask_withValidTitleAndDescription_shouldReturnCorrectTask() {
-        insertTestData();
+        FixtureSet fixtures = FixtureProvisioner.take(Fixtures.class);
+        TaskFixture taskA = fixtures.get("A");
         
-        ExtentReportManager.getTest().log(Status.INFO, "Starting test: searchTask_withValidTitleAndDescription_shouldReturnCorrectTask");
+        ReportingEventBus.log(Status.INFO, "Starting test: searchTask_withValidTitleAndDescription_shouldReturnCorrectTask");
         logger.info("Starting test: searchTask_withValidTitleAndDescription_shouldReturnCorrectTask");
         
-        taskSearchPage.enterTitle("Test Task A");
-        taskSearchPage.enterDescription("Test Description A");
+        taskSearchPage.enterTitle(taskA.title());
+        taskSearchPage.enterDescription(taskA.description());
         taskSearchPage.clickSearchButton();
 
         // Add assertions to verify the search results
-        WebElement taskRow = taskSearchPage.waitForTaskRow("Test Task A", wait);
+        WebElement taskRow = taskSearchPage.waitForTaskRow(taskA.title(), wait);
         Assertions.assertNotNull(taskRow, "Test Task A should be present in the search results.");
 
-        ExtentReportManager.getTest().log(Status.PASS, "Task search test passed");
+        ReportingEventBus.log(Status.PASS, "Task search test passed");
         logger.info("Task search test passed");
     }
 
@@ -146,21 +156,23 @@ public class TaskSearchTest extends BaseTest {
      * All columns (Title, Description, Due Date, Completed, Actions) should be validated.</p>
      */
     @Test
+    @ProvisionedFixtures(Fixtures.class)
     public void searchTask_byTitle_shouldReturnMatchingTasks() {
-        insertTestData();
+        FixtureSet fixtures = FixtureProvisioner.take(Fixtures.class);
+        TaskFixture taskA = fixtures.get("A");
         
-        ExtentReportManager.getTest().log(Status.INFO, "Starting test: searchTask_byTitle_shouldReturnMatchingTasks");
+        ReportingEventBus.log(Status.INFO, "Starting test: searchTask_byTitle_shouldReturnMatchingTasks");
         logger.info("Starting test: searchTask_byTitle_shouldReturnMatchingTasks");
         
-        taskSearchPage.enterTitle("Test Task A");
+        taskSearchPage.enterTitle(taskA.title());
         taskSearchPage.clickSearchButton();
 
-        WebElement taskRow = taskSearchPage.waitForTaskRow("Test Task A", wait);
+        WebElement taskRow = taskSearchPage.waitForTaskRow(taskA.title(), wait);
         Assertions.assertNotNull(taskRow, "Test Task A should be present in the search results.");
         
         // Validate Description
         String description = taskSearchPage.getTaskDescription(taskRow);
-        Assertions.assertEquals(description, "Test Description A", "The description should match 'Test Description A'.");
+        Assertions.assertEquals(description, taskA.description(), "The description should match 'Test Description A'.");
 
         // Validate Due Date
         String dueDate = taskSearchPage.getTaskDueDate(taskRow);
@@ -174,7 +186,7 @@ public class TaskSearchTest extends BaseTest {
         Assertions.assertTrue(taskSearchPage.hasEditButton(taskRow), "The edit button should be present.");
         Assertions.assertTrue(taskSearchPage.hasDeleteButton(taskRow), "The delete button should be present.");
 
-        ExtentReportManager.getTest().log(Status.PASS, "Task search by title test passed");
+        ReportingEventBus.log(Status.PASS, "Task search by title test passed");
         logger.info("Task search by title test passed");
     }
 
@@ -188,21 +200,23 @@ public class TaskSearchTest extends BaseTest {
      * All columns (Title, Description, Due Date, Completed, Actions) should be validated.
      */
     @Test
+    @ProvisionedFixtures(Fixtures.class)
     public void searchTask_byDescription_shouldReturnMatchingTasks() {
-        insertTestData();
+        FixtureSet fixtures = FixtureProvisioner.take(Fixtures.class);
+        TaskFixture taskA = fixtures.get("A");
         
-        ExtentReportManager.getTest().log(Status.INFO, "Starting test: searchTask_byDescription_shouldReturnMatchingTasks");
+        ReportingEventBus.log(Status.INFO, "Starting test: searchTask_byDescription_shouldReturnMatchingTasks");
         logger.info("Starting test: searchTask_byDescription_shouldReturnMatchingTasks");
         
-        taskSearchPage.enterDescription("Test Description A");
+        taskSearchPage.enterDescription(taskA.description());
         taskSearchPage.clickSearchButton();
 
-        WebElement taskRow = taskSearchPage.waitForTaskRow("Test Task A", wait);
+        WebElement taskRow = taskSearchPage.waitForTaskRow(taskA.title(), wait);
         Assertions.assertNotNull(taskRow, "Test Task A should be present in the search results.");
         
         // Validate Title
         String title = taskSearchPage.getTaskTitle(taskRow);
-        Assertions.assertEquals(title, "Test Task A", "The title should match 'Test Task A'.");
+        Assertions.assertEquals(title, taskA.title(), "The title should match 'Test Task A'.");
 
         // Validate Due Date
         String dueDate = taskSearchPage.getTaskDueDate(taskRow);
@@ -216,7 +230,7 @@ public class TaskSearchTest extends BaseTest {
         Assertions.assertTrue(taskSearchPage.hasEditButton(taskRow), "The edit button should be present.");
         Assertions.assertTrue(taskSearchPage.hasDeleteButton(taskRow), "The delete button should be present.");
 
-        ExtentReportManager.getTest().log(Status.PASS, "Task search by description test passed");
+        ReportingEventBus.log(Status.PASS, "Task search by description test passed");
         logger.info("Task search by description test passed");
     }
 
@@ -230,12 +244,16 @@ public class TaskSearchTest extends BaseTest {
      * All columns (Title, Description, Due Date, Completed, Actions) should be validated.
      */
     @Test
+    @ProvisionedFixtures(Fixtures.class)
     public void searchTask_byDueDate_shouldReturnMatchingTasks() {
-        insertTestData();
+        FixtureSet fixtures = FixtureProvisioner.take(Fixtures.class);
+        TaskFixture taskA = fixtures.get("A");
         
-        ExtentReportManager.getTest().log(Status.INFO, "Starting test: searchTask_byDueDate_shouldReturnMatchingTasks");
+        ReportingEventBus.log(Status.INFO, "Starting test: searchTask_byDueDate_shouldReturnMatchingTasks");
         logger.info("Starting test: searchTask_byDueDate_shouldReturnMatchingTasks");
         
+        // Only the rows of this test's fixture set can match
+        taskSearchPage.enterTitle(fixtures.getNamespace());
         taskSearchPage.enterDueDate("2024-07-15");
         
         // Click on another element to trigger the form validation
@@ -243,16 +261,16 @@ public class TaskSearchTest extends BaseTest {
         
         taskSearchPage.clickSearchButton();
 
-        WebElement taskRow = taskSearchPage.waitForTaskRow("Test Task A", wait);
+        WebElement taskRow = taskSearchPage.waitForTaskRow(taskA.title(), wait);
         Assertions.assertNotNull(taskRow, "Test Task A should be present in the search results.");
         
         // Validate Title
         String title = taskSearchPage.getTaskTitle(taskRow);
-        Assertions.assertEquals(title, "Test Task A", "The title should match 'Test Task A'.");
+        Assertions.assertEquals(title, taskA.title(), "The title should match 'Test Task A'.");
 
         // Validate Description
         String description = taskSearchPage.getTaskDescription(taskRow);
-        Assertions.assertEquals(description, "Test Description A", "The description should match 'Test Description A'.");
+        Assertions.assertEquals(description, taskA.description(), "The description should match 'Test Description A'.");
 
         // Validate Completed Status
         String completed = taskSearchPage.getTaskCompletedStatus(taskRow);
@@ -262,7 +280,7 @@ public class TaskSearchTest extends BaseTest {
         Assertions.assertTrue(taskSearchPage.hasEditButton(taskRow), "The edit button should be present.");
         Assertions.assertTrue(taskSearchPage.hasDeleteButton(taskRow), "The delete button should be present.");
 
-        ExtentReportManager.getTest().log(Status.PASS, "Task search by due date test passed");
+        ReportingEventBus.log(Status.PASS, "Task search by due date test passed");
         logger.info("Task search by due date test passed");
     }
     
@@ -275,20 +293,25 @@ public class TaskSearchTest extends BaseTest {
      * All columns (Title, Description, Due Date, Completed, Actions) should be validated.
      */
     @Test
+    @ProvisionedFixtures(Fixtures.class)
     public void filterTask_byCompletedStatus_shouldReturnCompletedTasks() {
-        insertTestData();
+        FixtureSet fixtures = FixtureProvisioner.take(Fixtures.class);
         
-        ExtentReportManager.getTest().log(Status.INFO, "Starting test: filterTask_byCompletedStatus_shouldReturnCompletedTasks");
+        ReportingEventBus.log(Status.INFO, "Starting test: filterTask_byCompletedStatus_shouldReturnCompletedTasks");
         logger.info("Starting test: filterTask_byCompletedStatus_shouldReturnCompletedTasks");
         
+        // Only the rows of this test's fixture set can match
+        taskSearchPage.enterTitle(fixtures.getNamespace());
         taskSearchPage.selectCompletedCheckbox();
         taskSearchPage.clickSearchButton();
+        taskSearchPage.waitForTaskRow(fixtures.get("B").title(), wait);
 
         List<WebElement> completedTasks = taskSearchPage.getCompletedTasks();
+        Assertions.assertFalse(completedTasks.isEmpty(), "The completed tasks of the fixture set should be displayed.");
         for (WebElement task : completedTasks) {
             // Validate Title
             String title = taskSearchPage.getTaskTitle(task);
-            Assertions.assertTrue(title.startsWith("Test Task"), "The title should start with 'Test Task'.");
+            Assertions.assertTrue(title.startsWith(fixtures.getNamespace()), "The title should start with the namespace of the fixture set.");
 
             // Validate Description
             String description = taskSearchPage.getTaskDescription(task);
@@ -307,7 +330,7 @@ public class TaskSearchTest extends BaseTest {
             Assertions.assertTrue(taskSearchPage.hasDeleteButton(task), "The delete button should be present.");
         }
 
-        ExtentReportManager.getTest().log(Status.PASS, "Task filter by completed status test passed");
+        ReportingEventBus.log(Status.PASS, "Task filter by completed status test passed");
         logger.info("Task filter by completed status test passed");
     }
     
@@ -321,14 +344,14 @@ public class TaskSearchTest extends BaseTest {
      */
     @Test
     public void createTaskButton_shouldNavigateToCreateTaskPage() {
-        ExtentReportManager.getTest().log(Status.INFO, "Starting test: createTaskButton_shouldNavigateToCreateTaskPage");
+        ReportingEventBus.log(Status.INFO, "Starting test: createTaskButton_shouldNavigateToCreateTaskPage");
         logger.info("Starting test: createTaskButton_shouldNavigateToCreateTaskPage");
         
         taskSearchPage.clickCreateTaskButton();
         
         Assertions.assertTrue(driver.getCurrentUrl().contains("/task/new"), "Should navigate to the create task page.");
 
-        ExtentReportManager.getTest().log(Status.PASS, "Create new task navigation test passed");
+        ReportingEventBus.log(Status.PASS, "Create new task navigation test passed");
         logger.info("Create new task navigation test passed");
     }
     
@@ -342,7 +365,7 @@ public class TaskSearchTest extends BaseTest {
         // Insert test data
         JdbcTemplateSingleton.insertTaskData("Test Task C", "Test Description C", "2023-12-31", true);
         
-        ExtentReportManager.getTest().log(Status.INFO, "Starting test: filterTask_byTitleDescriptionAndCompletedStatus_shouldReturnCorrectTasks");
+        ReportingEventBus.log(Status.INFO, "Starting test: filterTask_byTitleDescriptionAndCompletedStatus_shouldReturnCorrectTasks");
         logger.info("Starting test: filterTask_byTitleDescriptionAndCompletedStatus_shouldReturnCorrectTasks");
 
         // Fill in the search fields
@@ -371,7 +394,7 @@ public class TaskSearchTest extends BaseTest {
         Assertions.assertTrue(taskSearchPage.hasEditButton(taskRow), "The edit button should be present.");
         Assertions.assertTrue(taskSearchPage.hasDeleteButton(taskRow), "The delete button should be present.");
 
-        ExtentReportManager.getTest().log(Status.PASS, "Task filter by title, description, and completed status test passed");
+        ReportingEventBus.log(Status.PASS, "Task filter by title, description, and completed status test passed");
         logger.info("Task filter by title, description, and completed status test passed");
     }
     
@@ -380,7 +403,7 @@ public class TaskSearchTest extends BaseTest {
      */
     @Test
     public void searchTask_withNonExistentCriteria_shouldDisplayErrorMessage() {
-        ExtentReportManager.getTest().log(Status.INFO, "Starting test: searchTask_withNonExistentCriteria_shouldDisplayErrorMessage");
+        ReportingEventBus.log(Status.INFO, "Starting test: searchTask_withNonExistentCriteria_shouldDisplayErrorMessage");
         logger.info("Starting test: searchTask_withNonExistentCriteria_shouldDisplayErrorMessage");
 
         // Fill in the search fields with non-existent criteria
@@ -393,7 +416,7 @@ public class TaskSearchTest extends BaseTest {
         Assertions.assertNotNull(errorMessage, "Error message should be displayed when no results are found.");
         Assertions.assertEquals(errorMessage.getText(), "No records found", "The error message should indicate that no results were found.");
 
-        ExtentReportManager.getTest().log(Status.PASS, "Error message validation test passed");
+        ReportingEventBus.log(Status.PASS, "Error message validation test passed");
         logger.info("Error message validation test passed");
     }
 
@@ -403,21 +426,22 @@ public class TaskSearchTest extends BaseTest {
      * This test ensures that navigating between different pages of results works correctly.
      */
     @Test
+    @ProvisionedFixtures(Fixtures.class)
     public void pagination_shouldWorkCorrectly() {
-        ExtentReportManager.getTest().log(Status.INFO, "Starting test: pagination_shouldWorkCorrectly");
+        ReportingEventBus.log(Status.INFO, "Starting test: pagination_shouldWorkCorrectly");
         logger.info("Starting test: pagination_shouldWorkCorrectly");
 
         // Insert test data
-        insertTestData();
+        FixtureSet fixtures = FixtureProvisioner.take(Fixtures.class);
         
         // Fill in the search fields with non-existent criteria
-        taskSearchPage.enterTitle("Test Task");
+        taskSearchPage.enterTitle(fixtures.getNamespace());
         taskSearchPage.clickSearchButton();
 
         // Verify the first task on the second page
         WebElement firstTaskOnSecondPage = taskSearchPage.getFirstTaskOnCurrentPage();
         Assertions.assertNotNull(firstTaskOnSecondPage, "There should be a task displayed on the second page.");
-        Assertions.assertTrue(firstTaskOnSecondPage.getText().contains("Test Task A"), "The first task on the first page should be a task from the inserted test data.");
+        Assertions.assertTrue(firstTaskOnSecondPage.getText().contains(fixtures.get("A").title()), "The first task on the first page should be a task from the inserted test data.");
 
         // Navigate to the second page
         taskSearchPage.clickPaginationNext();
@@ -425,9 +449,9 @@ public class TaskSearchTest extends BaseTest {
         // Verify the first task on the first page
         WebElement firstTaskOnFirstPage = taskSearchPage.getFirstTaskOnCurrentPage();
         Assertions.assertNotNull(firstTaskOnFirstPage, "There should be a task displayed on the first page.");
-        Assertions.assertTrue(firstTaskOnFirstPage.getText().contains("Test Task K"), "The first task on the second page should be a task from the inserted test data.");
+        Assertions.assertTrue(firstTaskOnFirstPage.getText().contains(fixtures.get("K").title()), "The first task on the second page should be a task from the inserted test data.");
 
-        ExtentReportManager.getTest().log(Status.PASS, "Pagination functionality test passed");
+        ReportingEventBus.log(Status.PASS, "Pagination functionality test passed");
         logger.info("Pagination functionality test passed");
     }
     
@@ -437,7 +461,7 @@ public class TaskSearchTest extends BaseTest {
      */
     @Test
     public void securityTest_preventSQLInjectionAndScriptInjection() {
-        ExtentReportManager.getTest().log(Status.INFO, "Starting security test: preventSQLInjectionAndScriptInjection");
+        ReportingEventBus.log(Status.INFO, "Starting security test: preventSQLInjectionAndScriptInjection");
         logger.info("Starting security test: preventSQLInjectionAndScriptInjection");
 
         // Attempt SQL injection in the title field
@@ -458,7 +482,7 @@ public class TaskSearchTest extends BaseTest {
         Assertions.assertNotNull(errorMessage, "Error message should be displayed when script injection attempt is made.");
         Assertions.assertEquals(errorMessage.getText(), "No records found", "The error message should indicate that no results were found.");
 
-        ExtentReportManager.getTest().log(Status.PASS, "Security test for SQL and script injection passed");
+        ReportingEventBus.log(Status.PASS, "Security test for SQL and script injection passed");
         logger.info("Security test for SQL and script injection passed");
     }
 
@@ -469,19 +493,21 @@ public class TaskSearchTest extends BaseTest {
      * and that the task is no longer present in the search results after deletion.
      */
     @Test
+    @ProvisionedFixtures(Fixtures.class)
     public void deleteTask_shouldRemoveTaskFromList() {
         // Insert test data
-        insertTestData();
+        FixtureSet fixtures = FixtureProvisioner.take(Fixtures.class);
+        TaskFixture taskA = fixtures.get("A");
 
-        ExtentReportManager.getTest().log(Status.INFO, "Starting test: deleteTask_shouldRemoveTaskFromList");
+        ReportingEventBus.log(Status.INFO, "Starting test: deleteTask_shouldRemoveTaskFromList");
         logger.info("Starting test: deleteTask_shouldRemoveTaskFromList");
 
         // Search for the task to ensure it exists before deletion
-        taskSearchPage.enterTitle("Test Task A");
+        taskSearchPage.enterTitle(taskA.title());
         taskSearchPage.clickSearchButton();
 
         // Get the delete button for the specific task and click it
-        WebElement deleteButton = taskSearchPage.getDeleteButtonForTask("Test Task A");
+        WebElement deleteButton = taskSearchPage.getDeleteButtonForTask(taskA.title());
         deleteButton.click();
 
         // Handle the delete confirmation dialog
@@ -494,14 +520,14 @@ public class TaskSearchTest extends BaseTest {
         Assertions.assertEquals(successMessage.getText().replace("×", "").trim(), "Successfully Removed", "The success message should indicate that the task was removed.");
 
         // Search again to ensure the task is no longer present
-        taskSearchPage.enterTitle("Test Task A");
+        taskSearchPage.enterTitle(taskA.title());
         taskSearchPage.clickSearchButton();
         
         // Verify that the No records found is displayed
         WebElement errorMessage = taskSearchPage.getErrorMessage();
         Assertions.assertEquals(errorMessage.getText(), "No records found", "Test Task A should not be present in the search results after deletion.");
 
-        ExtentReportManager.getTest().log(Status.PASS, "Task deletion test passed");
+        ReportingEventBus.log(Status.PASS, "Task deletion test passed");
         logger.info("Task deletion test passed");
     }
 
@@ -0,0 +1,98 @@
+package com.taskmanagerplus.tests;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+
+import com.taskmanagerplus.params.ExcelSource;
+import com.taskmanagerplus.utils.CsvDataProvider;
+import com.taskmanagerplus.utils.ExcelUtils;
+import com.taskmanagerplus.utils.JsonDataProvider;
+import com.taskmanagerplus.utils.TestDataProvider;
+import com.taskmanagerplus.utils.WorkbookRegistry;
+import com.taskmanagerplus.utils.XlsxDataProvider;
+
+/**
+ * Test class for verifying the test data backends in the Task Manager Plus application.
+ *
+ * <p>This class reads the same credentials from the .xlsx, CSV and JSON files of the test data
+ * directory and verifies that every format returns the same values, and that the directory is
+ * preloaded into the workbook registry.</p>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public class TestDataProviderTest {
+
+    private static final String SHEET = "LoginCredentials";
+    private static final String[] FILES = {"testdata/LoginCredentials.xlsx", "testdata/LoginCredentials.csv", "testdata/LoginCredentials.json"};
+
+    public record Credentials(String username, String password) {
+    }
+
+    /**
+     * Test to verify that the backend is chosen by file extension.
+     *
+     * <p>Scenario: Look up the backend of every supported extension and of an unsupported one.</p>
+     * <p>Expected Result: Each extension should map to its backend, and the unsupported one should be rejected.</p>
+     */
+    @Test
+    public void testProviderIsChosenByExtension() {
+        Assertions.assertInstanceOf(XlsxDataProvider.class, TestDataProvider.forFile(FILES[0]));
+        Assertions.assertInstanceOf(CsvDataProvider.class, TestDataProvider.forFile(FILES[1]));
+        Assertions.assertInstanceOf(JsonDataProvider.class, TestDataProvider.forFile("testdata/DATA.JSON"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TestDataProvider.forFile("testdata/LoginCredentials.xml"));
+    }
+
+    /**
+     * Test to verify that every format returns the same values.
+     *
+     * <p>Scenario: Read the credentials by column name and as records from each file.</p>
+     * <p>Expected Result: The values should match the .xlsx workbook, including the numeric password.</p>
+     */
+    @Test
+    public void testFormatsReturnTheSameValues() {
+        ExcelUtils xlsx = ExcelUtils.shared(FILES[0]);
+        List<Credentials> expected = xlsx.getRowsAs(SHEET, Credentials.class);
+        for (String file : FILES) {
+            ExcelUtils excelUtils = ExcelUtils.shared(file);
+            Assertions.assertEquals(expected, excelUtils.getRowsAs(SHEET, Credentials.class), "The records should match in " + file);
+            for (int row = 1; row <= expected.size(); row++) {
+                for (String column : new String[] {"Username", "Password"}) {
+                    Assertions.assertEquals(xlsx.getCellDataByColumnName(SHEET, row, column), excelUtils.getCellDataByColumnName(SHEET, row, column),
+                            "Row " + row + ", column " + column + " should match in " + file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test to verify that the test data directory is preloaded.
+     *
+     * <p>Scenario: List and preload the test data directory.</p>
+     * <p>Expected Result: Every readable file should be loaded, and the invalid workbook should be skipped.</p>
+     */
+    @Test
+    public void testDirectoryIsPreloaded() {
+        List<String> files = WorkbookRegistry.listDirectory("testdata");
+        Assertions.assertTrue(files.containsAll(List.of(FILES)), "Every supported file should be listed.");
+        Assertions.assertTrue(files.contains("testdata/TestData.xlsx"), "The invalid workbook should be listed.");
+        Assertions.assertEquals(files.size() - 1, WorkbookRegistry.preloadDirectory("testdata"), "Every readable file should be preloaded.");
+    }
+
+    /**
+     * Test to verify that parameterized tests read CSV files.
+     *
+     * <p>Scenario: Run once per row of the CSV credentials.</p>
+     * <p>Expected Result: Every invocation should receive a username and a password.</p>
+     */
+    @ParameterizedTest
+    @ExcelSource(file = "testdata/LoginCredentials.csv", sheet = SHEET, columns = {"Username", "Password"})
+    public void testExcelSourceReadsCsv(String username, String password) {
+        Assertions.assertTrue(username.contains("@"), "The username should be an email address.");
+        Assertions.assertFalse(password.isEmpty(), "The password should not be empty.");
+    }
+}
@@ -0,0 +1,86 @@
+package com.taskmanagerplus.tests;
+
+import java.lang.reflect.Proxy;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Factory of stub drivers and elements for the unit tests of the Task Manager Plus application.
+ *
+ * <p>A stub answers every command without a browser: each call is passed to an {@link Answer},
+ * which returns the result of the commands the test cares about and null for the others. The
+ * identity methods {@code hashCode}, {@code equals} and {@code toString} are answered by the stub
+ * itself, so it can be decorated and used as a map key like a real driver.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * {@code
+ * WebDriver driver = WebDriverStubs.driver((method, args) -> switch (method) {
+ *     case "getScreenshotAs" -> new byte[] {1};
+ *     default -> null;
+ * }, TakesScreenshot.class);
+ * }
+ * </pre>
+ *
+ * Author: Maicon Fang
+ * Date: 2026-10-19
+ * Version: 1.0
+ */
+public final class WebDriverStubs {
+
+    /**
+     * Answers the commands sent to a stub.
+     */
+    @FunctionalInterface
+    public interface Answer {
+
+        /**
+         * Answers a command.
+         *
+         * @param method the name of the command
+         * @param args the arguments, or null if there are none
+         * @return the result of the command, or null
+         * @throws Throwable the exception the command should throw
+         */
+        Object answer(String method, Object[] args) throws Throwable;
+    }
+
+    private WebDriverStubs() {
+        // private constructor to prevent instantiation
+    }
+
+    /**
+     * Creates a stub driver.
+     *
+     * @param answer the answers to the commands
+     * @param capabilities further interfaces the driver implements, such as {@code TakesScreenshot}
+     * @return the stub driver
+     */
+    public static WebDriver driver(Answer answer, Class<?>... capabilities) {
+        return stub(WebDriver.class, "StubDriver", answer, capabilities);
+    }
+
+    /**
+     * Creates a stub element.
+     *
+     * @param answer the answers to the commands
+     * @return the stub element
+     */
+    public static WebElement element(Answer answer) {
+        return stub(WebElement.class, "StubElement", answer);
+    }
+
+    private static <T> T stub(Class<T> type, String name, Answer answer, Class<?>... capabilities) {
+        Class<?>[] interfaces = new Class<?>[capabilities.length + 1];
+        interfaces[0] = type;
+        System.arraycopy(capabilities, 0, interfaces, 1, capabilities.length);
+        return type.cast(Proxy.newProxyInstance(WebDriverStubs.class.getClassLoader(), interfaces,
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> name;
+                    default -> answer.answer(method.getName(), args);
+                }));
+    }
+}